@@ -0,0 +1,103 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.exception.MatchNotFoundException;
+import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.impl.ScoreboardImpl;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls which fail legitimately when a feed is replayed: unknown match and team which is already playing.
+ * Throwing methods are compared with try methods, {@link #updateUnknownMatchWithStackTrace} shows
+ * the cost of the failure before exceptions became stackless.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FailurePathBenchmark {
+    private static final long UNKNOWN_MATCH_ID = Long.MAX_VALUE;
+    private static final String HOME_TEAM = "MEX";
+    private static final String AWAY_TEAM = "CAN";
+
+    private Scoreboard scoreboard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = new ScoreboardImpl();
+        scoreboard.startMatchAsLong(HOME_TEAM, AWAY_TEAM, ScoreboardBenchmarkState.FIRST_MATCH_DATE);
+    }
+
+    @Benchmark
+    public RuntimeException updateUnknownMatchWithStackTrace() {
+        try {
+            if (scoreboard.tryUpdateScore(UNKNOWN_MATCH_ID, 1, 0) == ScoreUpdateStatus.MATCH_NOT_FOUND) {
+                throw new LegacyMatchNotFoundException(UNKNOWN_MATCH_ID);
+            }
+            return null;
+        } catch (LegacyMatchNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException updateUnknownMatch() {
+        try {
+            scoreboard.updateScore(UNKNOWN_MATCH_ID, 1, 0);
+            return null;
+        } catch (MatchNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ScoreUpdateStatus tryUpdateUnknownMatch() {
+        return scoreboard.tryUpdateScore(UNKNOWN_MATCH_ID, 1, 0);
+    }
+
+    @Benchmark
+    public RuntimeException finishUnknownMatch() {
+        try {
+            scoreboard.finishMatch(UNKNOWN_MATCH_ID);
+            return null;
+        } catch (MatchNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean tryFinishUnknownMatch() {
+        return scoreboard.tryFinishMatch(UNKNOWN_MATCH_ID);
+    }
+
+    @Benchmark
+    public RuntimeException startMatchOfPlayingTeam() {
+        try {
+            scoreboard.startMatchAsLong(HOME_TEAM, AWAY_TEAM, ScoreboardBenchmarkState.FIRST_MATCH_DATE);
+            return null;
+        } catch (TeamAlreadyPlayingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public MatchStartResult tryStartMatchOfPlayingTeam() {
+        return scoreboard.tryStartMatch(HOME_TEAM, AWAY_TEAM, ScoreboardBenchmarkState.FIRST_MATCH_DATE);
+    }
+}
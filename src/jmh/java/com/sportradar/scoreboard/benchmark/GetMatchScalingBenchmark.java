@@ -0,0 +1,82 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.impl.LockMode;
+import com.sportradar.scoreboard.impl.ScoreboardConfiguration;
+import com.sportradar.scoreboard.impl.ScoreboardImpl;
+import com.sportradar.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point lookups with shared read lock and with optimistic stamped read. Run it with growing
+ * thread count, for example {@code -Pjmh.threads=1,2,4,8,16 -Pjmh.include=GetMatchScaling},
+ * shared reader count makes read lock throughput flatten while optimistic reads keep scaling.
+ * Group benchmark adds one writer per three readers, so failed validations are measured too.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetMatchScalingBenchmark {
+    private static final int LIVE_MATCHES = 100;
+
+    @Param({"READ_WRITE", "OPTIMISTIC"})
+    public LockMode lockMode;
+
+    private ScoreboardImpl scoreboard;
+    private long[] liveMatchIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final String[] countries = ScoreboardBenchmarkState.countries();
+        scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .lockMode(lockMode)
+                .build());
+        liveMatchIds = new long[LIVE_MATCHES];
+        for (int i = 0; i < LIVE_MATCHES; i++) {
+            liveMatchIds[i] = scoreboard.startMatchAsLong(countries[2 * i], countries[2 * i + 1],
+                    ScoreboardBenchmarkState.FIRST_MATCH_DATE.plusMinutes(i));
+        }
+    }
+
+    @Benchmark
+    public Match getMatch() {
+        return scoreboard.getMatch(randomLiveMatchId());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Match getMatchWhileUpdating() {
+        return scoreboard.getMatch(randomLiveMatchId());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void updateScoreWhileReading() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        scoreboard.updateScore(randomLiveMatchId(), random.nextInt(10), random.nextInt(10));
+    }
+
+    private long randomLiveMatchId() {
+        return liveMatchIds[ThreadLocalRandom.current().nextInt(LIVE_MATCHES)];
+    }
+}
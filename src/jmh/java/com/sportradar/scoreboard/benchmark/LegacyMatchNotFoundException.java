@@ -0,0 +1,11 @@
+package com.sportradar.scoreboard.benchmark;
+
+/**
+ * Exception with stack trace like {@link com.sportradar.scoreboard.exception.MatchNotFoundException} was
+ * before it became stackless. It's kept only as a baseline of {@link FailurePathBenchmark}.
+ */
+public class LegacyMatchNotFoundException extends RuntimeException {
+    public LegacyMatchNotFoundException(final long matchId) {
+        super("Match " + matchId + " not found");
+    }
+}
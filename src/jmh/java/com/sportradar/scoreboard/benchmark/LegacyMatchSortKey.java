@@ -0,0 +1,24 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.model.Match;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Sort key used before {@link com.sportradar.scoreboard.model.MatchSortKey} was packed into longs.
+ * It's kept only as a baseline of {@link MatchSortKeyBenchmark}.
+ */
+public record LegacyMatchSortKey(int totalScore, Match match) implements Comparable<LegacyMatchSortKey> {
+    public LegacyMatchSortKey {
+        Objects.requireNonNull(match, "match cannot be null");
+    }
+
+    @Override
+    public int compareTo(LegacyMatchSortKey o) {
+        return Comparator.comparing(LegacyMatchSortKey::totalScore)
+                .thenComparing((o1, o2) -> o1.match().startDate().compareTo(o2.match.startDate()))
+                .thenComparing((o1, o2) -> o2.match().hashCode() - o1.match().hashCode())
+                .reversed().compare(this, o);
+    }
+}
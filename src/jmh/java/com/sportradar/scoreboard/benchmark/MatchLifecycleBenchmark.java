@@ -0,0 +1,78 @@
+package com.sportradar.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of start and finish of the match. Every start should be followed by finish
+ * of the same match, otherwise countries are exhausted, so each benchmark does the opposite
+ * operation outside of measurement. Finished matches stay in the scoreboard, that's why
+ * history grows during the run and {@link ScoreboardBenchmarkState#finishedMatches}
+ * is an initial size of history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchLifecycleBenchmark {
+
+    @State(Scope.Thread)
+    public static class ReservedCountries {
+        private String homeTeamIsoCode;
+        private String awayTeamIsoCode;
+        private long startedMatchId;
+
+        @Setup(Level.Trial)
+        public void reserve(final ScoreboardBenchmarkState state) {
+            final String[] countryPair = state.reserveCountryPair();
+            homeTeamIsoCode = countryPair[0];
+            awayTeamIsoCode = countryPair[1];
+        }
+
+        @TearDown(Level.Invocation)
+        public void finishStartedMatch(final ScoreboardBenchmarkState state) {
+            if (startedMatchId != 0) {
+                state.scoreboard.finishMatch(startedMatchId);
+                startedMatchId = 0;
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class StartedMatch {
+        private long matchId;
+
+        @Setup(Level.Invocation)
+        public void startMatch(final ScoreboardBenchmarkState state, final ReservedCountries countries) {
+            matchId = state.scoreboard.startMatchAsLong(countries.homeTeamIsoCode, countries.awayTeamIsoCode,
+                    LocalDateTime.now());
+        }
+    }
+
+    @Benchmark
+    public long startMatch(final ScoreboardBenchmarkState state, final ReservedCountries countries) {
+        countries.startedMatchId = state.scoreboard.startMatchAsLong(countries.homeTeamIsoCode,
+                countries.awayTeamIsoCode, LocalDateTime.now());
+        return countries.startedMatchId;
+    }
+
+    @Benchmark
+    public long finishMatch(final ScoreboardBenchmarkState state, final StartedMatch startedMatch) {
+        state.scoreboard.finishMatch(startedMatch.matchId);
+        return startedMatch.matchId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+import com.sportradar.scoreboard.model.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares packed {@link MatchSortKey} with {@link LegacyMatchSortKey}: a single comparison
+ * and the remove/put pair which every score update does on the sorted matches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchSortKeyBenchmark {
+    @Param({"100"})
+    public int matches;
+
+    private Match[] runningMatches;
+    private MatchSortKey[] keys;
+    private LegacyMatchSortKey[] legacyKeys;
+    private TreeMap<MatchSortKey, Match> sortedMatches;
+    private TreeMap<LegacyMatchSortKey, Match> legacySortedMatches;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        runningMatches = new Match[matches];
+        keys = new MatchSortKey[matches];
+        legacyKeys = new LegacyMatchSortKey[matches];
+        sortedMatches = new TreeMap<>();
+        legacySortedMatches = new TreeMap<>();
+        for (int i = 0; i < matches; i++) {
+            final Match match = new Match(i + 1, new Score("Spain", random.nextInt(4)),
+                    new Score("Mexico", random.nextInt(4)),
+                    ScoreboardBenchmarkState.FIRST_MATCH_DATE.plusMinutes(random.nextInt(10)), false);
+            runningMatches[i] = match;
+            keys[i] = match.compoundSortKey();
+            legacyKeys[i] = legacyKey(match);
+            sortedMatches.put(keys[i], match);
+            legacySortedMatches.put(legacyKeys[i], match);
+        }
+    }
+
+    @Benchmark
+    public int compare() {
+        final int index = nextIndex();
+        return keys[index].compareTo(keys[(index + 1) % matches]);
+    }
+
+    @Benchmark
+    public int compareLegacy() {
+        final int index = nextIndex();
+        return legacyKeys[index].compareTo(legacyKeys[(index + 1) % matches]);
+    }
+
+    @Benchmark
+    public Match reinsert() {
+        final Match match = runningMatches[nextIndex()];
+        sortedMatches.remove(match.compoundSortKey());
+        return sortedMatches.put(match.compoundSortKey(), match);
+    }
+
+    @Benchmark
+    public Match reinsertLegacy() {
+        final Match match = runningMatches[nextIndex()];
+        legacySortedMatches.remove(legacyKey(match));
+        return legacySortedMatches.put(legacyKey(match), match);
+    }
+
+    private int nextIndex() {
+        next = next + 1 == matches ? 0 : next + 1;
+        return next;
+    }
+
+    private static LegacyMatchSortKey legacyKey(final Match match) {
+        return new LegacyMatchSortKey(match.homeTeamScore().score() + match.awayTeamScore().score(), match);
+    }
+}
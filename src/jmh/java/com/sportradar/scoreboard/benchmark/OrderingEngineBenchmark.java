@@ -0,0 +1,76 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.impl.OrderingEngine;
+import com.sportradar.scoreboard.impl.ScoreboardConfiguration;
+import com.sportradar.scoreboard.impl.ScoreboardImpl;
+import com.sportradar.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Goals and ordered reads with tree and score buckets ordering engines. Scores stay in football range,
+ * so buckets never overflow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderingEngineBenchmark {
+    private static final int MAX_TEAM_SCORE = 6;
+
+    @Param({"TREE", "SCORE_BUCKETS"})
+    public OrderingEngine orderingEngine;
+
+    @Param({"10", "100"})
+    public int liveMatches;
+
+    private ScoreboardImpl scoreboard;
+    private long[] liveMatchIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final String[] countries = ScoreboardBenchmarkState.countries();
+        scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .orderingEngine(orderingEngine)
+                .build());
+        liveMatchIds = new long[liveMatches];
+        for (int i = 0; i < liveMatches; i++) {
+            liveMatchIds[i] = scoreboard.startMatchAsLong(countries[2 * i], countries[2 * i + 1],
+                    ScoreboardBenchmarkState.FIRST_MATCH_DATE.plusMinutes(i));
+        }
+    }
+
+    @Benchmark
+    public long updateScore() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long matchId = liveMatchIds[random.nextInt(liveMatchIds.length)];
+        scoreboard.updateScore(matchId, random.nextInt(MAX_TEAM_SCORE), random.nextInt(MAX_TEAM_SCORE));
+        return matchId;
+    }
+
+    @Benchmark
+    public Collection<Match> getRunningMatchesSortedByTotalScoreAndMostRecentStarted() {
+        return scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted();
+    }
+
+    @Benchmark
+    public int getRank() {
+        return scoreboard.getRank(liveMatchIds[ThreadLocalRandom.current().nextInt(liveMatchIds.length)]);
+    }
+}
@@ -0,0 +1,54 @@
+package com.sportradar.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed workload of the display fleet and the score feed: every operation is either a read
+ * of the sorted scoreboard / single match or a score update of a random live match.
+ * Combined with thread count of the runner it shows how readers and writers affect each other.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadWriteMixBenchmark {
+    /**
+     * Percent of the reads in the workload
+     */
+    @Param({"50", "90", "99"})
+    public int readPercent;
+
+    /**
+     * Percent of the reads which fetch the whole sorted scoreboard, the rest fetch one match
+     */
+    @Param({"50"})
+    public int sortedReadPercent;
+
+    @Benchmark
+    public Object readWriteMix(final ScoreboardBenchmarkState state) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long matchId = state.randomLiveMatchId();
+        if (random.nextInt(100) < readPercent) {
+            if (random.nextInt(100) < sortedReadPercent) {
+                return state.scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted();
+            }
+            return state.scoreboard.getMatch(matchId);
+        }
+        state.scoreboard.updateScore(matchId, random.nextInt(10), random.nextInt(10));
+        return matchId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.sportradar.scoreboard.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * JMH could not parametrize thread count with {@code @Param}, so benchmarks are run
+ * once per requested thread count.
+ * Arguments: comma separated thread counts (default 1,4,8) and benchmark include regexp (default all).
+ */
+public class ScoreboardBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        final int[] threadCounts = Arrays.stream((args.length > 0 ? args[0] : "1,4,8").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        final String include = args.length > 1 ? args[1] : ".*";
+
+        for (final int threads : threadCounts) {
+            if (threads > ScoreboardBenchmarkState.MAX_BENCHMARK_THREADS) {
+                throw new IllegalArgumentException("Thread count " + threads + " is more than "
+                        + ScoreboardBenchmarkState.MAX_BENCHMARK_THREADS);
+            }
+            final Options options = new OptionsBuilder()
+                    .include(ScoreboardBenchmarkRunner.class.getPackageName() + ".*" + include)
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.impl.ReadMode;
+import com.sportradar.scoreboard.impl.ScoreboardConfiguration;
+import com.sportradar.scoreboard.impl.ScoreboardImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scoreboard shared by all benchmark threads. It is filled with finished matches first
+ * and then with running matches, so every benchmark starts from the same shape of data.
+ * Each country could play only in one running match, that's why amount of live matches is
+ * limited by half of the supported countries minus pairs reserved for benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class ScoreboardBenchmarkState {
+    public static final int MAX_BENCHMARK_THREADS = 16;
+    public static final LocalDateTime FIRST_MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15,
+            19, 30, 40);
+    private static final String[] COUNTRIES = Arrays.stream(Locale.getISOCountries())
+            .map(country -> new Locale("", country).getISO3Country())
+            .sorted()
+            .toArray(String[]::new);
+
+    @Param({"10", "50", "100"})
+    public int liveMatches;
+
+    @Param({"0", "1000", "100000"})
+    public int finishedMatches;
+
+    @Param({"LOCKED", "SNAPSHOT"})
+    public ReadMode readMode;
+
+    public Scoreboard scoreboard;
+    public long[] liveMatchIds;
+    private final AtomicInteger reservedPairs = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (2 * (liveMatches + MAX_BENCHMARK_THREADS) > COUNTRIES.length) {
+            throw new IllegalArgumentException("Only " + COUNTRIES.length + " countries are supported, "
+                    + liveMatches + " live matches is too much");
+        }
+        scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(readMode)
+                .build());
+        for (int i = 0; i < finishedMatches; i++) {
+            final int pair = i % (COUNTRIES.length / 2);
+            final long matchId = scoreboard.startMatchAsLong(COUNTRIES[2 * pair], COUNTRIES[2 * pair + 1],
+                    FIRST_MATCH_DATE.minusMinutes(finishedMatches - i));
+            scoreboard.updateScore(matchId, i % 4, i % 3);
+            scoreboard.finishMatch(matchId);
+        }
+        liveMatchIds = new long[liveMatches];
+        for (int i = 0; i < liveMatches; i++) {
+            liveMatchIds[i] = scoreboard.startMatchAsLong(COUNTRIES[2 * i], COUNTRIES[2 * i + 1],
+                    FIRST_MATCH_DATE.plusMinutes(i));
+        }
+        reservedPairs.set(liveMatches);
+    }
+
+    /**
+     * Reserve two countries which are not playing in any live match. It's used by benchmarks
+     * which start and finish their own matches.
+     * @return home and away iso codes
+     */
+    public String[] reserveCountryPair() {
+        final int pair = reservedPairs.getAndIncrement();
+        if (pair >= liveMatches + MAX_BENCHMARK_THREADS) {
+            throw new IllegalStateException("More than " + MAX_BENCHMARK_THREADS + " threads are not supported");
+        }
+        return new String[]{COUNTRIES[2 * pair], COUNTRIES[2 * pair + 1]};
+    }
+
+    /**
+     * @return iso codes of supported countries in stable order
+     */
+    public static String[] countries() {
+        return COUNTRIES.clone();
+    }
+
+    public long randomLiveMatchId() {
+        return liveMatchIds[ThreadLocalRandom.current().nextInt(liveMatchIds.length)];
+    }
+}
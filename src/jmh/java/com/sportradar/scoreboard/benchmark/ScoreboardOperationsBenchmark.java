@@ -0,0 +1,104 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the operations which don't change amount of running matches
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardOperationsBenchmark {
+    private static final int TOP_MATCHES = 10;
+    private static final int BATCH_SIZE = 100;
+
+    @Benchmark
+    public Match getMatch(final ScoreboardBenchmarkState state) {
+        return state.scoreboard.getMatch(state.randomLiveMatchId());
+    }
+
+    @Benchmark
+    public int getRank(final ScoreboardBenchmarkState state) {
+        return state.scoreboard.getRank(state.randomLiveMatchId());
+    }
+
+    @Benchmark
+    public long updateScore(final ScoreboardBenchmarkState state) {
+        final long matchId = state.randomLiveMatchId();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        state.scoreboard.updateScore(matchId, random.nextInt(10), random.nextInt(10));
+        return matchId;
+    }
+
+    /**
+     * Replayed update based on outdated version, compare with {@link #updateScore}
+     */
+    @Benchmark
+    public boolean compareAndUpdateStaleScore(final ScoreboardBenchmarkState state) {
+        return state.scoreboard.compareAndUpdateScore(state.randomLiveMatchId(), -1, 1, 1);
+    }
+
+    /**
+     * Compare with {@link #updateScore}, the goal is counted without lock and applied by the same thread
+     * when write lock is free
+     */
+    @Benchmark
+    public long incrementHomeScore(final ScoreboardBenchmarkState state) {
+        final long matchId = state.randomLiveMatchId();
+        state.scoreboard.incrementHomeScore(matchId);
+        return matchId;
+    }
+
+    @Benchmark
+    public Collection<Match> getRunningMatchesSortedByTotalScoreAndMostRecentStarted(
+            final ScoreboardBenchmarkState state) {
+        return state.scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted();
+    }
+
+    /**
+     * Updates of the whole batch, divide by {@link #BATCH_SIZE} to compare with {@link #updateScore}
+     */
+    @Benchmark
+    public List<ScoreUpdateResult> applyUpdates(final ScoreboardBenchmarkState state) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<ScoreUpdate> updates = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            updates.add(new ScoreUpdate(state.randomLiveMatchId(), random.nextInt(10), random.nextInt(10)));
+        }
+        return state.scoreboard.applyUpdates(updates);
+    }
+
+    @Benchmark
+    public List<Match> getTopRunningMatches(final ScoreboardBenchmarkState state) {
+        return state.scoreboard.getTopRunningMatches(TOP_MATCHES);
+    }
+
+    @Benchmark
+    public ByteBuffer getRunningMatchesEncoded(final ScoreboardBenchmarkState state) {
+        return state.scoreboard.getRunningMatchesEncoded();
+    }
+
+    @Benchmark
+    public String getRunningMatchesRenderedAsJson(final ScoreboardBenchmarkState state) {
+        return state.scoreboard.getRunningMatchesRendered(ScoreboardFormatter.JSON);
+    }
+}
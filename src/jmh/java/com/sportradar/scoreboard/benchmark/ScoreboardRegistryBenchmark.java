@@ -0,0 +1,92 @@
+package com.sportradar.scoreboard.benchmark;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.impl.ScoreboardRegistry;
+import com.sportradar.scoreboard.model.CompetitionMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Score updates spread over competitions of the registry. Every thread writes to competition
+ * picked by its index, so with one competition all threads share one lock and with as many
+ * competitions as threads they don't contend at all.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardRegistryBenchmark {
+    private static final int LIVE_MATCHES_PER_COMPETITION = 50;
+    private static final int TOP_MATCHES = 10;
+
+    @State(Scope.Benchmark)
+    public static class Registry {
+        @Param({"1", "8"})
+        public int competitions;
+
+        private ScoreboardRegistry registry;
+        private long[][] liveMatchIds;
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final String[] countries = ScoreboardBenchmarkState.countries();
+            registry = new ScoreboardRegistry();
+            liveMatchIds = new long[competitions][LIVE_MATCHES_PER_COMPETITION];
+            for (int competition = 0; competition < competitions; competition++) {
+                final Scoreboard scoreboard = registry.partition("competition-" + competition);
+                for (int i = 0; i < LIVE_MATCHES_PER_COMPETITION; i++) {
+                    liveMatchIds[competition][i] = scoreboard.startMatchAsLong(countries[2 * i],
+                            countries[2 * i + 1], ScoreboardBenchmarkState.FIRST_MATCH_DATE.plusMinutes(i));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            registry.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Competition {
+        private Scoreboard scoreboard;
+        private long[] liveMatchIds;
+
+        @Setup(Level.Trial)
+        public void setUp(final Registry registry) {
+            final int competition = registry.threadCounter.getAndIncrement() % registry.competitions;
+            scoreboard = registry.registry.partition("competition-" + competition);
+            liveMatchIds = registry.liveMatchIds[competition];
+        }
+    }
+
+    @Benchmark
+    public void updateScore(final Competition competition) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        competition.scoreboard.updateScore(competition.liveMatchIds[random.nextInt(competition.liveMatchIds.length)],
+                random.nextInt(10), random.nextInt(10));
+    }
+
+    @Benchmark
+    public List<CompetitionMatch> getGlobalTopRunningMatches(final Registry registry) {
+        return registry.registry.getTopRunningMatches(TOP_MATCHES);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportradar.scoreboard.load;
+
+/**
+ * Spreads operations of one thread evenly in time. Operations missed while the thread was behind
+ * are caught up by at most one extra operation, so pauses don't end with a burst.
+ * Not thread safe.
+ */
+final class RatePacer {
+    private final long intervalNanos;
+    private long nextNanos;
+
+    /**
+     * @param perSecond operations per second, 0 means no limit
+     */
+    RatePacer(final double perSecond, final long startNanos) {
+        this.intervalNanos = perSecond > 0 ? Math.max(1, (long) (1_000_000_000d / perSecond)) : 0;
+        this.nextNanos = startNanos + intervalNanos;
+    }
+
+    /**
+     * Take the next operation slot if it's due
+     * @return 0 if operation could be run now, otherwise nanos until it's due
+     */
+    long acquire(final long nowNanos) {
+        if (nowNanos < nextNanos) {
+            return nextNanos - nowNanos;
+        }
+        nextNanos = Math.max(nextNanos + intervalNanos, nowNanos - intervalNanos);
+        return 0;
+    }
+}
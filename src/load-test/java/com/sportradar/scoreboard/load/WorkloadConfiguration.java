@@ -0,0 +1,145 @@
+package com.sportradar.scoreboard.load;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Shape of the load generated by {@link WorkloadDriver}. Every live match is owned by one writer,
+ * which updates its score and restarts it, so the scoreboard always has the same amount of live matches
+ * and expected score of every match is known to the invariant checks.
+ * @param target scoreboard implementation under load
+ * @param liveMatches amount of running matches, limited by half of the supported countries
+ * @param churnPerSecond finished and restarted matches per second of all writers, 0 disables churn
+ * @param updatesPerSecond score updates per second of all writers, 0 means as fast as writers could
+ * @param writers amount of threads updating, finishing and starting matches
+ * @param readers amount of threads reading matches
+ * @param readWriteRatio reads per write readers keep to, 0 means readers read as fast as they could
+ * @param duration how long the load is generated
+ * @param checkInterval how often writers are paused to check consistency of the scoreboard
+ */
+public record WorkloadConfiguration(WorkloadTarget target, int liveMatches, double churnPerSecond,
+                                    double updatesPerSecond, int writers, int readers, double readWriteRatio,
+                                    Duration duration, Duration checkInterval) {
+    private static final String PROPERTY_PREFIX = "load.";
+
+    public WorkloadConfiguration {
+        Objects.requireNonNull(target, "target cannot be null");
+        Objects.requireNonNull(duration, "duration cannot be null");
+        Objects.requireNonNull(checkInterval, "checkInterval cannot be null");
+        if (liveMatches <= 0 || liveMatches > WorkloadDriver.maxLiveMatches()) {
+            throw new IllegalArgumentException("liveMatches must be between 1 and " + WorkloadDriver.maxLiveMatches());
+        }
+        if (churnPerSecond < 0 || updatesPerSecond < 0 || readWriteRatio < 0) {
+            throw new IllegalArgumentException("Rates cannot be negative");
+        }
+        if (writers <= 0 || writers > liveMatches) {
+            throw new IllegalArgumentException("writers must be between 1 and liveMatches");
+        }
+        if (readers < 0) {
+            throw new IllegalArgumentException("readers cannot be negative");
+        }
+        if (duration.isNegative() || duration.isZero() || checkInterval.isNegative() || checkInterval.isZero()) {
+            throw new IllegalArgumentException("duration and checkInterval must be positive");
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Read options from system properties with {@code load.} prefix and names of the builder methods,
+     * e.g. {@code -Dload.readers=8 -Dload.duration=PT1M}, missing properties keep builder defaults
+     */
+    public static WorkloadConfiguration fromSystemProperties() {
+        final Builder builder = builder();
+        final String target = System.getProperty(PROPERTY_PREFIX + "target");
+        if (target != null) {
+            builder.target(WorkloadTarget.valueOf(target));
+        }
+        builder.liveMatches(Integer.getInteger(PROPERTY_PREFIX + "liveMatches", builder.liveMatches));
+        builder.churnPerSecond(doubleProperty("churnPerSecond", builder.churnPerSecond));
+        builder.updatesPerSecond(doubleProperty("updatesPerSecond", builder.updatesPerSecond));
+        builder.writers(Integer.getInteger(PROPERTY_PREFIX + "writers", builder.writers));
+        builder.readers(Integer.getInteger(PROPERTY_PREFIX + "readers", builder.readers));
+        builder.readWriteRatio(doubleProperty("readWriteRatio", builder.readWriteRatio));
+        builder.duration(durationProperty("duration", builder.duration));
+        builder.checkInterval(durationProperty("checkInterval", builder.checkInterval));
+        return builder.build();
+    }
+
+    private static double doubleProperty(final String name, final double defaultValue) {
+        final String value = System.getProperty(PROPERTY_PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static Duration durationProperty(final String name, final Duration defaultValue) {
+        final String value = System.getProperty(PROPERTY_PREFIX + name);
+        return value == null ? defaultValue : Duration.parse(value);
+    }
+
+    public static final class Builder {
+        private WorkloadTarget target = WorkloadTarget.LOCKED;
+        private int liveMatches = 50;
+        private double churnPerSecond = 100;
+        private double updatesPerSecond;
+        private int writers = 2;
+        private int readers = 4;
+        private double readWriteRatio;
+        private Duration duration = Duration.ofSeconds(30);
+        private Duration checkInterval = Duration.ofMillis(500);
+
+        private Builder() {
+        }
+
+        public Builder target(final WorkloadTarget target) {
+            this.target = target;
+            return this;
+        }
+
+        public Builder liveMatches(final int liveMatches) {
+            this.liveMatches = liveMatches;
+            return this;
+        }
+
+        public Builder churnPerSecond(final double churnPerSecond) {
+            this.churnPerSecond = churnPerSecond;
+            return this;
+        }
+
+        public Builder updatesPerSecond(final double updatesPerSecond) {
+            this.updatesPerSecond = updatesPerSecond;
+            return this;
+        }
+
+        public Builder writers(final int writers) {
+            this.writers = writers;
+            return this;
+        }
+
+        public Builder readers(final int readers) {
+            this.readers = readers;
+            return this;
+        }
+
+        public Builder readWriteRatio(final double readWriteRatio) {
+            this.readWriteRatio = readWriteRatio;
+            return this;
+        }
+
+        public Builder duration(final Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder checkInterval(final Duration checkInterval) {
+            this.checkInterval = checkInterval;
+            return this;
+        }
+
+        public WorkloadConfiguration build() {
+            return new WorkloadConfiguration(target, liveMatches, churnPerSecond, updatesPerSecond, writers, readers,
+                    readWriteRatio, duration, checkInterval);
+        }
+    }
+}
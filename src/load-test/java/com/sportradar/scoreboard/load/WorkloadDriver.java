@@ -0,0 +1,374 @@
+package com.sportradar.scoreboard.load;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.impl.RunningMatchesCodec;
+import com.sportradar.scoreboard.metrics.MeteredScoreboard;
+import com.sportradar.scoreboard.metrics.ScoreboardMetrics;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates configured load against the scoreboard and checks its consistency during the run.
+ * Writers own disjoint sets of live matches: they update scores and finish and restart matches with
+ * the same countries, readers call every read operation. Readers check every returned list of running
+ * matches while writers run: only matches being restarted during the read could be missing, it's sorted
+ * and no country plays twice. Every check interval writers are paused between operations and running matches are
+ * compared with matches by id, expected scores, the first page and the encoded form.
+ * Usage: gradle loadRun -Pload.target=OPTIMISTIC -Pload.readers=8 -Pload.duration=PT1M
+ */
+public class WorkloadDriver {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadDriver.class);
+
+    private static final LocalDateTime FIRST_MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+    private static final String[] COUNTRIES = Arrays.stream(Locale.getISOCountries())
+            .map(country -> new Locale("", country).getISO3Country())
+            .sorted()
+            .toArray(String[]::new);
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_VIOLATIONS = 100;
+    private static final long PAUSE_POLL_NANOS = 10_000;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private final WorkloadConfiguration configuration;
+    private final ScoreboardMetrics metrics = new ScoreboardMetrics();
+    private final Scoreboard target;
+    private final Scoreboard scoreboard;
+    /**
+     * Id of the match playing in the slot, slot is owned by writer {@code slot % writers}
+     */
+    private final AtomicLongArray matchIds;
+    /**
+     * Scores are written only by the owner of the slot and read by the checker while writers are paused
+     */
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final AtomicLong restartedMatches = new AtomicLong();
+    /**
+     * Restarts begun before finish and completed after start, their difference is amount of missing matches
+     */
+    private final AtomicLong begunRestarts = new AtomicLong();
+    private final AtomicLong completedRestarts = new AtomicLong();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder readChecks = new LongAdder();
+    private final List<String> violations = new ArrayList<>();
+    private final AtomicInteger activeWriters = new AtomicInteger();
+    private final AtomicInteger pausedWriters = new AtomicInteger();
+    private volatile boolean paused;
+    private int invariantChecks;
+
+    public WorkloadDriver(final WorkloadConfiguration configuration) {
+        this.configuration = configuration;
+        this.target = configuration.target().create(metrics);
+        this.scoreboard = new MeteredScoreboard(target, metrics);
+        this.matchIds = new AtomicLongArray(configuration.liveMatches());
+        this.homeScores = new int[configuration.liveMatches()];
+        this.awayScores = new int[configuration.liveMatches()];
+    }
+
+    public static void main(String[] args) {
+        final WorkloadReport report = new WorkloadDriver(WorkloadConfiguration.fromSystemProperties()).run();
+        logger.info("Workload finished\n{}", report.format());
+        report.violations().forEach(violation -> logger.error("Invariant violated: {}", violation));
+        if (!report.violations().isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    static int maxLiveMatches() {
+        return COUNTRIES.length / 2;
+    }
+
+    /**
+     * Start live matches, generate load for configured duration and close the scoreboard
+     */
+    public WorkloadReport run() {
+        try {
+            for (int slot = 0; slot < matchIds.length(); slot++) {
+                matchIds.set(slot, target.startMatchAsLong(homeCountry(slot), awayCountry(slot),
+                        FIRST_MATCH_DATE.plusSeconds(slot)));
+            }
+            return generateLoad();
+        } finally {
+            if (target instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Scoreboard isn't closed", e);
+                }
+            }
+        }
+    }
+
+    private WorkloadReport generateLoad() {
+        final long startNanos = System.nanoTime();
+        final long deadlineNanos = startNanos + configuration.duration().toNanos();
+        final List<Thread> threads = new ArrayList<>();
+        activeWriters.set(configuration.writers());
+        for (int writer = 0; writer < configuration.writers(); writer++) {
+            final int owner = writer;
+            threads.add(new Thread(() -> runWriter(owner, startNanos, deadlineNanos), "load-writer-" + writer));
+        }
+        for (int reader = 0; reader < configuration.readers(); reader++) {
+            threads.add(new Thread(() -> runReader(deadlineNanos), "load-reader-" + reader));
+        }
+        threads.forEach(Thread::start);
+
+        final long checkIntervalNanos = configuration.checkInterval().toNanos();
+        long nextCheckNanos = startNanos + checkIntervalNanos;
+        while (activeWriters.get() > 0) {
+            final long waitNanos = Math.min(nextCheckNanos, deadlineNanos) - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+                continue;
+            }
+            if (System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+            pauseWriters();
+            try {
+                checkInvariants();
+            } finally {
+                resumeWriters();
+            }
+            nextCheckNanos += checkIntervalNanos;
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Workload is interrupted", e);
+            }
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        checkInvariants();
+        synchronized (violations) {
+            return new WorkloadReport(configuration, elapsed, metrics.snapshot(), invariantChecks,
+                    readChecks.sum(), List.copyOf(violations));
+        }
+    }
+
+    private void runWriter(final int writer, final long startNanos, final long deadlineNanos) {
+        final int writers = configuration.writers();
+        final int ownedSlots = (matchIds.length() - writer + writers - 1) / writers;
+        final RatePacer updatePacer = new RatePacer(configuration.updatesPerSecond() / writers, startNanos);
+        final RatePacer churnPacer = configuration.churnPerSecond() > 0
+                ? new RatePacer(configuration.churnPerSecond() / writers, startNanos) : null;
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            long nowNanos;
+            while ((nowNanos = System.nanoTime()) < deadlineNanos) {
+                awaitResume();
+                final int slot = writer + random.nextInt(ownedSlots) * writers;
+                final long churnDelayNanos = churnPacer == null ? Long.MAX_VALUE : churnPacer.acquire(nowNanos);
+                if (churnDelayNanos == 0) {
+                    restartMatch(slot);
+                    continue;
+                }
+                final long updateDelayNanos = updatePacer.acquire(nowNanos);
+                if (updateDelayNanos == 0) {
+                    updateScore(slot, random);
+                    continue;
+                }
+                LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, Math.min(churnDelayNanos, updateDelayNanos)));
+            }
+        } catch (RuntimeException e) {
+            violation("Writer " + writer + " failed: " + e);
+        } finally {
+            activeWriters.decrementAndGet();
+        }
+    }
+
+    private void updateScore(final int slot, final ThreadLocalRandom random) {
+        if (random.nextBoolean()) {
+            homeScores[slot]++;
+        } else {
+            awayScores[slot]++;
+        }
+        scoreboard.updateScore(matchIds.get(slot), homeScores[slot], awayScores[slot]);
+        writes.increment();
+    }
+
+    private void restartMatch(final int slot) {
+        begunRestarts.incrementAndGet();
+        scoreboard.finishMatch(matchIds.get(slot));
+        homeScores[slot] = 0;
+        awayScores[slot] = 0;
+        matchIds.set(slot, scoreboard.startMatchAsLong(homeCountry(slot), awayCountry(slot),
+                FIRST_MATCH_DATE.plusSeconds(matchIds.length() + restartedMatches.incrementAndGet())));
+        completedRestarts.incrementAndGet();
+        writes.add(2);
+    }
+
+    private void runReader(final long deadlineNanos) {
+        final double readsPerReader = configuration.readers() == 0 ? 0
+                : configuration.readWriteRatio() / configuration.readers();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        long reads = 0;
+        try {
+            while (System.nanoTime() < deadlineNanos) {
+                if (readsPerReader > 0 && reads >= readsPerReader * writes.sum()) {
+                    LockSupport.parkNanos(PAUSE_POLL_NANOS);
+                    continue;
+                }
+                final long completedBefore = completedRestarts.get();
+                switch (random.nextInt(4)) {
+                    case 0 -> scoreboard.getMatch(matchIds.get(random.nextInt(matchIds.length())));
+                    case 1 -> checkRead("Running matches", matchIds.length(), completedBefore, new ArrayList<>(
+                            scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted()));
+                    case 2 -> checkRead("First page", PAGE_SIZE, completedBefore,
+                            scoreboard.getRunningMatchesPage(0, PAGE_SIZE));
+                    default -> checkRead("Encoded running matches", matchIds.length(), completedBefore,
+                            RunningMatchesCodec.decode(scoreboard.getRunningMatchesEncoded()).runningMatches());
+                }
+                reads++;
+            }
+        } catch (RuntimeException e) {
+            violation("Reader failed: " + e);
+        }
+    }
+
+    /**
+     * Called by readers while writers run, matches which restart overlaps the read could be missing
+     * @param maxSize size of the read if no match is being restarted
+     * @param completedBefore restarts completed before the read
+     */
+    private void checkRead(final String read, final int maxSize, final long completedBefore,
+                           final List<Match> matches) {
+        readChecks.increment();
+        final long restarting = begunRestarts.get() - completedBefore;
+        final int minSize = (int) Math.min(maxSize, matchIds.length() - restarting);
+        if (matches.size() < minSize || matches.size() > maxSize) {
+            violation(read + " has " + matches.size() + " matches, but " + minSize + " to " + maxSize + " expected");
+        }
+        checkOrderAndCountries(read, matches);
+    }
+
+    /**
+     * Writers notice the pause between operations, finished writers don't need to
+     */
+    private void pauseWriters() {
+        paused = true;
+        while (pausedWriters.get() < activeWriters.get()) {
+            LockSupport.parkNanos(PAUSE_POLL_NANOS);
+        }
+    }
+
+    /**
+     * Wait until every paused writer leaves the pause, so the next pause counts only writers which enter it
+     */
+    private void resumeWriters() {
+        paused = false;
+        while (pausedWriters.get() > 0) {
+            LockSupport.parkNanos(PAUSE_POLL_NANOS);
+        }
+    }
+
+    private void awaitResume() {
+        if (!paused) {
+            return;
+        }
+        pausedWriters.incrementAndGet();
+        while (paused) {
+            LockSupport.parkNanos(PAUSE_POLL_NANOS);
+        }
+        pausedWriters.decrementAndGet();
+    }
+
+    /**
+     * Called while writers are paused, the scoreboard isn't metered here
+     */
+    private void checkInvariants() {
+        invariantChecks++;
+        final List<Match> runningMatches = new ArrayList<>(
+                target.getRunningMatchesSortedByTotalScoreAndMostRecentStarted());
+        if (runningMatches.size() != matchIds.length()) {
+            violation("Expected " + matchIds.length() + " running matches, but found " + runningMatches.size());
+        }
+        checkOrderAndCountries("Running matches", runningMatches);
+        final Set<Long> runningIds = new HashSet<>();
+        for (Match match : runningMatches) {
+            if (!match.equals(target.getMatch(match.id()))) {
+                violation("Running match " + match + " differs from match by id " + target.getMatch(match.id()));
+            }
+            runningIds.add(match.id());
+        }
+        for (int slot = 0; slot < matchIds.length(); slot++) {
+            final long matchId = matchIds.get(slot);
+            if (!runningIds.contains(matchId)) {
+                violation("Match " + matchId + " isn't running");
+            }
+            final Match match = target.getMatch(matchId);
+            if (match.homeTeamScore().score() != homeScores[slot] || match.awayTeamScore().score() != awayScores[slot]) {
+                violation("Match " + matchId + " has score " + match.homeTeamScore().score() + ":"
+                        + match.awayTeamScore().score() + ", but " + homeScores[slot] + ":" + awayScores[slot]
+                        + " was set");
+            }
+        }
+        final List<Match> firstPage = target.getRunningMatchesPage(0, PAGE_SIZE);
+        if (!firstPage.equals(runningMatches.subList(0, Math.min(PAGE_SIZE, runningMatches.size())))) {
+            violation("First page differs from running matches");
+        }
+        final ScoreboardSnapshot decoded = RunningMatchesCodec.decode(target.getRunningMatchesEncoded());
+        if (!ids(decoded.runningMatches()).equals(ids(runningMatches))) {
+            violation("Encoded running matches differ from running matches");
+        }
+    }
+
+    private void checkOrderAndCountries(final String read, final List<Match> matches) {
+        final Set<String> countries = new HashSet<>();
+        MatchSortKey previousKey = null;
+        for (Match match : matches) {
+            final MatchSortKey key = match.compoundSortKey();
+            if (previousKey != null && previousKey.compareTo(key) >= 0) {
+                violation(read + ": match " + match.id() + " is out of order");
+            }
+            previousKey = key;
+            if (match.finished()) {
+                violation(read + ": finished match " + match.id() + " is running");
+            }
+            if (!countries.add(match.homeTeamScore().country()) || !countries.add(match.awayTeamScore().country())) {
+                violation(read + ": country of match " + match.id() + " plays in another running match");
+            }
+        }
+    }
+
+    private static List<Long> ids(final List<Match> matches) {
+        return matches.stream().map(Match::id).toList();
+    }
+
+    private void violation(final String violation) {
+        synchronized (violations) {
+            if (violations.size() < MAX_VIOLATIONS) {
+                violations.add(violation);
+            }
+        }
+    }
+
+    private static String homeCountry(final int slot) {
+        return COUNTRIES[2 * slot];
+    }
+
+    private static String awayCountry(final int slot) {
+        return COUNTRIES[2 * slot + 1];
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportradar.scoreboard.load;
+
+import com.sportradar.scoreboard.metrics.ScoreboardOperation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkloadDriverIntegrationTest {
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadDriverIntegrationTest.class);
+
+    @ParameterizedTest
+    @EnumSource(WorkloadTarget.class)
+    public void shouldKeepScoreboardConsistentWhenMatchesAreUpdatedRestartedAndReadConcurrently(
+            final WorkloadTarget target) {
+        final WorkloadReport report = new WorkloadDriver(WorkloadConfiguration.builder()
+                .target(target)
+                .liveMatches(20)
+                .churnPerSecond(2_000)
+                .writers(4)
+                .readers(4)
+                .duration(Duration.ofSeconds(2))
+                .checkInterval(Duration.ofMillis(10))
+                .build()).run();
+        logger.info("Workload finished\n{}", report.format());
+
+        assertEquals(List.of(), report.violations());
+        assertTrue(report.invariantChecks() > 10);
+        assertTrue(report.readChecks() > 0);
+        for (ScoreboardOperation operation : List.of(ScoreboardOperation.START_MATCH, ScoreboardOperation.UPDATE_SCORE,
+                ScoreboardOperation.FINISH_MATCH, ScoreboardOperation.GET_MATCH,
+                ScoreboardOperation.GET_RUNNING_MATCHES, ScoreboardOperation.GET_RUNNING_MATCHES_ENCODED)) {
+            assertTrue(report.metrics().operationLatencies().get(operation).count() > 0, operation.name());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(WorkloadTarget.class)
+    public void shouldKeepRatesWhenLoadIsThrottled(final WorkloadTarget target) {
+        final WorkloadReport report = new WorkloadDriver(WorkloadConfiguration.builder()
+                .target(target)
+                .liveMatches(10)
+                .churnPerSecond(100)
+                .updatesPerSecond(1_000)
+                .writers(2)
+                .readers(2)
+                .readWriteRatio(3)
+                .duration(Duration.ofSeconds(1))
+                .build()).run();
+
+        assertEquals(List.of(), report.violations());
+        final long updates = report.metrics().operationLatencies().get(ScoreboardOperation.UPDATE_SCORE).count();
+        final long finishes = report.metrics().operationLatencies().get(ScoreboardOperation.FINISH_MATCH).count();
+        assertTrue(updates > 500 && updates <= 1_100, "updates " + updates);
+        assertTrue(finishes > 50 && finishes <= 110, "finishes " + finishes);
+        final long reads = report.metrics().operationLatencies().entrySet().stream()
+                .filter(entry -> entry.getKey().name().startsWith("GET"))
+                .mapToLong(entry -> entry.getValue().count())
+                .sum();
+        assertTrue(reads <= 3 * (updates + 2 * finishes) + 2, "reads " + reads);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sportradar.scoreboard.load;
+
+import com.sportradar.scoreboard.metrics.LatencySnapshot;
+import com.sportradar.scoreboard.metrics.ScoreboardMetricsSnapshot;
+import com.sportradar.scoreboard.metrics.ScoreboardOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of the workload run
+ * @param configuration shape of the generated load
+ * @param elapsed time between start and stop of the load
+ * @param metrics latencies and counters of operations called by writers and readers,
+ *                setup and invariant checks aren't measured
+ * @param invariantChecks amount of consistency checks done while writers were paused and after the run
+ * @param readChecks amount of reads checked by readers while writers were running
+ * @param violations broken invariants and unexpected exceptions, empty if the scoreboard stayed consistent
+ */
+public record WorkloadReport(WorkloadConfiguration configuration, Duration elapsed, ScoreboardMetricsSnapshot metrics,
+                             int invariantChecks, long readChecks, List<String> violations) {
+
+    public WorkloadReport {
+        Objects.requireNonNull(configuration, "configuration cannot be null");
+        Objects.requireNonNull(elapsed, "elapsed cannot be null");
+        Objects.requireNonNull(metrics, "metrics cannot be null");
+        Objects.requireNonNull(violations, "violations cannot be null");
+    }
+
+    /**
+     * @return calls of the operation per second
+     */
+    public double throughput(final ScoreboardOperation operation) {
+        final LatencySnapshot latency = metrics.operationLatencies().get(operation);
+        return latency.count() * 1_000_000_000d / Math.max(1, elapsed.toNanos());
+    }
+
+    /**
+     * @return table of throughput and latency in microseconds of every called operation
+     */
+    public String format() {
+        final StringBuilder report = new StringBuilder()
+                .append(String.format("%s: %d live matches, %d writers, %d readers, %s%n", configuration.target(),
+                        configuration.liveMatches(), configuration.writers(), configuration.readers(), elapsed))
+                .append(String.format("%-28s %10s %12s %10s %10s %10s %10s%n",
+                        "operation", "count", "ops/s", "p50 us", "p99 us", "p999 us", "max us"));
+        for (Map.Entry<ScoreboardOperation, LatencySnapshot> entry : metrics.operationLatencies().entrySet()) {
+            final LatencySnapshot latency = entry.getValue();
+            if (latency.count() == 0) {
+                continue;
+            }
+            report.append(String.format("%-28s %10d %12.0f %10.1f %10.1f %10.1f %10.1f%n", entry.getKey(),
+                    latency.count(), throughput(entry.getKey()), micros(latency.p50Nanos()),
+                    micros(latency.p99Nanos()), micros(latency.p999Nanos()), micros(latency.maxNanos())));
+        }
+        return report
+                .append(String.format("write lock wait p99 %.1f us, hold p99 %.1f us%n",
+                        micros(metrics.writeLockWait().p99Nanos()), micros(metrics.writeLockHold().p99Nanos())))
+                .append(String.format("invariant checks %d, read checks %d, violations %d", invariantChecks,
+                        readChecks, violations.size()))
+                .toString();
+    }
+
+    private static double micros(final long nanos) {
+        return nanos / 1_000d;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sportradar.scoreboard.load;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.impl.EventLoopScoreboard;
+import com.sportradar.scoreboard.impl.LockMode;
+import com.sportradar.scoreboard.impl.ReadMode;
+import com.sportradar.scoreboard.impl.ScoreboardConfiguration;
+import com.sportradar.scoreboard.impl.ScoreboardImpl;
+import com.sportradar.scoreboard.metrics.ScoreboardMetrics;
+
+/**
+ * Scoreboard implementations the workload could be run against
+ */
+public enum WorkloadTarget {
+    LOCKED,
+    SNAPSHOT,
+    OPTIMISTIC,
+    EVENT_LOOP;
+
+    /**
+     * @param metrics collector of lock times and gauges, event loop scoreboard doesn't report them
+     */
+    Scoreboard create(final ScoreboardMetrics metrics) {
+        return switch (this) {
+            case LOCKED -> new ScoreboardImpl(ScoreboardConfiguration.defaults(), metrics);
+            case SNAPSHOT -> new ScoreboardImpl(ScoreboardConfiguration.builder()
+                    .readMode(ReadMode.SNAPSHOT)
+                    .build(), metrics);
+            case OPTIMISTIC -> new ScoreboardImpl(ScoreboardConfiguration.builder()
+                    .lockMode(LockMode.OPTIMISTIC)
+                    .build(), metrics);
+            case EVENT_LOOP -> new EventLoopScoreboard();
+        };
+    }
+}
@@ -1,9 +1,20 @@
 package com.sportradar.scoreboard;
 
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
+import com.sportradar.scoreboard.exception.MatchNotFoundException;
 import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface Scoreboard {
     /**
@@ -15,7 +26,64 @@ public interface Scoreboard {
      * I don't know possible amount of the match, so I used long as id type, because it's
      * a common practice to use long as auto increment identifier in database
      */
-    Long startMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate);
+    default Long startMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        return startMatchAsLong(homeTeamIsoCode, awayTeamIsoCode, startDate);
+    }
+
+    /**
+     * Same as {@link #startMatch(String, String, LocalDateTime)}, but returns primitive id
+     * to avoid boxing on hot path
+     * @param homeTeamIsoCode home team iso code
+     * @param awayTeamIsoCode away team iso code
+     * @param startDate start date of the match
+     * @return id of started match
+     */
+    long startMatchAsLong(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate);
+
+    /**
+     * Same as {@link #startMatchAsLong(String, String, LocalDateTime)}, but failure is returned instead of thrown,
+     * so replayed feeds don't pay for exceptions
+     * @param homeTeamIsoCode home team iso code
+     * @param awayTeamIsoCode away team iso code
+     * @param startDate start date of the match
+     * @return id of started match or why it isn't started: a team isn't supported or is already playing
+     */
+    MatchStartResult tryStartMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate);
+
+    /**
+     * Same as {@link #scheduleMatch(String, String, LocalDateTime, Consumer)}, match which isn't started
+     * at its start date is only logged
+     * @param homeTeamIsoCode home team iso code
+     * @param awayTeamIsoCode away team iso code
+     * @param startDate start date of the match
+     * @return id of scheduled match, it's not the id of the match started later
+     */
+    default long scheduleMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        return scheduleMatch(homeTeamIsoCode, awayTeamIsoCode, startDate, result -> {
+        });
+    }
+
+    /**
+     * Schedule match which is started automatically at its start date, matches of the same kickoff are started
+     * together in one batch. Teams are validated now: a team could have only one scheduled match and can't be
+     * scheduled while it's playing. The match isn't started if a team started another match before the start date.
+     * Started match is announced to subscribers like any other start.
+     * @param homeTeamIsoCode home team iso code
+     * @param awayTeamIsoCode away team iso code
+     * @param startDate start date of the match
+     * @param kickoffListener called by the scheduler thread with id of started match or why it isn't started,
+     *                        it's called even if the kickoff batch failed
+     * @return id of scheduled match, it's not the id of the match started later
+     */
+    long scheduleMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate,
+                       Consumer<MatchStartResult> kickoffListener);
+
+    /**
+     * Cancel scheduled match which isn't started yet
+     * @param scheduledMatchId id returned by {@link #scheduleMatch(String, String, LocalDateTime, Consumer)}
+     * @return false if the match is already started or cancelled
+     */
+    boolean cancelScheduledMatch(long scheduledMatchId);
 
     /**
      * Get match(finished or not). This method was added to verify consistency of the data
@@ -23,7 +91,19 @@ public interface Scoreboard {
      * @param matchId Id of the match
      * @return match details
      */
-    Match getMatch(Long matchId);
+    default Match getMatch(Long matchId) {
+        if (matchId == null) {
+            throw new MatchNotFoundException(null);
+        }
+        return getMatch(matchId.longValue());
+    }
+
+    /**
+     * Same as {@link #getMatch(Long)} without boxing of the id
+     * @param matchId Id of the match
+     * @return match details
+     */
+    Match getMatch(long matchId);
 
     /**
      * Update score for the corresponding match
@@ -31,13 +111,89 @@ public interface Scoreboard {
      * @param homeTeamScore home team score
      * @param awayTeamScore away team score
      */
-    void updateScore(Long matchId, int homeTeamScore, int awayTeamScore);
+    default void updateScore(Long matchId, int homeTeamScore, int awayTeamScore) {
+        if (matchId == null) {
+            throw new MatchNotFoundException(null);
+        }
+        updateScore(matchId.longValue(), homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Same as {@link #updateScore(Long, int, int)} without boxing of the id
+     * @param matchId identifier of the match
+     * @param homeTeamScore home team score
+     * @param awayTeamScore away team score
+     */
+    void updateScore(long matchId, int homeTeamScore, int awayTeamScore);
+
+    /**
+     * Same as {@link #updateScore(long, int, int)}, but failure is returned instead of thrown
+     * @param matchId identifier of the match
+     * @param homeTeamScore home team score
+     * @param awayTeamScore away team score
+     * @return {@link ScoreUpdateStatus#APPLIED}, {@link ScoreUpdateStatus#MATCH_NOT_FOUND} if there is no such
+     * running match or {@link ScoreUpdateStatus#SCORE_NOT_POSITIVE}
+     */
+    ScoreUpdateStatus tryUpdateScore(long matchId, int homeTeamScore, int awayTeamScore);
+
+    /**
+     * Update score only if the match still has the expected version, so retried and replayed updates
+     * of a feed are ignored. Stale or duplicate update is rejected without write lock. Score of finished match
+     * can't be changed, it's rejected with {@link MatchNotFoundException}
+     * @param matchId identifier of the match
+     * @param expectedVersion {@link Match#version()} of the match the update is based on
+     * @param homeTeamScore home team score
+     * @param awayTeamScore away team score
+     * @return true if the match has the score now, false if its version isn't the expected one
+     */
+    boolean compareAndUpdateScore(long matchId, long expectedVersion, int homeTeamScore, int awayTeamScore);
+
+    /**
+     * Add one goal to the home team score of the running match. Concurrent goals of different matches
+     * don't wait for each other. The goal is visible to every read of matches started after the method returned,
+     * subscribers, encoded and rendered scoreboard see it once it's applied by a writer
+     * @param matchId identifier of the match
+     */
+    void incrementHomeScore(long matchId);
+
+    /**
+     * Same as {@link #incrementHomeScore(long)} for the away team
+     * @param matchId identifier of the match
+     */
+    void incrementAwayScore(long matchId);
+
+    /**
+     * Update scores of many matches at once. Repeated updates of the same match are coalesced,
+     * only the last valid one is applied. Invalid items don't prevent other items from being applied,
+     * update of finished match is {@link ScoreUpdateStatus#MATCH_NOT_FOUND}.
+     * @param updates new scores in the order they were received
+     * @return result of every update in the same order
+     */
+    List<ScoreUpdateResult> applyUpdates(Collection<ScoreUpdate> updates);
 
     /**
      * Finish match and remove it from score board
      * @param matchId identifier of the match
      */
-    void finishMatch(Long matchId);
+    default void finishMatch(Long matchId) {
+        if (matchId == null) {
+            throw new MatchNotFoundException(null);
+        }
+        finishMatch(matchId.longValue());
+    }
+
+    /**
+     * Same as {@link #finishMatch(Long)} without boxing of the id
+     * @param matchId identifier of the match
+     */
+    void finishMatch(long matchId);
+
+    /**
+     * Same as {@link #finishMatch(long)}, but failure is returned instead of thrown
+     * @param matchId identifier of the match
+     * @return false if there is no such match
+     */
+    boolean tryFinishMatch(long matchId);
 
     /**
      * Return list of running matches sorted by total score and then most recent started time.
@@ -47,4 +203,71 @@ public interface Scoreboard {
      * @return list of sorted(first by total score, then by start time) running matches
      */
     Collection<Match> getRunningMatchesSortedByTotalScoreAndMostRecentStarted();
+
+    /**
+     * Return first running matches in the order of {@link #getRunningMatchesSortedByTotalScoreAndMostRecentStarted()}.
+     * Only returned matches are copied, so it's cheap for large scoreboard
+     * @param limit max amount of returned matches
+     * @return at most limit running matches with the highest positions
+     */
+    default List<Match> getTopRunningMatches(int limit) {
+        return getRunningMatchesPage(0, limit);
+    }
+
+    /**
+     * Return page of running matches in the order of {@link #getRunningMatchesSortedByTotalScoreAndMostRecentStarted()}
+     * @param offset amount of skipped matches with the highest positions
+     * @param limit max amount of returned matches
+     * @return at most limit running matches starting from offset position, empty list if offset is after the last match
+     */
+    List<Match> getRunningMatchesPage(int offset, int limit);
+
+    /**
+     * Return finished matches of the team from index of finished matches kept in memory,
+     * archived matches are included by scan of archive segments where the team played
+     * @param isoCode iso code of the team
+     * @return finished matches in the order they were finished
+     */
+    List<Match> getFinishedMatches(String isoCode);
+
+    /**
+     * Return finished matches by start time from index of finished matches kept in memory,
+     * archived matches are included by scan of archive segments which cover the range
+     * @param from the earliest start date, inclusive
+     * @param to the latest start date, exclusive
+     * @return finished matches started in the range ordered by start date
+     */
+    List<Match> getFinishedMatchesStartedBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Return position of the match in the order of {@link #getRunningMatchesSortedByTotalScoreAndMostRecentStarted()},
+     * it's found in logarithmic time without copy of running matches
+     * @param matchId identifier of the match
+     * @return 1 based position of the running match, 0 if the match is finished
+     */
+    int getRank(long matchId);
+
+    /**
+     * Subscribe to changes of the scoreboard. Subscriber gets snapshot of running matches first and then
+     * every start, score change and finish in order. Slow subscriber doesn't block the scoreboard.
+     * @param subscriber receiver of the changes
+     * @return subscription which should be closed when changes aren't needed anymore
+     */
+    ScoreboardSubscription subscribe(ScoreboardSubscriber subscriber);
+
+    /**
+     * Return running matches in compact binary form of {@link com.sportradar.scoreboard.impl.RunningMatchesCodec}.
+     * Bytes are encoded once per change of the scoreboard and shared by all callers without copy
+     * @return read-only buffer positioned at the start of encoded running matches
+     */
+    ByteBuffer getRunningMatchesEncoded();
+
+    /**
+     * Return running matches in the order of {@link #getRunningMatchesSortedByTotalScoreAndMostRecentStarted()}
+     * rendered by the formatter, e.g. {@link ScoreboardFormatter#TEXT}. View is rendered once per change of the
+     * scoreboard and formatter, concurrent callers after the change share one rendering
+     * @param formatter shared formatter instance, it's the key of cached view
+     * @return view of running matches not older than the latest change seen by the caller
+     */
+    <T> T getRunningMatchesRendered(ScoreboardFormatter<T> formatter);
 }
@@ -0,0 +1,11 @@
+package com.sportradar.scoreboard.event;
+
+import com.sportradar.scoreboard.model.Match;
+
+/**
+ * @param sequence version of the scoreboard after the change
+ * @param match finished match
+ * @param previousRank position of the match before it was removed from running matches
+ */
+public record MatchFinishedEvent(long sequence, Match match, int previousRank) implements ScoreboardEvent {
+}
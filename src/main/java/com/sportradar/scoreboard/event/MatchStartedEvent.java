@@ -0,0 +1,11 @@
+package com.sportradar.scoreboard.event;
+
+import com.sportradar.scoreboard.model.Match;
+
+/**
+ * @param sequence version of the scoreboard after the change
+ * @param match started match
+ * @param rank position of the started match
+ */
+public record MatchStartedEvent(long sequence, Match match, int rank) implements ScoreboardEvent {
+}
@@ -0,0 +1,14 @@
+package com.sportradar.scoreboard.event;
+
+import com.sportradar.scoreboard.model.Match;
+
+/**
+ * @param sequence version of the scoreboard after the change
+ * @param previousMatch match before the change
+ * @param match match with new score
+ * @param previousRank position of the match before the change
+ * @param rank position of the match after the change
+ */
+public record ScoreChangedEvent(long sequence, Match previousMatch, Match match,
+                                int previousRank, int rank) implements ScoreboardEvent {
+}
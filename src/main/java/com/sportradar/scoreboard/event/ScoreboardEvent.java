@@ -0,0 +1,20 @@
+package com.sportradar.scoreboard.event;
+
+import com.sportradar.scoreboard.model.Match;
+
+/**
+ * Change of the scoreboard. Events of one scoreboard have consecutive sequence numbers,
+ * so a subscriber could notice a missed event. Rank is 1 based position of the match in
+ * the running matches sorted by total score and most recent start.
+ */
+public sealed interface ScoreboardEvent permits MatchStartedEvent, ScoreChangedEvent, MatchFinishedEvent {
+    /**
+     * @return version of the scoreboard after the change
+     */
+    long sequence();
+
+    /**
+     * @return match after the change
+     */
+    Match match();
+}
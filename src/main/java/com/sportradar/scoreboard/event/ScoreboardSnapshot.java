@@ -0,0 +1,17 @@
+package com.sportradar.scoreboard.event;
+
+import com.sportradar.scoreboard.model.Match;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Running matches at the given version of the scoreboard
+ * @param sequence version of the scoreboard, next event has sequence + 1
+ * @param runningMatches running matches sorted by total score and most recent start
+ */
+public record ScoreboardSnapshot(long sequence, List<Match> runningMatches) {
+    public ScoreboardSnapshot {
+        Objects.requireNonNull(runningMatches, "runningMatches cannot be null");
+    }
+}
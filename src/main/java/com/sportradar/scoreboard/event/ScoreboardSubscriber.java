@@ -0,0 +1,19 @@
+package com.sportradar.scoreboard.event;
+
+/**
+ * Receives scoreboard changes on a dedicated thread of the subscription, so a slow
+ * subscriber delays only itself. If the subscriber falls behind by more than capacity of
+ * the change feed, missed events are replaced by a new snapshot.
+ */
+public interface ScoreboardSubscriber {
+    /**
+     * Called first after subscription and again after events were missed
+     * @param snapshot whole state of the scoreboard, following events continue from its sequence
+     */
+    void onSnapshot(ScoreboardSnapshot snapshot);
+
+    /**
+     * @param event change with sequence of the previous event or snapshot + 1
+     */
+    void onEvent(ScoreboardEvent event);
+}
@@ -0,0 +1,9 @@
+package com.sportradar.scoreboard.event;
+
+/**
+ * Active subscription to scoreboard changes, closing it stops delivery to the subscriber
+ */
+public interface ScoreboardSubscription extends AutoCloseable {
+    @Override
+    void close();
+}
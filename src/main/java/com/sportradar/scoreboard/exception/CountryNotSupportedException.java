@@ -4,7 +4,7 @@ public class CountryNotSupportedException extends ScoreboardException {
     private final String notSupportedCode;
 
     public CountryNotSupportedException(final String notSupportedCode) {
-        super("Country " + notSupportedCode + " is not supported");
+        super("Country " + notSupportedCode + " is not supported", false);
         this.notSupportedCode = notSupportedCode;
     }
 
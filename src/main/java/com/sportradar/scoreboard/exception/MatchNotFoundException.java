@@ -4,7 +4,7 @@ public class MatchNotFoundException extends ScoreboardException {
     private final Long matchId;
 
     public MatchNotFoundException(Long matchId) {
-        super("Match " + matchId + " not found");
+        super("Match " + matchId + " not found", false);
         this.matchId = matchId;
     }
 
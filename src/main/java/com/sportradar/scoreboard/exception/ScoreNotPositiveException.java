@@ -2,6 +2,6 @@ package com.sportradar.scoreboard.exception;
 
 public class ScoreNotPositiveException extends ScoreboardException {
     public ScoreNotPositiveException() {
-        super("Score must be positive");
+        super("Score must be positive", false);
     }
 }
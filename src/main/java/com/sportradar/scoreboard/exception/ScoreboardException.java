@@ -4,4 +4,13 @@ public abstract class ScoreboardException extends RuntimeException {
     public ScoreboardException(final String message) {
         super(message);
     }
+
+    /**
+     * @param writableStackTrace false for failures caused by arguments of the caller, e.g. unknown match id.
+     *                           Replayed feeds cause lots of them and filling stack trace dominates their cost,
+     *                           while the message and the fields already tell what is wrong
+     */
+    protected ScoreboardException(final String message, final boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
 }
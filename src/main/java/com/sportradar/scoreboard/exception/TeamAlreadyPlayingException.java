@@ -4,7 +4,7 @@ public class TeamAlreadyPlayingException extends ScoreboardException {
     private final String alreadyPlayingCountry;
 
     public TeamAlreadyPlayingException(String alreadyPlayingCountry) {
-        super("Team " + alreadyPlayingCountry + " is playing in another match");
+        super("Team " + alreadyPlayingCountry + " is playing in another match", false);
         this.alreadyPlayingCountry = alreadyPlayingCountry;
     }
 
@@ -0,0 +1,164 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.ScoreboardEvent;
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Fan-out of scoreboard events through a ring buffer allocated once. The writer only stores
+ * the event into the slot of its sequence and never waits for subscribers. Every subscription
+ * reads the ring on its own thread, when the writer laps a slow subscriber the overwritten
+ * slot holds an event with another sequence and the subscriber is resynchronized from snapshot.
+ * Idle subscriber spins briefly, then parks until the writer publishes the next event, so it
+ * doesn't wake up while there is nothing to read.
+ */
+final class ChangeFeed {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    private final AtomicReferenceArray<ScoreboardEvent> events;
+    private final int mask;
+    private final Supplier<ScoreboardSnapshot> snapshotSupplier;
+    private final Set<FeedSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriptionCounter = new AtomicInteger();
+    private volatile long publishedSequence;
+
+    /**
+     * @param capacity amount of events kept for subscribers, power of two
+     * @param snapshotSupplier consistent snapshot of the scoreboard used to resynchronize subscriber
+     */
+    ChangeFeed(final int capacity, final Supplier<ScoreboardSnapshot> snapshotSupplier) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Change feed capacity must be a power of two");
+        }
+        this.events = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.snapshotSupplier = snapshotSupplier;
+    }
+
+    /**
+     * Writer checks it before computing event, so scoreboard without subscribers doesn't pay for ranks
+     */
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Called by one writer at a time with increasing sequences. Parked subscribers are woken up, flag is checked
+     * after the sequence is published, so a subscriber parking concurrently either sees the sequence or is unparked
+     */
+    void publish(final ScoreboardEvent event) {
+        events.set((int) (event.sequence() & mask), event);
+        publishedSequence = event.sequence();
+        for (FeedSubscription subscription : subscriptions) {
+            if (subscription.parked) {
+                LockSupport.unpark(subscription.thread);
+            }
+        }
+    }
+
+    /**
+     * Should be called while scoreboard can't be changed, so no event is lost between snapshot and registration
+     */
+    ScoreboardSubscription subscribe(final ScoreboardSubscriber subscriber, final ScoreboardSnapshot snapshot) {
+        final FeedSubscription subscription = new FeedSubscription(subscriber, snapshot);
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    private ScoreboardEvent read(final long sequence) {
+        final ScoreboardEvent event = events.get((int) (sequence & mask));
+        return event != null && event.sequence() == sequence ? event : null;
+    }
+
+    private final class FeedSubscription implements ScoreboardSubscription {
+        private final ScoreboardSubscriber subscriber;
+        private final Thread thread;
+        private volatile ScoreboardSnapshot pendingSnapshot;
+        private volatile boolean closed;
+        /**
+         * Set before the subscriber checks the published sequence the last time and parks
+         */
+        private volatile boolean parked;
+
+        private FeedSubscription(final ScoreboardSubscriber subscriber, final ScoreboardSnapshot snapshot) {
+            this.subscriber = subscriber;
+            this.pendingSnapshot = snapshot;
+            this.thread = new Thread(this::deliver, "scoreboard-subscriber-" + subscriptionCounter.incrementAndGet());
+            this.thread.setDaemon(true);
+        }
+
+        private void deliver() {
+            long nextSequence = 0;
+            int idleCount = 0;
+            while (!closed) {
+                if (pendingSnapshot != null) {
+                    final ScoreboardSnapshot snapshot = pendingSnapshot;
+                    pendingSnapshot = null;
+                    nextSequence = snapshot.sequence() + 1;
+                    notify(snapshot);
+                    continue;
+                }
+                if (nextSequence > publishedSequence) {
+                    idle(idleCount++, nextSequence);
+                    continue;
+                }
+                idleCount = 0;
+                final ScoreboardEvent event = read(nextSequence);
+                if (event == null) {
+                    logger.warn("Subscriber {} missed event {}, resynchronizing", thread.getName(), nextSequence);
+                    pendingSnapshot = snapshotSupplier.get();
+                    continue;
+                }
+                nextSequence++;
+                notify(event);
+            }
+        }
+
+        private void notify(final ScoreboardSnapshot snapshot) {
+            try {
+                subscriber.onSnapshot(snapshot);
+            } catch (RuntimeException e) {
+                logger.error("Subscriber {} failed to handle snapshot {}", thread.getName(), snapshot.sequence(), e);
+            }
+        }
+
+        private void notify(final ScoreboardEvent event) {
+            try {
+                subscriber.onEvent(event);
+            } catch (RuntimeException e) {
+                logger.error("Subscriber {} failed to handle event {}", thread.getName(), event.sequence(), e);
+            }
+        }
+
+        private void idle(final int idleCount, final long nextSequence) {
+            if (idleCount < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+                return;
+            }
+            parked = true;
+            if (nextSequence > publishedSequence && !closed) {
+                LockSupport.park(this);
+            }
+            parked = false;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+            LockSupport.unpark(thread);
+        }
+    }
+}
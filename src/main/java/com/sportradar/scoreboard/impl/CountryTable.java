@@ -0,0 +1,110 @@
+package com.sportradar.scoreboard.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Supported countries with dense ordinals, so per country state could be kept in arrays.
+ * Three letter code is a perfect hash by itself: letters are digits of base 26 number, which is index
+ * of the ordinal in the table, so lookup neither hashes strings nor compares them.
+ * ISO countries are precomputed in {@link IsoCountries}, so locale data isn't loaded.
+ */
+public final class CountryTable {
+    static final int UNKNOWN = -1;
+    private static final int LETTERS = 26;
+    private static final CountryTable ISO = new CountryTable(IsoCountries.ISO_CODES, IsoCountries.NAMES);
+
+    private final String[] isoCodes;
+    private final String[] names;
+    private final short[] ordinalsByCode = new short[LETTERS * LETTERS * LETTERS];
+    private final Map<String, Integer> ordinalsByName;
+
+    private CountryTable(final String[] isoCodes, final String[] names) {
+        this.isoCodes = isoCodes;
+        this.names = names;
+        this.ordinalsByName = new HashMap<>(names.length * 2);
+        Arrays.fill(ordinalsByCode, (short) UNKNOWN);
+        for (int ordinal = 0; ordinal < isoCodes.length; ordinal++) {
+            final int code = codeIndex(isoCodes[ordinal]);
+            if (code == UNKNOWN) {
+                throw new IllegalArgumentException("Country code " + isoCodes[ordinal] + " isn't three latin capital letters");
+            }
+            if (ordinalsByCode[code] != UNKNOWN || ordinalsByName.containsKey(names[ordinal])) {
+                throw new IllegalArgumentException("Country " + isoCodes[ordinal] + " " + names[ordinal]
+                        + " is already supported");
+            }
+            ordinalsByCode[code] = (short) ordinal;
+            ordinalsByName.put(names[ordinal], ordinal);
+        }
+    }
+
+    /**
+     * @return countries of ISO 3166, it's the default table of the scoreboard
+     */
+    public static CountryTable iso() {
+        return ISO;
+    }
+
+    /**
+     * Add team which isn't ISO country, e.g. ENG for England. Ordinals of the existing countries aren't changed.
+     * @param code three latin capital letters
+     * @param name name of the team in match scores
+     * @return new table with the country after all countries of this table
+     */
+    public CountryTable with(final String code, final String name) {
+        Objects.requireNonNull(code, "code cannot be null");
+        Objects.requireNonNull(name, "name cannot be null");
+        final String[] extendedIsoCodes = Arrays.copyOf(isoCodes, isoCodes.length + 1);
+        final String[] extendedNames = Arrays.copyOf(names, names.length + 1);
+        extendedIsoCodes[isoCodes.length] = code;
+        extendedNames[names.length] = name;
+        return new CountryTable(extendedIsoCodes, extendedNames);
+    }
+
+    /**
+     * @return ordinal of the country or {@link #UNKNOWN} if it isn't supported
+     */
+    int ordinalOfIsoCode(final String iso3Code) {
+        final int code = codeIndex(iso3Code);
+        return code == UNKNOWN ? UNKNOWN : ordinalsByCode[code];
+    }
+
+    /**
+     * @return ordinal of the country or {@link #UNKNOWN} if it isn't supported
+     */
+    int ordinalOfName(final String name) {
+        return ordinalsByName.getOrDefault(name, UNKNOWN);
+    }
+
+    String isoCode(final int ordinal) {
+        return isoCodes[ordinal];
+    }
+
+    String name(final int ordinal) {
+        return names[ordinal];
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * @return index of the code in the table or {@link #UNKNOWN} if it isn't three latin capital letters
+     */
+    private static int codeIndex(final String code) {
+        if (code == null || code.length() != 3) {
+            return UNKNOWN;
+        }
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            final int letter = code.charAt(i) - 'A';
+            if (letter < 0 || letter >= LETTERS) {
+                return UNKNOWN;
+            }
+            index = index * LETTERS + letter;
+        }
+        return index;
+    }
+}
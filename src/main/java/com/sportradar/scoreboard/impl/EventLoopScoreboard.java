@@ -0,0 +1,487 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Scoreboard without locks. Mutations are queued to one writer thread which owns {@link ScoreboardState},
+ * under load it drains many commands per wake up. Reads are served from what the writer publishes:
+ * running matches from immutable snapshot of {@link SnapshotSortedMatchIndex} and matches kept in memory
+ * from concurrent map, only archived matches are read through the writer.
+ * Futures are completed by the writer thread, so dependent stages should use async variants.
+ */
+public class EventLoopScoreboard implements Scoreboard, AutoCloseable {
+    private static final AtomicInteger writerCounter = new AtomicInteger();
+
+    private final ScoreboardState state;
+    private final Map<Long, Match> publishedMatches = new ConcurrentHashMap<>();
+    private final Queue<Command<?>> commands = new ConcurrentLinkedQueue<>();
+    private final Thread writer;
+    private final KickoffScheduler kickoffs;
+    private final RenderCache renderCache = new RenderCache();
+    private volatile boolean parked;
+    private volatile boolean running = true;
+    /**
+     * Error which stopped the writer, null if it's running or closed
+     */
+    private volatile Error writerFailure;
+    /**
+     * Version of the state after the last executed command, it's published before the command result,
+     * so a caller reads at least the version of its own change
+     */
+    private volatile long publishedVersion;
+
+    public EventLoopScoreboard() {
+        this(ScoreboardConfiguration.defaults());
+    }
+
+    /**
+     * @param configuration options of the scoreboard, read mode and ordering engine are ignored because reads never lock
+     */
+    public EventLoopScoreboard(final ScoreboardConfiguration configuration) {
+        if (configuration.journalDirectory() != null) {
+            throw new IllegalArgumentException("Journal is supported only by " + ScoreboardImpl.class.getSimpleName());
+        }
+        this.state = new ScoreboardState(configuration, SortedMatchIndex.create(ReadMode.SNAPSHOT, OrderingEngine.TREE),
+                () -> submit(ScoreboardState::createSnapshot).join(), publishedMatches::remove);
+        state.restoreArchivedMatchIds();
+        this.writer = new Thread(this::runWriter, "scoreboard-writer-" + writerCounter.incrementAndGet());
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.kickoffs = new KickoffScheduler(configuration, this::startScheduledMatches);
+    }
+
+    public CompletableFuture<Long> startMatchAsync(String homeTeamIsoCode, String awayTeamIsoCode,
+                                                   LocalDateTime startDate) {
+        return submit(state -> {
+            final Match match = state.startMatch(homeTeamIsoCode, awayTeamIsoCode, startDate);
+            publish(match.id());
+            return match.id();
+        });
+    }
+
+    public CompletableFuture<Void> updateScoreAsync(long matchId, int homeTeamScore, int awayTeamScore) {
+        return submit(state -> {
+            state.updateScore(matchId, homeTeamScore, awayTeamScore);
+            publish(matchId);
+            return null;
+        });
+    }
+
+    /**
+     * @return true if the match has the score, false if its version isn't the expected one
+     */
+    public CompletableFuture<Boolean> compareAndUpdateScoreAsync(long matchId, long expectedVersion,
+                                                                 int homeTeamScore, int awayTeamScore) {
+        final Match published = publishedMatches.get(matchId);
+        if (published != null && published.version() != expectedVersion) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return submit(state -> {
+            final Match updated = state.compareAndUpdateScore(matchId, expectedVersion, homeTeamScore, awayTeamScore);
+            publish(matchId);
+            return updated != null;
+        });
+    }
+
+    /**
+     * Add goal to the score of the running match, callers only enqueue the command, so they never contend for a lock
+     */
+    public CompletableFuture<Void> incrementScoreAsync(long matchId, int homeTeamGoals, int awayTeamGoals) {
+        return submit(state -> {
+            state.incrementScore(matchId, homeTeamGoals, awayTeamGoals);
+            publish(matchId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<ScoreUpdateResult>> applyUpdatesAsync(Collection<ScoreUpdate> updates) {
+        final ScoreUpdateBatch batch = new ScoreUpdateBatch(updates);
+        return submit(state -> {
+            batch.applyTo(state, null);
+            final List<ScoreUpdateResult> results = batch.results();
+            for (ScoreUpdateResult result : results) {
+                publish(result.update().matchId());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * @return id of started match or why it isn't started: a team isn't supported or is already playing
+     */
+    public CompletableFuture<MatchStartResult> tryStartMatchAsync(String homeTeamIsoCode, String awayTeamIsoCode,
+                                                                  LocalDateTime startDate) {
+        return submit(state -> {
+            final Match match = state.tryStartMatch(homeTeamIsoCode, awayTeamIsoCode, startDate);
+            if (match == null) {
+                return MatchStartResult.failed(state.startStatus(homeTeamIsoCode, awayTeamIsoCode));
+            }
+            publish(match.id());
+            return MatchStartResult.started(match.id());
+        });
+    }
+
+    public CompletableFuture<ScoreUpdateStatus> tryUpdateScoreAsync(long matchId, int homeTeamScore, int awayTeamScore) {
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            return CompletableFuture.completedFuture(ScoreUpdateStatus.SCORE_NOT_POSITIVE);
+        }
+        return submit(state -> {
+            if (state.tryUpdateScore(matchId, homeTeamScore, awayTeamScore) == null) {
+                return ScoreUpdateStatus.MATCH_NOT_FOUND;
+            }
+            publish(matchId);
+            return ScoreUpdateStatus.APPLIED;
+        });
+    }
+
+    /**
+     * @return false if there is no such match
+     */
+    public CompletableFuture<Boolean> tryFinishMatchAsync(long matchId) {
+        return submit(state -> {
+            if (state.tryFinishMatch(matchId) == null) {
+                return false;
+            }
+            publish(matchId);
+            return true;
+        });
+    }
+
+    public CompletableFuture<Void> finishMatchAsync(long matchId) {
+        return submit(state -> {
+            state.finishMatch(matchId);
+            publish(matchId);
+            return null;
+        });
+    }
+
+    @Override
+    public long startMatchAsLong(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        return await(startMatchAsync(homeTeamIsoCode, awayTeamIsoCode, startDate));
+    }
+
+    @Override
+    public MatchStartResult tryStartMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        return await(tryStartMatchAsync(homeTeamIsoCode, awayTeamIsoCode, startDate));
+    }
+
+    @Override
+    public long scheduleMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate,
+                              Consumer<MatchStartResult> kickoffListener) {
+        await(submit(state -> {
+            state.checkCanStart(homeTeamIsoCode, awayTeamIsoCode);
+            return null;
+        }));
+        return kickoffs.schedule(homeTeamIsoCode, awayTeamIsoCode, startDate, kickoffListener);
+    }
+
+    @Override
+    public boolean cancelScheduledMatch(long scheduledMatchId) {
+        return kickoffs.cancel(scheduledMatchId);
+    }
+
+    /**
+     * Called by the ticker of the scheduler, all matches of the tick are started by one command.
+     * Ticker waits for the command, so listeners of the kickoffs aren't called by the writer thread
+     */
+    private List<MatchStartResult> startScheduledMatches(final List<KickoffScheduler.Kickoff> scheduledMatches) {
+        return await(submit(state -> {
+            final List<MatchStartResult> results = new ArrayList<>(scheduledMatches.size());
+            for (KickoffScheduler.Kickoff scheduled : scheduledMatches) {
+                final Match match = state.tryStartMatch(scheduled.homeTeamIsoCode(), scheduled.awayTeamIsoCode(),
+                        scheduled.startDate());
+                if (match == null) {
+                    results.add(MatchStartResult.failed(
+                            state.startStatus(scheduled.homeTeamIsoCode(), scheduled.awayTeamIsoCode())));
+                } else {
+                    publish(match.id());
+                    results.add(MatchStartResult.started(match.id()));
+                }
+            }
+            return results;
+        }));
+    }
+
+    @Override
+    public Match getMatch(final long matchId) {
+        final Match match = publishedMatches.get(matchId);
+        if (match != null) {
+            return match;
+        }
+        return await(submit(state -> state.getMatch(matchId)));
+    }
+
+    @Override
+    public void updateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        await(updateScoreAsync(matchId, homeTeamScore, awayTeamScore));
+    }
+
+    /**
+     * Stale version of the published match is rejected by the caller thread without command to the writer
+     */
+    @Override
+    public boolean compareAndUpdateScore(long matchId, long expectedVersion, int homeTeamScore, int awayTeamScore) {
+        return await(compareAndUpdateScoreAsync(matchId, expectedVersion, homeTeamScore, awayTeamScore));
+    }
+
+    /**
+     * Negative score is rejected by the caller thread, missing match is reported by the writer as status
+     */
+    @Override
+    public ScoreUpdateStatus tryUpdateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        return await(tryUpdateScoreAsync(matchId, homeTeamScore, awayTeamScore));
+    }
+
+    @Override
+    public void incrementHomeScore(long matchId) {
+        await(incrementScoreAsync(matchId, 1, 0));
+    }
+
+    @Override
+    public void incrementAwayScore(long matchId) {
+        await(incrementScoreAsync(matchId, 0, 1));
+    }
+
+    @Override
+    public List<ScoreUpdateResult> applyUpdates(Collection<ScoreUpdate> updates) {
+        return await(applyUpdatesAsync(updates));
+    }
+
+    @Override
+    public void finishMatch(long matchId) {
+        await(finishMatchAsync(matchId));
+    }
+
+    @Override
+    public boolean tryFinishMatch(long matchId) {
+        return await(tryFinishMatchAsync(matchId));
+    }
+
+    @Override
+    public Collection<Match> getRunningMatchesSortedByTotalScoreAndMostRecentStarted() {
+        return state.runningMatches();
+    }
+
+    @Override
+    public List<Match> getRunningMatchesPage(int offset, int limit) {
+        return state.runningMatches(offset, limit);
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(final String isoCode) {
+        return await(submit(state -> state.finishedMatches(isoCode)));
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return await(submit(state -> state.finishedMatchesStartedBetween(from, to)));
+    }
+
+    /**
+     * Published match is found in published snapshot without writer, only match changed between
+     * the two publications is ranked by the writer
+     */
+    @Override
+    public int getRank(final long matchId) {
+        final Match match = publishedMatches.get(matchId);
+        if (match != null) {
+            if (match.finished()) {
+                return 0;
+            }
+            final int rank = state.rankOf(match);
+            if (rank != 0) {
+                return rank;
+            }
+        }
+        return await(submit(state -> state.getRank(matchId)));
+    }
+
+    @Override
+    public ScoreboardSubscription subscribe(ScoreboardSubscriber subscriber) {
+        return await(submit(state -> state.subscribe(subscriber)));
+    }
+
+    /**
+     * Encoded bytes of the latest version are read without writer, only the first reader after change waits for it
+     */
+    @Override
+    public ByteBuffer getRunningMatchesEncoded() {
+        final ByteBuffer encoded = state.encodedRunningMatches(publishedVersion);
+        if (encoded != null) {
+            return encoded;
+        }
+        return await(submit(ScoreboardState::encodedRunningMatches));
+    }
+
+    /**
+     * Cached view of the published version is read without writer, only the first reader after change waits for it.
+     * Version is published before the command result, so the caller's own change is always rendered
+     */
+    @Override
+    public <T> T getRunningMatchesRendered(ScoreboardFormatter<T> formatter) {
+        Objects.requireNonNull(formatter, "formatter cannot be null");
+        return renderCache.render(formatter, publishedVersion, () -> await(submit(ScoreboardState::createSnapshot)));
+    }
+
+    /**
+     * Stop the writer thread, commands which aren't executed yet are failed
+     */
+    @Override
+    public void close() {
+        kickoffs.close();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failPendingCommands();
+    }
+
+    /**
+     * Should be called by the writer thread, match of the scoreboard state is copied to readers
+     */
+    private void publish(final long matchId) {
+        final Match match = state.matchesById.get(matchId);
+        if (match == null) {
+            publishedMatches.remove(matchId);
+        } else {
+            publishedMatches.put(matchId, match);
+        }
+    }
+
+    /**
+     * Queue the action to the writer thread, the returned future is completed after the action is executed
+     */
+    <T> CompletableFuture<T> submit(final Function<ScoreboardState, T> action) {
+        final Command<T> command = new Command<>(action);
+        if (!running) {
+            command.fail(writerFailure);
+            return command.result;
+        }
+        commands.offer(command);
+        if (parked) {
+            LockSupport.unpark(writer);
+        }
+        if (!running) {
+            failPendingCommands();
+        }
+        return command.result;
+    }
+
+    /**
+     * Writer announces that it's going to park before the last check of the queue and producers check
+     * the announcement after offer, so a command is never left in the queue while the writer sleeps.
+     * Error could leave the state half changed, so the writer stops and every later command fails with it as cause
+     */
+    private void runWriter() {
+        try {
+            while (running) {
+                final Command<?> command = commands.poll();
+                if (command != null) {
+                    command.execute(state, this::publishVersion);
+                    continue;
+                }
+                parked = true;
+                if (commands.isEmpty() && running) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+            }
+        } catch (Error e) {
+            writerFailure = e;
+            running = false;
+            failPendingCommands();
+            throw e;
+        }
+    }
+
+    private void publishVersion() {
+        publishedVersion = state.version();
+    }
+
+    private void failPendingCommands() {
+        Command<?> command;
+        while ((command = commands.poll()) != null) {
+            command.fail(writerFailure);
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Command<T> {
+        private final Function<ScoreboardState, T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Command(final Function<ScoreboardState, T> action) {
+            this.action = action;
+        }
+
+        /**
+         * @param publishVersion called after the action and before the result is completed
+         * @throws Error of the action after the result is completed with it
+         */
+        private void execute(final ScoreboardState state, final Runnable publishVersion) {
+            final T value;
+            try {
+                value = action.apply(state);
+            } catch (RuntimeException e) {
+                publishVersion.run();
+                result.completeExceptionally(e);
+                return;
+            } catch (Error e) {
+                result.completeExceptionally(e);
+                throw e;
+            }
+            publishVersion.run();
+            result.complete(value);
+        }
+
+        /**
+         * @param writerFailure error which stopped the writer, null if the scoreboard is closed
+         */
+        private void fail(final Error writerFailure) {
+            result.completeExceptionally(writerFailure == null
+                    ? new IllegalStateException("Scoreboard is closed")
+                    : new IllegalStateException("Scoreboard writer failed", writerFailure));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Keeps finished matches in memory according to {@link FinishedMatchRetentionPolicy}
+ * and moves the oldest of them to {@link MatchArchive}. All methods are called under
+ * scoreboard lock. Finished matches are kept in order of finish in primitive ring arrays,
+ * so finishing a match neither boxes its id nor allocates its finish time.
+ */
+final class FinishedMatchRetention {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final FinishedMatchRetentionPolicy policy;
+    private final MatchArchive archive;
+    private final Clock clock;
+    private final long maxAgeMillis;
+    private long[] finishedMatchIds = new long[INITIAL_CAPACITY];
+    private long[] finishMillis = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    FinishedMatchRetention(final FinishedMatchRetentionPolicy policy, final MatchArchive archive, final Clock clock) {
+        this.policy = policy;
+        this.archive = archive;
+        this.clock = clock;
+        this.maxAgeMillis = policy.maxAge() == null ? Long.MAX_VALUE : toMillis(policy);
+    }
+
+    static FinishedMatchRetention create(final ScoreboardConfiguration configuration) {
+        if (configuration.retentionPolicy().isUnlimited()) {
+            return null;
+        }
+        return new FinishedMatchRetention(configuration.retentionPolicy(),
+                new MatchArchive(configuration.archiveDirectory(), MatchArchive.DEFAULT_SEGMENT_SIZE),
+                configuration.clock());
+    }
+
+    void finished(final long matchId) {
+        if (size == finishedMatchIds.length) {
+            grow();
+        }
+        final int tail = (head + size) & (finishedMatchIds.length - 1);
+        finishedMatchIds[tail] = matchId;
+        finishMillis[tail] = clock.millis();
+        size++;
+    }
+
+    /**
+     * Move finished matches over count limit or older than age limit from memory to archive.
+     * It's called when a match is started or finished only, so without writes matches older than
+     * age limit stay in memory until the next start or finish
+     * @param matchesById matches kept in memory
+     * @param history finished matches kept in memory, archived matches are evicted from it too
+     * @param evictedMatchListener notified with id of every archived match
+     */
+    void evict(final LongMatchMap matchesById, final MatchHistory history, final LongConsumer evictedMatchListener) {
+        final long nowMillis = policy.maxAge() == null ? 0 : clock.millis();
+        while (size > 0 && (size > policy.maxFinishedMatches()
+                || (policy.maxAge() != null && nowMillis - finishMillis[head] > maxAgeMillis))) {
+            final long matchId = finishedMatchIds[head];
+            head = (head + 1) & (finishedMatchIds.length - 1);
+            size--;
+            final Match match = matchesById.remove(matchId);
+            history.evictOldest(matchId);
+            if (match != null) {
+                archive.append(match);
+                evictedMatchListener.accept(match.id());
+            }
+        }
+    }
+
+    private void grow() {
+        final long[] grownIds = new long[finishedMatchIds.length << 1];
+        final long[] grownMillis = new long[grownIds.length];
+        for (int i = 0; i < size; i++) {
+            final int index = (head + i) & (finishedMatchIds.length - 1);
+            grownIds[i] = finishedMatchIds[index];
+            grownMillis[i] = finishMillis[index];
+        }
+        finishedMatchIds = grownIds;
+        finishMillis = grownMillis;
+        head = 0;
+    }
+
+    private static long toMillis(final FinishedMatchRetentionPolicy policy) {
+        try {
+            return policy.maxAge().toMillis();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    int archivedCount() {
+        return archive.size();
+    }
+
+    void forceArchive() {
+        archive.force();
+    }
+
+    long maxArchivedMatchId() {
+        return archive.maxMatchId();
+    }
+
+    /**
+     * @return archived match or null if it isn't archived
+     */
+    Match findArchived(final long matchId) {
+        return archive.find(matchId);
+    }
+
+    /**
+     * @return archived matches of the country in the order they were finished
+     */
+    List<Match> findArchivedByCountry(final String country) {
+        return archive.findByCountry(country);
+    }
+
+    /**
+     * @return archived matches started at from or later and before to, ordered by start time
+     */
+    List<Match> findArchivedStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return archive.findStartedBetween(from, to);
+    }
+}
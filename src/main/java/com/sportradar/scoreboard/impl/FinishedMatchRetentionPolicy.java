@@ -0,0 +1,38 @@
+package com.sportradar.scoreboard.impl;
+
+import java.time.Duration;
+
+/**
+ * Defines how many finished matches are kept in memory. Matches over the limit are moved
+ * to the on-disk archive and still could be found by id.
+ * @param maxFinishedMatches max amount of finished matches kept in memory
+ * @param maxAge max time since finish of the match kept in memory, null means no age limit. Age is checked
+ *               when a match is started or finished, so older matches could stay in memory until the next write
+ */
+public record FinishedMatchRetentionPolicy(long maxFinishedMatches, Duration maxAge) {
+
+    public FinishedMatchRetentionPolicy {
+        if (maxFinishedMatches < 0) {
+            throw new IllegalArgumentException("maxFinishedMatches cannot be negative");
+        }
+        if (maxAge != null && maxAge.isNegative()) {
+            throw new IllegalArgumentException("maxAge cannot be negative");
+        }
+    }
+
+    public static FinishedMatchRetentionPolicy unlimited() {
+        return new FinishedMatchRetentionPolicy(Long.MAX_VALUE, null);
+    }
+
+    public static FinishedMatchRetentionPolicy byCount(final long maxFinishedMatches) {
+        return new FinishedMatchRetentionPolicy(maxFinishedMatches, null);
+    }
+
+    public static FinishedMatchRetentionPolicy byAge(final Duration maxAge) {
+        return new FinishedMatchRetentionPolicy(Long.MAX_VALUE, maxAge);
+    }
+
+    public boolean isUnlimited() {
+        return maxFinishedMatches == Long.MAX_VALUE && maxAge == null;
+    }
+}
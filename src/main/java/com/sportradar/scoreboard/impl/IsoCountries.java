@@ -0,0 +1,513 @@
+package com.sportradar.scoreboard.impl;
+
+/**
+ * Generated by CountryTableGenerator from ISO countries of JDK 17, don't edit.
+ * Ordinal of the country is its index in both arrays.
+ */
+final class IsoCountries {
+    static final String[] ISO_CODES = {
+            "AND",
+            "ARE",
+            "AFG",
+            "ATG",
+            "AIA",
+            "ALB",
+            "ARM",
+            "AGO",
+            "ATA",
+            "ARG",
+            "ASM",
+            "AUT",
+            "AUS",
+            "ABW",
+            "ALA",
+            "AZE",
+            "BIH",
+            "BRB",
+            "BGD",
+            "BEL",
+            "BFA",
+            "BGR",
+            "BHR",
+            "BDI",
+            "BEN",
+            "BLM",
+            "BMU",
+            "BRN",
+            "BOL",
+            "BES",
+            "BRA",
+            "BHS",
+            "BTN",
+            "BVT",
+            "BWA",
+            "BLR",
+            "BLZ",
+            "CAN",
+            "CCK",
+            "COD",
+            "CAF",
+            "COG",
+            "CHE",
+            "CIV",
+            "COK",
+            "CHL",
+            "CMR",
+            "CHN",
+            "COL",
+            "CRI",
+            "CUB",
+            "CPV",
+            "CUW",
+            "CXR",
+            "CYP",
+            "CZE",
+            "DEU",
+            "DJI",
+            "DNK",
+            "DMA",
+            "DOM",
+            "DZA",
+            "ECU",
+            "EST",
+            "EGY",
+            "ESH",
+            "ERI",
+            "ESP",
+            "ETH",
+            "FIN",
+            "FJI",
+            "FLK",
+            "FSM",
+            "FRO",
+            "FRA",
+            "GAB",
+            "GBR",
+            "GRD",
+            "GEO",
+            "GUF",
+            "GGY",
+            "GHA",
+            "GIB",
+            "GRL",
+            "GMB",
+            "GIN",
+            "GLP",
+            "GNQ",
+            "GRC",
+            "SGS",
+            "GTM",
+            "GUM",
+            "GNB",
+            "GUY",
+            "HKG",
+            "HMD",
+            "HND",
+            "HRV",
+            "HTI",
+            "HUN",
+            "IDN",
+            "IRL",
+            "ISR",
+            "IMN",
+            "IND",
+            "IOT",
+            "IRQ",
+            "IRN",
+            "ISL",
+            "ITA",
+            "JEY",
+            "JAM",
+            "JOR",
+            "JPN",
+            "KEN",
+            "KGZ",
+            "KHM",
+            "KIR",
+            "COM",
+            "KNA",
+            "PRK",
+            "KOR",
+            "KWT",
+            "CYM",
+            "KAZ",
+            "LAO",
+            "LBN",
+            "LCA",
+            "LIE",
+            "LKA",
+            "LBR",
+            "LSO",
+            "LTU",
+            "LUX",
+            "LVA",
+            "LBY",
+            "MAR",
+            "MCO",
+            "MDA",
+            "MNE",
+            "MAF",
+            "MDG",
+            "MHL",
+            "MKD",
+            "MLI",
+            "MMR",
+            "MNG",
+            "MAC",
+            "MNP",
+            "MTQ",
+            "MRT",
+            "MSR",
+            "MLT",
+            "MUS",
+            "MDV",
+            "MWI",
+            "MEX",
+            "MYS",
+            "MOZ",
+            "NAM",
+            "NCL",
+            "NER",
+            "NFK",
+            "NGA",
+            "NIC",
+            "NLD",
+            "NOR",
+            "NPL",
+            "NRU",
+            "NIU",
+            "NZL",
+            "OMN",
+            "PAN",
+            "PER",
+            "PYF",
+            "PNG",
+            "PHL",
+            "PAK",
+            "POL",
+            "SPM",
+            "PCN",
+            "PRI",
+            "PSE",
+            "PRT",
+            "PLW",
+            "PRY",
+            "QAT",
+            "REU",
+            "ROU",
+            "SRB",
+            "RUS",
+            "RWA",
+            "SAU",
+            "SLB",
+            "SYC",
+            "SDN",
+            "SWE",
+            "SGP",
+            "SHN",
+            "SVN",
+            "SJM",
+            "SVK",
+            "SLE",
+            "SMR",
+            "SEN",
+            "SOM",
+            "SUR",
+            "SSD",
+            "STP",
+            "SLV",
+            "SXM",
+            "SYR",
+            "SWZ",
+            "TCA",
+            "TCD",
+            "ATF",
+            "TGO",
+            "THA",
+            "TJK",
+            "TKL",
+            "TLS",
+            "TKM",
+            "TUN",
+            "TON",
+            "TUR",
+            "TTO",
+            "TUV",
+            "TWN",
+            "TZA",
+            "UKR",
+            "UGA",
+            "UMI",
+            "USA",
+            "URY",
+            "UZB",
+            "VAT",
+            "VCT",
+            "VEN",
+            "VGB",
+            "VIR",
+            "VNM",
+            "VUT",
+            "WLF",
+            "WSM",
+            "YEM",
+            "MYT",
+            "ZAF",
+            "ZMB",
+            "ZWE",
+    };
+    static final String[] NAMES = {
+            "Andorra",
+            "United Arab Emirates",
+            "Afghanistan",
+            "Antigua & Barbuda",
+            "Anguilla",
+            "Albania",
+            "Armenia",
+            "Angola",
+            "Antarctica",
+            "Argentina",
+            "American Samoa",
+            "Austria",
+            "Australia",
+            "Aruba",
+            "\u00c5land Islands",
+            "Azerbaijan",
+            "Bosnia & Herzegovina",
+            "Barbados",
+            "Bangladesh",
+            "Belgium",
+            "Burkina Faso",
+            "Bulgaria",
+            "Bahrain",
+            "Burundi",
+            "Benin",
+            "St. Barth\u00e9lemy",
+            "Bermuda",
+            "Brunei",
+            "Bolivia",
+            "Caribbean Netherlands",
+            "Brazil",
+            "Bahamas",
+            "Bhutan",
+            "Bouvet Island",
+            "Botswana",
+            "Belarus",
+            "Belize",
+            "Canada",
+            "Cocos (Keeling) Islands",
+            "Congo - Kinshasa",
+            "Central African Republic",
+            "Congo - Brazzaville",
+            "Switzerland",
+            "C\u00f4te d\u2019Ivoire",
+            "Cook Islands",
+            "Chile",
+            "Cameroon",
+            "China",
+            "Colombia",
+            "Costa Rica",
+            "Cuba",
+            "Cape Verde",
+            "Cura\u00e7ao",
+            "Christmas Island",
+            "Cyprus",
+            "Czechia",
+            "Germany",
+            "Djibouti",
+            "Denmark",
+            "Dominica",
+            "Dominican Republic",
+            "Algeria",
+            "Ecuador",
+            "Estonia",
+            "Egypt",
+            "Western Sahara",
+            "Eritrea",
+            "Spain",
+            "Ethiopia",
+            "Finland",
+            "Fiji",
+            "Falkland Islands",
+            "Micronesia",
+            "Faroe Islands",
+            "France",
+            "Gabon",
+            "United Kingdom",
+            "Grenada",
+            "Georgia",
+            "French Guiana",
+            "Guernsey",
+            "Ghana",
+            "Gibraltar",
+            "Greenland",
+            "Gambia",
+            "Guinea",
+            "Guadeloupe",
+            "Equatorial Guinea",
+            "Greece",
+            "South Georgia & South Sandwich Islands",
+            "Guatemala",
+            "Guam",
+            "Guinea-Bissau",
+            "Guyana",
+            "Hong Kong SAR China",
+            "Heard & McDonald Islands",
+            "Honduras",
+            "Croatia",
+            "Haiti",
+            "Hungary",
+            "Indonesia",
+            "Ireland",
+            "Israel",
+            "Isle of Man",
+            "India",
+            "British Indian Ocean Territory",
+            "Iraq",
+            "Iran",
+            "Iceland",
+            "Italy",
+            "Jersey",
+            "Jamaica",
+            "Jordan",
+            "Japan",
+            "Kenya",
+            "Kyrgyzstan",
+            "Cambodia",
+            "Kiribati",
+            "Comoros",
+            "St. Kitts & Nevis",
+            "North Korea",
+            "South Korea",
+            "Kuwait",
+            "Cayman Islands",
+            "Kazakhstan",
+            "Laos",
+            "Lebanon",
+            "St. Lucia",
+            "Liechtenstein",
+            "Sri Lanka",
+            "Liberia",
+            "Lesotho",
+            "Lithuania",
+            "Luxembourg",
+            "Latvia",
+            "Libya",
+            "Morocco",
+            "Monaco",
+            "Moldova",
+            "Montenegro",
+            "St. Martin",
+            "Madagascar",
+            "Marshall Islands",
+            "North Macedonia",
+            "Mali",
+            "Myanmar (Burma)",
+            "Mongolia",
+            "Macao SAR China",
+            "Northern Mariana Islands",
+            "Martinique",
+            "Mauritania",
+            "Montserrat",
+            "Malta",
+            "Mauritius",
+            "Maldives",
+            "Malawi",
+            "Mexico",
+            "Malaysia",
+            "Mozambique",
+            "Namibia",
+            "New Caledonia",
+            "Niger",
+            "Norfolk Island",
+            "Nigeria",
+            "Nicaragua",
+            "Netherlands",
+            "Norway",
+            "Nepal",
+            "Nauru",
+            "Niue",
+            "New Zealand",
+            "Oman",
+            "Panama",
+            "Peru",
+            "French Polynesia",
+            "Papua New Guinea",
+            "Philippines",
+            "Pakistan",
+            "Poland",
+            "St. Pierre & Miquelon",
+            "Pitcairn Islands",
+            "Puerto Rico",
+            "Palestinian Territories",
+            "Portugal",
+            "Palau",
+            "Paraguay",
+            "Qatar",
+            "R\u00e9union",
+            "Romania",
+            "Serbia",
+            "Russia",
+            "Rwanda",
+            "Saudi Arabia",
+            "Solomon Islands",
+            "Seychelles",
+            "Sudan",
+            "Sweden",
+            "Singapore",
+            "St. Helena",
+            "Slovenia",
+            "Svalbard & Jan Mayen",
+            "Slovakia",
+            "Sierra Leone",
+            "San Marino",
+            "Senegal",
+            "Somalia",
+            "Suriname",
+            "South Sudan",
+            "S\u00e3o Tom\u00e9 & Pr\u00edncipe",
+            "El Salvador",
+            "Sint Maarten",
+            "Syria",
+            "Eswatini",
+            "Turks & Caicos Islands",
+            "Chad",
+            "French Southern Territories",
+            "Togo",
+            "Thailand",
+            "Tajikistan",
+            "Tokelau",
+            "Timor-Leste",
+            "Turkmenistan",
+            "Tunisia",
+            "Tonga",
+            "Turkey",
+            "Trinidad & Tobago",
+            "Tuvalu",
+            "Taiwan",
+            "Tanzania",
+            "Ukraine",
+            "Uganda",
+            "U.S. Outlying Islands",
+            "United States",
+            "Uruguay",
+            "Uzbekistan",
+            "Vatican City",
+            "St. Vincent & Grenadines",
+            "Venezuela",
+            "British Virgin Islands",
+            "U.S. Virgin Islands",
+            "Vietnam",
+            "Vanuatu",
+            "Wallis & Futuna",
+            "Samoa",
+            "Yemen",
+            "Mayotte",
+            "South Africa",
+            "Zambia",
+            "Zimbabwe",
+    };
+
+    private IsoCountries() {
+    }
+}
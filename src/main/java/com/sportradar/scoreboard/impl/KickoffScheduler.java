@@ -0,0 +1,262 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.exception.CountryNotSupportedException;
+import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.MatchStartStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Matches scheduled to start at their start date, kept in a hashed timer wheel. Bucket of the match is its
+ * start tick modulo wheel size, so scheduling and cancel cost O(1) and every tick visits one bucket however
+ * many matches are scheduled. Matches of the tick are passed to the starter together, so the scoreboard
+ * starts them in one batch. Teams are validated when the match is scheduled: team has at most one scheduled
+ * match. Outcome of every kickoff is passed to the listener of the match, so a dropped match isn't only logged.
+ * Ticker thread is started with the first scheduled match, state is guarded by the scheduler monitor.
+ * Scheduled matches are kept only in memory.
+ */
+final class KickoffScheduler implements AutoCloseable {
+    static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+    static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final Logger logger = LoggerFactory.getLogger(KickoffScheduler.class);
+    private static final AtomicInteger tickerCounter = new AtomicInteger();
+    private static final Comparator<Kickoff> KICKOFF_ORDER = Comparator.comparing(Kickoff::startDate)
+            .thenComparingLong(Kickoff::scheduledMatchId);
+
+    private final Clock clock;
+    private final long tickMillis;
+    private final long originMillis;
+    private final List<List<Kickoff>> buckets;
+    private final int mask;
+    private final CountryTable countries;
+    private final Function<List<Kickoff>, List<MatchStartResult>> starter;
+    private final Map<Long, Kickoff> kickoffsById = new HashMap<>();
+    /**
+     * Id of scheduled match by country ordinal, 0 means that country has no scheduled match
+     */
+    private final long[] scheduledMatchIdByCountry;
+    private long scheduledMatchIdCounter;
+    /**
+     * The last tick which bucket is visited
+     */
+    private long processedTick;
+    private Thread ticker;
+    private volatile boolean running = true;
+
+    /**
+     * @param starter starts matches of a tick and returns outcome of every match in the same order,
+     *                it's called by the ticker thread without scheduler monitor
+     */
+    KickoffScheduler(final ScoreboardConfiguration configuration,
+                     final Function<List<Kickoff>, List<MatchStartResult>> starter) {
+        this(configuration.clock(), DEFAULT_TICK, DEFAULT_WHEEL_SIZE, configuration.countries(), starter);
+    }
+
+    KickoffScheduler(final Clock clock, final Duration tick, final int wheelSize, final CountryTable countries,
+                     final Function<List<Kickoff>, List<MatchStartResult>> starter) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.originMillis = clock.millis();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.mask = wheelSize - 1;
+        this.countries = countries;
+        this.starter = starter;
+        this.scheduledMatchIdByCountry = new long[countries.size()];
+    }
+
+    /**
+     * Schedule the match and start ticker thread if it isn't started yet
+     * @param listener called by the ticker thread with outcome of the kickoff
+     * @return id of scheduled match
+     */
+    synchronized long schedule(final String homeTeamIsoCode, final String awayTeamIsoCode, final LocalDateTime startDate,
+                               final Consumer<MatchStartResult> listener) {
+        if (!running) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+        final long scheduledMatchId = register(homeTeamIsoCode, awayTeamIsoCode, startDate, listener);
+        if (ticker == null) {
+            ticker = new Thread(this::runTicker, "scoreboard-kickoff-" + tickerCounter.incrementAndGet());
+            ticker.setDaemon(true);
+            ticker.start();
+        }
+        return scheduledMatchId;
+    }
+
+    /**
+     * Put the match into the wheel, match which start date is passed is started by the next tick
+     * @return id of scheduled match
+     */
+    synchronized long register(final String homeTeamIsoCode, final String awayTeamIsoCode, final LocalDateTime startDate,
+                               final Consumer<MatchStartResult> listener) {
+        Objects.requireNonNull(startDate, "startDate cannot be null");
+        Objects.requireNonNull(listener, "listener cannot be null");
+        final int homeTeamCountry = getCountryOrdinal(homeTeamIsoCode);
+        final int awayTeamCountry = getCountryOrdinal(awayTeamIsoCode);
+        checkIsCountryScheduled(homeTeamCountry);
+        checkIsCountryScheduled(awayTeamCountry);
+        final long startMillis = startDate.atZone(clock.getZone()).toInstant().toEpochMilli();
+        final long tick = Math.max(-Math.floorDiv(originMillis - startMillis, tickMillis), processedTick + 1);
+        final Kickoff kickoff = new Kickoff(++scheduledMatchIdCounter, homeTeamIsoCode, awayTeamIsoCode, startDate,
+                homeTeamCountry, awayTeamCountry, tick, listener);
+        buckets.get((int) (tick & mask)).add(kickoff);
+        kickoffsById.put(kickoff.scheduledMatchId(), kickoff);
+        scheduledMatchIdByCountry[homeTeamCountry] = kickoff.scheduledMatchId();
+        scheduledMatchIdByCountry[awayTeamCountry] = kickoff.scheduledMatchId();
+        return kickoff.scheduledMatchId();
+    }
+
+    /**
+     * @return false if the match is already started or cancelled
+     */
+    synchronized boolean cancel(final long scheduledMatchId) {
+        final Kickoff kickoff = kickoffsById.remove(scheduledMatchId);
+        if (kickoff == null) {
+            return false;
+        }
+        buckets.get((int) (kickoff.tick() & mask)).remove(kickoff);
+        release(kickoff);
+        return true;
+    }
+
+    /**
+     * Visit buckets of ticks passed till now, a bucket is visited at most once even if clock jumped
+     * more than whole wheel forward
+     * @return matches due by now in the order of start date
+     */
+    synchronized List<Kickoff> expire(final long nowMillis) {
+        final long nowTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        if (nowTick <= processedTick) {
+            return List.of();
+        }
+        final List<Kickoff> due = new ArrayList<>();
+        final long lastVisitedTick = Math.min(nowTick, processedTick + buckets.size());
+        for (long tick = processedTick + 1; tick <= lastVisitedTick; tick++) {
+            final List<Kickoff> bucket = buckets.get((int) (tick & mask));
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            bucket.removeIf(kickoff -> {
+                if (kickoff.tick() > nowTick) {
+                    return false;
+                }
+                due.add(kickoff);
+                return true;
+            });
+        }
+        processedTick = nowTick;
+        for (Kickoff kickoff : due) {
+            kickoffsById.remove(kickoff.scheduledMatchId());
+            release(kickoff);
+        }
+        due.sort(KICKOFF_ORDER);
+        return due;
+    }
+
+    synchronized int size() {
+        return kickoffsById.size();
+    }
+
+    /**
+     * Stop the ticker, matches which aren't started yet are dropped
+     */
+    @Override
+    public void close() {
+        final Thread stoppedTicker;
+        synchronized (this) {
+            running = false;
+            stoppedTicker = ticker;
+        }
+        if (stoppedTicker != null) {
+            LockSupport.unpark(stoppedTicker);
+        }
+    }
+
+    private void runTicker() {
+        final long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        while (running) {
+            final List<Kickoff> due = expire(clock.millis());
+            if (!due.isEmpty()) {
+                kickoff(due);
+            }
+            LockSupport.parkNanos(tickNanos);
+        }
+    }
+
+    /**
+     * Called by the ticker thread, start due matches and pass outcome of every match to its listener.
+     * If the starter throws, every match of the batch is reported as {@link MatchStartStatus#KICKOFF_FAILED}
+     */
+    void kickoff(final List<Kickoff> due) {
+        List<MatchStartResult> results;
+        try {
+            results = starter.apply(due);
+        } catch (RuntimeException e) {
+            logger.error("Scheduled matches {} failed to start", due, e);
+            results = null;
+        }
+        for (int i = 0; i < due.size(); i++) {
+            final Kickoff kickoff = due.get(i);
+            final MatchStartResult result = results != null
+                    ? results.get(i) : MatchStartResult.failed(MatchStartStatus.KICKOFF_FAILED);
+            if (!result.isStarted()) {
+                logger.warn("Scheduled match {} of {} and {} isn't started: {}", kickoff.scheduledMatchId(),
+                        kickoff.homeTeamIsoCode(), kickoff.awayTeamIsoCode(), result.status());
+            }
+            try {
+                kickoff.listener().accept(result);
+            } catch (RuntimeException e) {
+                logger.error("Listener of scheduled match {} failed", kickoff.scheduledMatchId(), e);
+            }
+        }
+    }
+
+    private int getCountryOrdinal(final String iso3Code) {
+        final int country = countries.ordinalOfIsoCode(iso3Code);
+        if (country == CountryTable.UNKNOWN) {
+            throw new CountryNotSupportedException(iso3Code);
+        }
+        return country;
+    }
+
+    private void checkIsCountryScheduled(final int country) {
+        if (scheduledMatchIdByCountry[country] != 0) {
+            throw new TeamAlreadyPlayingException(countries.name(country));
+        }
+    }
+
+    private void release(final Kickoff kickoff) {
+        scheduledMatchIdByCountry[kickoff.homeTeamCountry()] = 0;
+        scheduledMatchIdByCountry[kickoff.awayTeamCountry()] = 0;
+    }
+
+    /**
+     * @param tick tick after the start date, the match is started by it
+     * @param listener receives outcome of the kickoff
+     */
+    record Kickoff(long scheduledMatchId, String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate,
+                   int homeTeamCountry, int awayTeamCountry, long tick, Consumer<MatchStartResult> listener) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.sportradar.scoreboard.impl;
+
+/**
+ * Defines which lock guards {@link ScoreboardImpl}
+ */
+public enum LockMode {
+    /**
+     * {@link java.util.concurrent.locks.ReentrantReadWriteLock} for all operations. Every read
+     * updates shared reader count.
+     */
+    READ_WRITE,
+    /**
+     * {@link java.util.concurrent.locks.StampedLock}, point lookup of match kept in memory is an optimistic
+     * read which writes nothing shared and falls back to read lock only when a write happened meanwhile.
+     * Lock queue length isn't available in this mode.
+     */
+    OPTIMISTIC
+}
@@ -0,0 +1,98 @@
+package com.sportradar.scoreboard.impl;
+
+/**
+ * Open addressing map from match id to a non-negative long, for example position of the archived match.
+ * Keys and values are kept in primitive arrays, so an entry takes 32 bytes at most and nothing is boxed.
+ * Match ids start from 1, that's why 0 marks an empty slot. Entries are never removed. It isn't thread safe.
+ */
+final class LongLongMap {
+    static final long NO_VALUE = -1L;
+    private static final long EMPTY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    LongLongMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return value or {@link #NO_VALUE} if there is no such key
+     */
+    long get(final long key) {
+        if (key == EMPTY) {
+            return NO_VALUE;
+        }
+        for (int index = index(key); ; index = (index + 1) & mask) {
+            final long current = keys[index];
+            if (current == key) {
+                return values[index];
+            }
+            if (current == EMPTY) {
+                return NO_VALUE;
+            }
+        }
+    }
+
+    /**
+     * Replace value of the key if it's already present
+     */
+    void put(final long key, final long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Match id " + EMPTY + " is reserved");
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative");
+        }
+        int index = index(key);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int index(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+            if (oldKeys[oldIndex] != EMPTY) {
+                int index = index(oldKeys[oldIndex]);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[oldIndex];
+                values[index] = oldValues[oldIndex];
+            }
+        }
+    }
+}
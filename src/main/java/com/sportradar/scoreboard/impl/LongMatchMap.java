@@ -0,0 +1,178 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+
+import java.util.function.Consumer;
+
+/**
+ * Open addressing map from match id to match. Ids are kept in a primitive array and probed
+ * linearly, so lookup neither boxes id nor follows pointers of hash map entries.
+ * Match ids start from 1, that's why 0 marks an empty slot. It isn't thread safe.
+ */
+final class LongMatchMap {
+    private static final long EMPTY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Match[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    LongMatchMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongMatchMap(final int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1);
+    }
+
+    Match get(final long key) {
+        if (key == EMPTY) {
+            return null;
+        }
+        for (int index = index(key); ; index = (index + 1) & mask) {
+            final long current = keys[index];
+            if (current == key) {
+                return values[index];
+            }
+            if (current == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Lookup which could run concurrently with writes, for example under optimistic read of
+     * {@link java.util.concurrent.locks.StampedLock}. Arrays could be replaced or shifted meanwhile,
+     * so it never throws or loops forever, but result is valid only if no write happened during the call.
+     * @return match, null if it isn't found or map is changing
+     */
+    Match getOptimistic(final long key) {
+        final long[] currentKeys = keys;
+        final Match[] currentValues = values;
+        final int currentMask = mask;
+        if (key == EMPTY || currentKeys.length != currentValues.length || currentKeys.length != currentMask + 1) {
+            return null;
+        }
+        int index = index(key, currentMask);
+        for (int probes = 0; probes < currentKeys.length; probes++, index = (index + 1) & currentMask) {
+            final long current = currentKeys[index];
+            if (current == key) {
+                return currentValues[index];
+            }
+            if (current == EMPTY) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    boolean containsKey(final long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return previous match with the same id or null
+     */
+    Match put(final long key, final Match value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Match id " + EMPTY + " is reserved");
+        }
+        int index = index(key);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                final Match previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Remove match and shift following entries of the probe sequence back, so no tombstones are left
+     * @return removed match or null
+     */
+    Match remove(final long key) {
+        if (key == EMPTY) {
+            return null;
+        }
+        int gap = index(key);
+        while (keys[gap] != key) {
+            if (keys[gap] == EMPTY) {
+                return null;
+            }
+            gap = (gap + 1) & mask;
+        }
+        final Match removed = values[gap];
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (keys[index] == EMPTY) {
+                break;
+            }
+            final int ideal = index(keys[index]);
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(final Consumer<Match> action) {
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] != EMPTY) {
+                action.accept(values[index]);
+            }
+        }
+    }
+
+    private int index(final long key) {
+        return index(key, mask);
+    }
+
+    private static int index(final long key, final int mask) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new Match[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final Match[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+            if (oldKeys[oldIndex] != EMPTY) {
+                int index = index(oldKeys[oldIndex]);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[oldIndex];
+                values[index] = oldValues[oldIndex];
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Append-only archive of finished matches. Matches are written one after another into
+ * memory-mapped segment files of fixed size, only primitive id to position index is kept in heap.
+ * Segments left by previous scoreboard are mapped and indexed on open, the first zero id ends records
+ * of a segment. Match appended again replaces the previous record in the index. History queries scan
+ * segments, start time range and countries of every segment are kept in heap to skip segments without them.
+ * Appends should be called under write lock, reads under read lock.
+ */
+final class MatchArchive {
+    static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+    private static final String SEGMENT_PREFIX = "matches-";
+    private static final String SEGMENT_SUFFIX = ".segment";
+    /**
+     * id, start epoch second, start nano, home score, away score, version, finished flag, two name lengths
+     */
+    private static final int FIXED_RECORD_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES
+            + Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES + Short.BYTES + Short.BYTES;
+    /**
+     * Offset of home country name length in the record
+     */
+    private static final int NAMES_OFFSET = FIXED_RECORD_SIZE - Short.BYTES - Short.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<SegmentSummary> summaries = new ArrayList<>();
+    /**
+     * Segment number in high 32 bits and position in the segment in low 32 bits
+     */
+    private final LongLongMap positionsById = new LongLongMap();
+    private long maxMatchId;
+    /**
+     * Segments before it are forced to disk and aren't changed anymore
+     */
+    private int firstUnforcedSegment;
+
+    MatchArchive(final Path directory, final int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            final List<Path> existingSegments = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                    SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                stream.forEach(existingSegments::add);
+            }
+            existingSegments.sort(null);
+            for (final Path existingSegment : existingSegments) {
+                openSegment(existingSegment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archive " + directory + " cannot be opened", e);
+        }
+    }
+
+    void append(final Match match) {
+        final byte[] homeCountry = match.homeTeamScore().country().getBytes(StandardCharsets.UTF_8);
+        final byte[] awayCountry = match.awayTeamScore().country().getBytes(StandardCharsets.UTF_8);
+        final int recordSize = FIXED_RECORD_SIZE + homeCountry.length + awayCountry.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Match " + match.id() + " doesn't fit into archive segment");
+        }
+        MappedByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < recordSize) {
+            segment = createSegment();
+        }
+        final long position = ((long) (segments.size() - 1) << 32) | segment.position();
+        segment.putLong(match.id())
+                .putLong(match.startDate().toEpochSecond(ZoneOffset.UTC))
+                .putInt(match.startDate().getNano())
+                .putInt(match.homeTeamScore().score())
+                .putInt(match.awayTeamScore().score())
+                .putLong(match.version())
+                .put((byte) (match.finished() ? 1 : 0))
+                .putShort((short) homeCountry.length)
+                .put(homeCountry)
+                .putShort((short) awayCountry.length)
+                .put(awayCountry);
+        positionsById.put(match.id(), position);
+        maxMatchId = Math.max(maxMatchId, match.id());
+        summaries.get(summaries.size() - 1).add(match);
+    }
+
+    /**
+     * @return archived match or null if it isn't archived
+     */
+    Match find(final long matchId) {
+        final long position = positionsById.get(matchId);
+        if (position == LongLongMap.NO_VALUE) {
+            return null;
+        }
+        return read(segments.get((int) (position >>> 32)), (int) position);
+    }
+
+    /**
+     * @return archived matches of the country in the order they were archived
+     */
+    List<Match> findByCountry(final String country) {
+        return scan(summary -> summary.countries.contains(country),
+                match -> match.homeTeamScore().country().equals(country)
+                        || match.awayTeamScore().country().equals(country));
+    }
+
+    /**
+     * @return archived matches started at from or later and before to, ordered by start time
+     * and then by archive order
+     */
+    List<Match> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final List<Match> matches = scan(summary -> summary.mayContainStartedBetween(from, to),
+                match -> !match.startDate().isBefore(from) && match.startDate().isBefore(to));
+        matches.sort(Comparator.comparing(Match::startDate));
+        return matches;
+    }
+
+    int size() {
+        return positionsById.size();
+    }
+
+    /**
+     * Force appended records to disk, segments completed by previous force aren't forced again
+     */
+    void force() {
+        for (int segmentNumber = firstUnforcedSegment; segmentNumber < segments.size(); segmentNumber++) {
+            segments.get(segmentNumber).force();
+        }
+        firstUnforcedSegment = Math.max(segments.size() - 1, 0);
+    }
+
+    /**
+     * @return the greatest archived match id, 0 if archive is empty
+     */
+    long maxMatchId() {
+        return maxMatchId;
+    }
+
+    private void openSegment(final Path path) throws IOException {
+        if (!path.equals(segmentPath(segments.size()))) {
+            throw new IllegalStateException("Archive segment " + segmentPath(segments.size()) + " is missing");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            segments.add(segment);
+            summaries.add(new SegmentSummary());
+            indexSegment(segments.size() - 1, segment);
+        }
+    }
+
+    /**
+     * Index records until the first zero id or record which doesn't fit, appends continue after it
+     */
+    private void indexSegment(final int segmentNumber, final MappedByteBuffer segment) {
+        int position = 0;
+        while (segment.limit() - position >= FIXED_RECORD_SIZE) {
+            final long id = segment.getLong(position);
+            if (id == 0) {
+                break;
+            }
+            final int homeCountryEnd = position + NAMES_OFFSET + Short.BYTES + segment.getShort(position + NAMES_OFFSET);
+            if (homeCountryEnd + Short.BYTES > segment.limit()) {
+                break;
+            }
+            final int recordEnd = homeCountryEnd + Short.BYTES + segment.getShort(homeCountryEnd);
+            if (recordEnd > segment.limit()) {
+                break;
+            }
+            positionsById.put(id, ((long) segmentNumber << 32) | position);
+            maxMatchId = Math.max(maxMatchId, id);
+            summaries.get(segmentNumber).add(read(segment, position));
+            position = recordEnd;
+        }
+        segment.position(position);
+    }
+
+    /**
+     * Records replaced by later append of the same match are skipped
+     */
+    private List<Match> scan(final Predicate<SegmentSummary> segmentFilter, final Predicate<Match> filter) {
+        final List<Match> matches = new ArrayList<>();
+        for (int segmentNumber = 0; segmentNumber < segments.size(); segmentNumber++) {
+            if (!segmentFilter.test(summaries.get(segmentNumber))) {
+                continue;
+            }
+            final MappedByteBuffer segment = segments.get(segmentNumber);
+            int position = 0;
+            while (position < segment.position()) {
+                final Match match = read(segment, position);
+                if (positionsById.get(match.id()) == (((long) segmentNumber << 32) | position) && filter.test(match)) {
+                    matches.add(match);
+                }
+                final int homeCountryEnd = position + NAMES_OFFSET + Short.BYTES
+                        + segment.getShort(position + NAMES_OFFSET);
+                position = homeCountryEnd + Short.BYTES + segment.getShort(homeCountryEnd);
+            }
+        }
+        return matches;
+    }
+
+    private static Match read(final MappedByteBuffer segment, final int position) {
+        int index = position;
+        final long id = segment.getLong(index);
+        index += Long.BYTES;
+        final long startEpochSecond = segment.getLong(index);
+        index += Long.BYTES;
+        final int startNano = segment.getInt(index);
+        index += Integer.BYTES;
+        final int homeScore = segment.getInt(index);
+        index += Integer.BYTES;
+        final int awayScore = segment.getInt(index);
+        index += Integer.BYTES;
+        final long version = segment.getLong(index);
+        index += Long.BYTES;
+        final boolean finished = segment.get(index) == 1;
+        index += Byte.BYTES;
+        final byte[] homeCountry = new byte[segment.getShort(index)];
+        index += Short.BYTES;
+        segment.get(index, homeCountry);
+        index += homeCountry.length;
+        final byte[] awayCountry = new byte[segment.getShort(index)];
+        index += Short.BYTES;
+        segment.get(index, awayCountry);
+
+        return new Match(id, new Score(new String(homeCountry, StandardCharsets.UTF_8), homeScore),
+                new Score(new String(awayCountry, StandardCharsets.UTF_8), awayScore),
+                LocalDateTime.ofEpochSecond(startEpochSecond, startNano, ZoneOffset.UTC), finished, version);
+    }
+
+    private Path segmentPath(final int segmentNumber) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, segmentNumber, SEGMENT_SUFFIX));
+    }
+
+    private MappedByteBuffer createSegment() {
+        final Path path = segmentPath(segments.size());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            segments.add(segment);
+            summaries.add(new SegmentSummary());
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archive segment " + path + " cannot be created", e);
+        }
+    }
+
+    /**
+     * Start time range and countries of the matches in a segment
+     */
+    private static final class SegmentSummary {
+        private final Set<String> countries = new HashSet<>();
+        private LocalDateTime firstStart;
+        private LocalDateTime lastStart;
+
+        private void add(final Match match) {
+            countries.add(match.homeTeamScore().country());
+            countries.add(match.awayTeamScore().country());
+            if (firstStart == null || match.startDate().isBefore(firstStart)) {
+                firstStart = match.startDate();
+            }
+            if (lastStart == null || match.startDate().isAfter(lastStart)) {
+                lastStart = match.startDate();
+            }
+        }
+
+        private boolean mayContainStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+            return firstStart != null && firstStart.isBefore(to) && !lastStart.isBefore(from);
+        }
+    }
+}
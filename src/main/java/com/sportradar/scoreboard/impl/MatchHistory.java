@@ -0,0 +1,235 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finished matches kept in memory stored column-wise in primitive arrays, a match is a row appended when
+ * it's finished and takes about 52 bytes together with its index entries. Matches are created only for
+ * query results. Rows of every country are listed in finish order, rows are also kept sorted by start time,
+ * so both queries cost O(log n + k). Matches are moved to archive in finish order, so the oldest row is
+ * evicted by moving the first live row forward, dead rows are compacted instead of growing the arrays.
+ * Not thread safe, it's changed and queried like {@link ScoreboardState}.
+ */
+final class MatchHistory {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final CountryTable countries;
+    /**
+     * Rows before it are evicted, they are dropped by the next compaction
+     */
+    private int firstRow;
+    private int size;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private short[] homeCountries = new short[INITIAL_CAPACITY];
+    private short[] awayCountries = new short[INITIAL_CAPACITY];
+    private int[] homeScores = new int[INITIAL_CAPACITY];
+    private int[] awayScores = new int[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private long[] startEpochSeconds = new long[INITIAL_CAPACITY];
+    private int[] startNanos = new int[INITIAL_CAPACITY];
+    /**
+     * Rows ordered by start time and then by row, so matches finished earlier go first if they started together
+     */
+    private int[] rowsByStart = new int[INITIAL_CAPACITY];
+    /**
+     * Rows of the matches played by country ordinal, rows from rowStarts to rowCounts are live
+     */
+    private final int[][] rowsByCountry;
+    private final int[] rowStarts;
+    private final int[] rowCounts;
+
+    MatchHistory(final CountryTable countries) {
+        this.countries = countries;
+        this.rowsByCountry = new int[countries.size()][];
+        this.rowStarts = new int[countries.size()];
+        this.rowCounts = new int[countries.size()];
+        Arrays.fill(rowsByCountry, NO_ROWS);
+    }
+
+    void add(final Match match) {
+        if (size == ids.length) {
+            if (firstRow >= size / 2) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        final int row = size;
+        final int homeCountry = countries.ordinalOfName(match.homeTeamScore().country());
+        final int awayCountry = countries.ordinalOfName(match.awayTeamScore().country());
+        ids[row] = match.id();
+        homeCountries[row] = (short) homeCountry;
+        awayCountries[row] = (short) awayCountry;
+        homeScores[row] = match.homeTeamScore().score();
+        awayScores[row] = match.awayTeamScore().score();
+        versions[row] = match.version();
+        startEpochSeconds[row] = match.startDate().toEpochSecond(ZoneOffset.UTC);
+        startNanos[row] = match.startDate().getNano();
+        size++;
+        indexByCountry(homeCountry, row);
+        indexByCountry(awayCountry, row);
+        indexByStart(row);
+    }
+
+    /**
+     * @return finished matches of the country in the order they were finished
+     */
+    List<Match> findByCountry(final int country) {
+        final int[] rows = rowsByCountry[country];
+        final List<Match> matches = new ArrayList<>(rowCounts[country] - rowStarts[country]);
+        for (int i = rowStarts[country]; i < rowCounts[country]; i++) {
+            matches.add(match(rows[i]));
+        }
+        return matches;
+    }
+
+    /**
+     * @return finished matches started at from or later and before to, ordered by start time
+     */
+    List<Match> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final int first = firstStartedAtOrAfter(from.toEpochSecond(ZoneOffset.UTC), from.getNano());
+        final int end = firstStartedAtOrAfter(to.toEpochSecond(ZoneOffset.UTC), to.getNano());
+        final List<Match> matches = new ArrayList<>(Math.max(end - first, 0));
+        for (int i = first; i < end; i++) {
+            if (rowsByStart[i] >= firstRow) {
+                matches.add(match(rowsByStart[i]));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Called when the oldest finished match is moved to archive
+     */
+    void evictOldest(final long matchId) {
+        if (firstRow == size || ids[firstRow] != matchId) {
+            throw new IllegalStateException("Match " + matchId + " isn't the oldest finished match");
+        }
+        rowStarts[homeCountries[firstRow]]++;
+        rowStarts[awayCountries[firstRow]]++;
+        firstRow++;
+    }
+
+    int size() {
+        return size - firstRow;
+    }
+
+    private Match match(final int row) {
+        return new Match(ids[row],
+                new Score(countries.name(homeCountries[row]), homeScores[row]),
+                new Score(countries.name(awayCountries[row]), awayScores[row]),
+                LocalDateTime.ofEpochSecond(startEpochSeconds[row], startNanos[row], ZoneOffset.UTC), true, versions[row]);
+    }
+
+    private void indexByCountry(final int country, final int row) {
+        int[] rows = rowsByCountry[country];
+        if (rowCounts[country] == rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(4, rows.length * 2));
+            rowsByCountry[country] = rows;
+        }
+        rows[rowCounts[country]++] = row;
+    }
+
+    /**
+     * Matches are usually finished in the order they started, so the new row is inserted near the end
+     * and only a few rows are moved
+     */
+    private void indexByStart(final int row) {
+        final int position = firstStartedAfter(startEpochSeconds[row], startNanos[row], row);
+        System.arraycopy(rowsByStart, position, rowsByStart, position + 1, row - position);
+        rowsByStart[position] = row;
+    }
+
+    /**
+     * @return position of the first of sorted rows started at the moment or later
+     */
+    private int firstStartedAtOrAfter(final long epochSecond, final int nano) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compareStart(rowsByStart[middle], epochSecond, nano) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param sortedRows amount of rows already sorted by start
+     * @return position of the first of sorted rows started after the moment
+     */
+    private int firstStartedAfter(final long epochSecond, final int nano, final int sortedRows) {
+        int low = 0;
+        int high = sortedRows;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compareStart(rowsByStart[middle], epochSecond, nano) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareStart(final int row, final long epochSecond, final int nano) {
+        final int comparison = Long.compare(startEpochSeconds[row], epochSecond);
+        return comparison != 0 ? comparison : Integer.compare(startNanos[row], nano);
+    }
+
+    /**
+     * Move live rows to the start of the arrays and renumber them in the indexes
+     */
+    private void compact() {
+        final int liveRows = size - firstRow;
+        System.arraycopy(ids, firstRow, ids, 0, liveRows);
+        System.arraycopy(homeCountries, firstRow, homeCountries, 0, liveRows);
+        System.arraycopy(awayCountries, firstRow, awayCountries, 0, liveRows);
+        System.arraycopy(homeScores, firstRow, homeScores, 0, liveRows);
+        System.arraycopy(awayScores, firstRow, awayScores, 0, liveRows);
+        System.arraycopy(versions, firstRow, versions, 0, liveRows);
+        System.arraycopy(startEpochSeconds, firstRow, startEpochSeconds, 0, liveRows);
+        System.arraycopy(startNanos, firstRow, startNanos, 0, liveRows);
+        int sorted = 0;
+        for (int i = 0; i < size; i++) {
+            if (rowsByStart[i] >= firstRow) {
+                rowsByStart[sorted++] = rowsByStart[i] - firstRow;
+            }
+        }
+        for (int country = 0; country < rowsByCountry.length; country++) {
+            final int[] rows = rowsByCountry[country];
+            final int start = rowStarts[country];
+            for (int i = start; i < rowCounts[country]; i++) {
+                rows[i - start] = rows[i] - firstRow;
+            }
+            rowCounts[country] -= start;
+            rowStarts[country] = 0;
+        }
+        size = liveRows;
+        firstRow = 0;
+    }
+
+    private void grow() {
+        final int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        homeCountries = Arrays.copyOf(homeCountries, capacity);
+        awayCountries = Arrays.copyOf(awayCountries, capacity);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        startEpochSeconds = Arrays.copyOf(startEpochSeconds, capacity);
+        startNanos = Arrays.copyOf(startNanos, capacity);
+        rowsByStart = Arrays.copyOf(rowsByStart, capacity);
+    }
+}
@@ -0,0 +1,204 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mutable AVL tree with subtree sizes, readers should hold read lock and get a copy of the matches.
+ * Nodes are changed in place, so a write allocates at most one node, while sizes let rank and page
+ * start be found in O(log n).
+ */
+class OrderStatisticSortedMatchIndex implements SortedMatchIndex {
+    private Node root;
+
+    @Override
+    public void put(final MatchSortKey key, final Match match) {
+        root = insert(root, key, match);
+    }
+
+    @Override
+    public void remove(final MatchSortKey key) {
+        root = delete(root, key);
+    }
+
+    @Override
+    public Collection<Match> runningMatches() {
+        final List<Match> matches = new ArrayList<>(size(root));
+        collect(root, 0, Integer.MAX_VALUE, matches);
+        return matches;
+    }
+
+    @Override
+    public List<Match> runningMatches(final int offset, final int limit) {
+        final List<Match> page = new ArrayList<>(Math.min(limit, Math.max(size(root) - offset, 0)));
+        collect(root, offset, limit, page);
+        return page;
+    }
+
+    @Override
+    public int rankOf(final MatchSortKey key) {
+        Node node = root;
+        int rank = 0;
+        while (node != null) {
+            final int comparison = key.compareTo(node.key);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public boolean isLockFree() {
+        return false;
+    }
+
+    /**
+     * Append at most limit matches of the subtree starting from offset position, subtrees before
+     * offset are skipped by their sizes
+     */
+    private static void collect(final Node node, final int offset, final int limit, final List<Match> matches) {
+        if (node == null || limit == 0) {
+            return;
+        }
+        final int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, matches);
+        }
+        if (offset <= leftSize && matches.size() < limit) {
+            matches.add(node.match);
+        }
+        if (matches.size() < limit) {
+            collect(node.right, Math.max(0, offset - leftSize - 1), limit, matches);
+        }
+    }
+
+    private static Node insert(final Node node, final MatchSortKey key, final Match match) {
+        if (node == null) {
+            return new Node(key, match);
+        }
+        final int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            node.left = insert(node.left, key, match);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, key, match);
+        } else {
+            node.match = match;
+            return node;
+        }
+        return balance(node);
+    }
+
+    private static Node delete(final Node node, final MatchSortKey key) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            node.left = delete(node.left, key);
+            return balance(node);
+        }
+        if (comparison > 0) {
+            node.right = delete(node.right, key);
+            return balance(node);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = deleteFirst(node.right);
+        successor.left = node.left;
+        return balance(successor);
+    }
+
+    private static Node deleteFirst(final Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(final Node node) {
+        final int difference = height(node.left) - height(node.right);
+        if (difference > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (difference < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(final Node node) {
+        final Node left = node.left;
+        node.left = left.right;
+        node.update();
+        left.right = node;
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(final Node node) {
+        final Node right = node.right;
+        node.right = right.left;
+        node.update();
+        right.left = node;
+        right.update();
+        return right;
+    }
+
+    private static int height(final Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final MatchSortKey key;
+        private Match match;
+        private Node left;
+        private Node right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(final MatchSortKey key, final Match match) {
+            this.key = key;
+            this.match = match;
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
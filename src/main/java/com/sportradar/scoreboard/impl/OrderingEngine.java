@@ -0,0 +1,17 @@
+package com.sportradar.scoreboard.impl;
+
+/**
+ * Defines structure which keeps running matches ordered in {@link ReadMode#LOCKED} mode
+ */
+public enum OrderingEngine {
+    /**
+     * Balanced tree, every change costs O(log n) comparisons and rebalancing.
+     */
+    TREE,
+    /**
+     * Array of buckets by total score, each bucket ordered by start time, and tree for total scores
+     * above {@link ScoreBucketSortedMatchIndex#MAX_BUCKET_SCORE}. A goal moves match to the adjacent bucket,
+     * suitable for sports with small scores.
+     */
+    SCORE_BUCKETS
+}
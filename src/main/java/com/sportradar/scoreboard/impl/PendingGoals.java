@@ -0,0 +1,299 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Goals of running matches counted without lock and not applied to {@link ScoreboardState} yet.
+ * Every running match has one packed word: home goals in bits 32-62, away goals in bits 0-31 and
+ * closed flag in bit 63. Goal is added by CAS of the word, so goals of different matches don't contend.
+ * Word is queued when it gets its first goal, so applying visits only matches which scored.
+ * Goals are applied by writers only, readers add them to the matches they read.
+ */
+final class PendingGoals {
+    static final long HOME_GOAL = 1L << 32;
+    static final long AWAY_GOAL = 1L;
+    private static final long CLOSED = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Replaced under write lock when it's full, read by adders without lock
+     */
+    private volatile GoalsTable table = new GoalsTable(MIN_CAPACITY);
+    /**
+     * Registered matches which aren't closed, changed under write lock
+     */
+    private int running;
+    private final Queue<Goals> queued = new ConcurrentLinkedQueue<>();
+    /**
+     * Queued words which aren't applied yet plus goals being added. Adder counts its goal before the word
+     * shows it, so reader which finds nothing pending doesn't miss a goal some earlier reader has seen
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    /**
+     * Odd while goals are moved from words to the state, so reader without lock could detect that it saw
+     * a goal twice or not at all
+     */
+    private final AtomicLong applyStamp = new AtomicLong();
+    /**
+     * Both counters are read as int, so neither of them is allowed to carry into the next field
+     */
+    private final int maxGoals;
+
+    enum AddResult {
+        ADDED,
+        MATCH_NOT_RUNNING,
+        /**
+         * Counter of the match is at its maximum, goal should be added under write lock after pending ones are applied
+         */
+        FULL
+    }
+
+    PendingGoals() {
+        this(Integer.MAX_VALUE);
+    }
+
+    PendingGoals(final int maxGoals) {
+        this.maxGoals = maxGoals;
+    }
+
+    /**
+     * Called under write lock when the match is started
+     */
+    void register(final long matchId) {
+        GoalsTable current = table;
+        if (!current.hasRoom()) {
+            current = current.copy(Math.max(MIN_CAPACITY, Integer.highestOneBit(running + 1) << 3));
+            table = current;
+        }
+        current.put(new Goals(matchId));
+        running++;
+    }
+
+    /**
+     * Could be called without lock
+     * @param goal {@link #HOME_GOAL} or {@link #AWAY_GOAL}
+     */
+    AddResult add(final long matchId, final long goal) {
+        final Goals goals = table.get(matchId);
+        if (goals == null) {
+            return AddResult.MATCH_NOT_RUNNING;
+        }
+        pending.incrementAndGet();
+        long word;
+        do {
+            word = goals.word.get();
+            if ((word & CLOSED) != 0) {
+                pending.decrementAndGet();
+                return AddResult.MATCH_NOT_RUNNING;
+            }
+            if ((goal == HOME_GOAL ? homeGoals(word) : awayGoals(word)) == maxGoals) {
+                pending.decrementAndGet();
+                return AddResult.FULL;
+            }
+        } while (!goals.word.compareAndSet(word, word + goal));
+        if (word == 0) {
+            queued.offer(goals);
+        } else {
+            pending.decrementAndGet();
+        }
+        return AddResult.ADDED;
+    }
+
+    /**
+     * Could be called without lock
+     * @return true if some added goals aren't applied yet
+     */
+    boolean hasPending() {
+        return pending.get() != 0;
+    }
+
+    /**
+     * Called under write lock, goals are applied once per match however many were added
+     */
+    void apply(final ScoreboardState state) {
+        Goals goals = queued.poll();
+        if (goals == null) {
+            return;
+        }
+        applyStamp.incrementAndGet();
+        try {
+            do {
+                final long word = goals.word.getAndUpdate(current -> current & CLOSED);
+                if ((word & ~CLOSED) != 0) {
+                    state.incrementScore(goals.matchId, homeGoals(word), awayGoals(word));
+                }
+                pending.decrementAndGet();
+            } while ((goals = queued.poll()) != null);
+        } finally {
+            applyStamp.incrementAndGet();
+        }
+    }
+
+    /**
+     * Called under write lock before the match is finished, goals added later are rejected
+     * and goals added before are applied
+     */
+    void close(final long matchId, final ScoreboardState state) {
+        applyStamp.incrementAndGet();
+        try {
+            final Goals goals = table.get(matchId);
+            if (goals == null) {
+                return;
+            }
+            final long word = goals.word.getAndSet(CLOSED);
+            if ((word & CLOSED) != 0) {
+                return;
+            }
+            running--;
+            if (word != 0) {
+                state.incrementScore(matchId, homeGoals(word), awayGoals(word));
+            }
+        } finally {
+            applyStamp.incrementAndGet();
+        }
+    }
+
+    /**
+     * Taken by reader without lock before it reads the state and the goals
+     */
+    long stamp() {
+        return applyStamp.get();
+    }
+
+    /**
+     * @return true if no goals were applied since the stamp was taken, so the state and the goals read
+     * after it agree
+     */
+    boolean validate(final long stamp) {
+        VarHandle.acquireFence();
+        return (stamp & 1) == 0 && applyStamp.get() == stamp;
+    }
+
+    /**
+     * Could be called without lock, see {@link #validate(long)}
+     * @return the match as it will be when its pending goals are applied
+     */
+    Match withPendingGoals(final Match match) {
+        if (match.finished()) {
+            return match;
+        }
+        final Goals goals = table.get(match.id());
+        final long word = goals == null ? 0 : goals.word.get() & ~CLOSED;
+        return word == 0 ? match : match.createMatchCopyWithGoals(homeGoals(word), awayGoals(word));
+    }
+
+    /**
+     * Could be called without lock, see {@link #validate(long)}
+     * @param runningMatches running matches in the order of the scoreboard
+     * @return running matches with pending goals in the order they will have when the goals are applied
+     */
+    List<Match> withPendingGoals(final Collection<Match> runningMatches) {
+        final List<Match> matches = new ArrayList<>(runningMatches.size());
+        boolean scored = false;
+        for (Match match : runningMatches) {
+            final Match withGoals = withPendingGoals(match);
+            scored |= withGoals != match;
+            matches.add(withGoals);
+        }
+        if (scored) {
+            matches.sort(MatchSortKey.MATCH_ORDER);
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    private static int homeGoals(final long word) {
+        return (int) ((word & ~CLOSED) >>> 32);
+    }
+
+    private static int awayGoals(final long word) {
+        return (int) word;
+    }
+
+    private static final class Goals {
+        private final long matchId;
+        private final AtomicLong word = new AtomicLong();
+
+        private Goals(final long matchId) {
+            this.matchId = matchId;
+        }
+    }
+
+    /**
+     * Open addressing table from match id to goals like {@link LongMatchMap}, but adders read it without lock.
+     * Id is published after its goals, closed goals stay as tombstones and full table is copied into a new one
+     * instead of being resized in place, so lookup never sees a moved entry
+     */
+    private static final class GoalsTable {
+        private static final long EMPTY = 0L;
+
+        private final AtomicLongArray matchIds;
+        private final Goals[] goals;
+        private final int mask;
+        /**
+         * Slots taken by running and closed matches, changed under write lock
+         */
+        private int used;
+
+        private GoalsTable(final int capacity) {
+            matchIds = new AtomicLongArray(capacity);
+            goals = new Goals[capacity];
+            mask = capacity - 1;
+        }
+
+        private Goals get(final long matchId) {
+            for (int index = index(matchId); ; index = (index + 1) & mask) {
+                final long current = matchIds.get(index);
+                if (current == matchId) {
+                    return goals[index];
+                }
+                if (current == EMPTY) {
+                    return null;
+                }
+            }
+        }
+
+        private boolean hasRoom() {
+            return used + 1 <= goals.length >> 1;
+        }
+
+        private void put(final Goals entry) {
+            int index = index(entry.matchId);
+            while (matchIds.get(index) != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            goals[index] = entry;
+            matchIds.set(index, entry.matchId);
+            used++;
+        }
+
+        /**
+         * Goals of running matches are shared with the copy, so goals added through this table aren't lost
+         */
+        private GoalsTable copy(final int capacity) {
+            final GoalsTable copy = new GoalsTable(capacity);
+            for (Goals entry : goals) {
+                if (entry != null && (entry.word.get() & CLOSED) == 0) {
+                    copy.put(entry);
+                }
+            }
+            return copy;
+        }
+
+        private int index(final long matchId) {
+            final long hash = matchId * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable AVL tree of running matches. Every change copies only the path from root to
+ * the changed node, so a write costs O(log n) allocations and old versions stay valid
+ * for readers which still iterate them.
+ */
+final class PersistentSortedMatches extends AbstractCollection<Match> {
+    static final PersistentSortedMatches EMPTY = new PersistentSortedMatches(null);
+
+    private final Node root;
+
+    private PersistentSortedMatches(final Node root) {
+        this.root = root;
+    }
+
+    PersistentSortedMatches with(final MatchSortKey key, final Match match) {
+        return new PersistentSortedMatches(insert(root, key, match));
+    }
+
+    PersistentSortedMatches without(final MatchSortKey key) {
+        final Node newRoot = delete(root, key);
+        return newRoot == root ? this : new PersistentSortedMatches(newRoot);
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public Iterator<Match> iterator() {
+        return new InOrderIterator(root, 0);
+    }
+
+    /**
+     * Find offset position by subtree sizes and copy only requested matches, it costs O(log n + limit)
+     * @return at most limit matches starting from offset position
+     */
+    List<Match> slice(final int offset, final int limit) {
+        final List<Match> page = new ArrayList<>(Math.min(limit, Math.max(size() - offset, 0)));
+        final Iterator<Match> iterator = new InOrderIterator(root, offset);
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    /**
+     * @return 1 based position of the key found by subtree sizes or 0 if it's absent
+     */
+    int rankOf(final MatchSortKey key) {
+        Node node = root;
+        int rank = 0;
+        while (node != null) {
+            final int comparison = key.compareTo(node.key);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static Node insert(final Node node, final MatchSortKey key, final Match match) {
+        if (node == null) {
+            return new Node(key, match, null, null);
+        }
+        final int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.match, insert(node.left, key, match), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.key, node.match, node.left, insert(node.right, key, match));
+        }
+        return new Node(key, match, node.left, node.right);
+    }
+
+    private static Node delete(final Node node, final MatchSortKey key) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            final Node left = delete(node.left, key);
+            return left == node.left ? node : balance(node.key, node.match, left, node.right);
+        }
+        if (comparison > 0) {
+            final Node right = delete(node.right, key);
+            return right == node.right ? node : balance(node.key, node.match, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.match, node.left, deleteFirst(node.right));
+    }
+
+    private static Node deleteFirst(final Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.match, deleteFirst(node.left), node.right);
+    }
+
+    private static Node balance(final MatchSortKey key, final Match match, final Node left, final Node right) {
+        final int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.key, left.match, left.left, new Node(key, match, left.right, right));
+            }
+            return new Node(left.right.key, left.right.match,
+                    new Node(left.key, left.match, left.left, left.right.left),
+                    new Node(key, match, left.right.right, right));
+        }
+        if (difference < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(right.key, right.match, new Node(key, match, left, right.left), right.right);
+            }
+            return new Node(right.left.key, right.left.match,
+                    new Node(key, match, left, right.left.left),
+                    new Node(right.key, right.match, right.left.right, right.right));
+        }
+        return new Node(key, match, left, right);
+    }
+
+    private static int height(final Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final MatchSortKey key;
+        private final Match match;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+
+        private Node(final MatchSortKey key, final Match match, final Node left, final Node right) {
+            this.key = key;
+            this.match = match;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static final class InOrderIterator implements Iterator<Match> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        /**
+         * Descend to offset position by subtree sizes, nodes before it are skipped without visiting
+         */
+        private InOrderIterator(final Node root, final int offset) {
+            Node node = root;
+            int position = offset;
+            while (node != null) {
+                final int leftSize = size(node.left);
+                if (position <= leftSize) {
+                    path.push(node);
+                    if (position == leftSize) {
+                        return;
+                    }
+                    node = node.left;
+                } else {
+                    position -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        private void pushLeft(Node node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Match next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final Node node = path.pop();
+            pushLeft(node.right);
+            return node.match;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sportradar.scoreboard.impl;
+
+/**
+ * Defines how running matches are read from the scoreboard
+ */
+public enum ReadMode {
+    /**
+     * Readers take read lock and copy sorted matches, writers keep mutable sorted tree.
+     * Cheapest writes, suitable when reads are rare.
+     */
+    LOCKED,
+    /**
+     * Writers publish immutable sorted snapshot after each change, readers take neither lock nor copy.
+     * Every write allocates O(log n) tree nodes, suitable for frequently polled scoreboards.
+     */
+    SNAPSHOT
+}
@@ -0,0 +1,104 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Running matches rendered by formatters, one rendering per formatter is kept until the scoreboard version
+ * is changed. The first reader of a new version takes the snapshot and renders it, concurrent readers of
+ * the same version wait for its result instead of rendering again. Formatters are keys by identity,
+ * so they should be shared instances rather than a new lambda per call.
+ */
+final class RenderCache {
+    private final Map<ScoreboardFormatter<?>, Entry<?>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param version the latest scoreboard version seen by the caller
+     * @param snapshots snapshot of running matches, its sequence isn't less than the version
+     * @return view rendered from a snapshot not older than the version
+     */
+    @SuppressWarnings("unchecked")
+    <T> T render(final ScoreboardFormatter<T> formatter, final long version,
+                 final Supplier<ScoreboardSnapshot> snapshots) {
+        final Entry<T> entry = (Entry<T>) entries.computeIfAbsent(formatter, key -> new Entry<>());
+        return entry.render(formatter, version, snapshots);
+    }
+
+    private static final class Entry<T> {
+        private volatile Rendered<T> rendered;
+        /**
+         * Rendering in progress and version it's started for, guarded by the entry monitor
+         */
+        private CompletableFuture<Rendered<T>> inFlight;
+        private long inFlightVersion;
+
+        private T render(final ScoreboardFormatter<T> formatter, final long version,
+                         final Supplier<ScoreboardSnapshot> snapshots) {
+            Rendered<T> current = rendered;
+            if (current != null && current.version() >= version) {
+                return current.value();
+            }
+            final CompletableFuture<Rendered<T>> flight;
+            final boolean owner;
+            synchronized (this) {
+                current = rendered;
+                if (current != null && current.version() >= version) {
+                    return current.value();
+                }
+                owner = inFlight == null || inFlightVersion < version;
+                if (owner) {
+                    inFlight = new CompletableFuture<>();
+                    inFlightVersion = version;
+                }
+                flight = inFlight;
+            }
+            return owner ? renderOwned(flight, formatter, snapshots) : await(flight).value();
+        }
+
+        private T renderOwned(final CompletableFuture<Rendered<T>> flight, final ScoreboardFormatter<T> formatter,
+                              final Supplier<ScoreboardSnapshot> snapshots) {
+            try {
+                final ScoreboardSnapshot snapshot = snapshots.get();
+                final Rendered<T> result = new Rendered<>(snapshot.sequence(), formatter.format(snapshot));
+                synchronized (this) {
+                    if (rendered == null || rendered.version() < result.version()) {
+                        rendered = result;
+                    }
+                    if (inFlight == flight) {
+                        inFlight = null;
+                    }
+                }
+                flight.complete(result);
+                return result.value();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    if (inFlight == flight) {
+                        inFlight = null;
+                    }
+                }
+                flight.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Rendered<T>(long version, T value) {
+    }
+}
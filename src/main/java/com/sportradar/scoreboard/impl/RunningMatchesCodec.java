@@ -0,0 +1,119 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact binary form of running matches. All numbers are unsigned LEB128 varints:
+ * version, match count and then for every match in scoreboard order id, home and away country
+ * ordinals, home and away scores, zigzag start epoch second in UTC, start nano and match version.
+ * Country ordinals are positions in {@link CountryTable}, so decoder should use the table of the scoreboard.
+ */
+public final class RunningMatchesCodec {
+    private RunningMatchesCodec() {
+    }
+
+    /**
+     * @return read-only direct buffer of exact size
+     */
+    static ByteBuffer encode(final long version, final Collection<Match> runningMatches, final CountryTable countries) {
+        int size = varintSize(version) + varintSize(runningMatches.size());
+        for (Match match : runningMatches) {
+            size += varintSize(match.id())
+                    + varintSize(countries.ordinalOfName(match.homeTeamScore().country()))
+                    + varintSize(countries.ordinalOfName(match.awayTeamScore().country()))
+                    + varintSize(match.homeTeamScore().score())
+                    + varintSize(match.awayTeamScore().score())
+                    + varintSize(zigzag(match.startDate().toEpochSecond(ZoneOffset.UTC)))
+                    + varintSize(match.startDate().getNano())
+                    + varintSize(match.version());
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        putVarint(buffer, version);
+        putVarint(buffer, runningMatches.size());
+        for (Match match : runningMatches) {
+            putVarint(buffer, match.id());
+            putVarint(buffer, countries.ordinalOfName(match.homeTeamScore().country()));
+            putVarint(buffer, countries.ordinalOfName(match.awayTeamScore().country()));
+            putVarint(buffer, match.homeTeamScore().score());
+            putVarint(buffer, match.awayTeamScore().score());
+            putVarint(buffer, zigzag(match.startDate().toEpochSecond(ZoneOffset.UTC)));
+            putVarint(buffer, match.startDate().getNano());
+            putVarint(buffer, match.version());
+        }
+        return buffer.flip().asReadOnlyBuffer();
+    }
+
+    /**
+     * Decode running matches of the scoreboard with {@link CountryTable#iso()} countries
+     * @param buffer buffer returned by {@link com.sportradar.scoreboard.Scoreboard#getRunningMatchesEncoded()}
+     * @return running matches with version of the scoreboard as sequence
+     */
+    public static ScoreboardSnapshot decode(final ByteBuffer buffer) {
+        return decode(buffer, CountryTable.iso());
+    }
+
+    /**
+     * Decode running matches from position of the buffer, position is moved to the end of encoded data
+     * @param buffer buffer returned by {@link com.sportradar.scoreboard.Scoreboard#getRunningMatchesEncoded()}
+     * @param countries countries of the scoreboard configuration
+     * @return running matches with version of the scoreboard as sequence
+     */
+    public static ScoreboardSnapshot decode(final ByteBuffer buffer, final CountryTable countries) {
+        final long version = getVarint(buffer);
+        final int count = (int) getVarint(buffer);
+        final List<Match> runningMatches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final long id = getVarint(buffer);
+            final String homeCountry = countries.name((int) getVarint(buffer));
+            final String awayCountry = countries.name((int) getVarint(buffer));
+            final int homeScore = (int) getVarint(buffer);
+            final int awayScore = (int) getVarint(buffer);
+            final long startEpochSecond = unzigzag(getVarint(buffer));
+            final int startNano = (int) getVarint(buffer);
+            final long matchVersion = getVarint(buffer);
+            runningMatches.add(new Match(id, new Score(homeCountry, homeScore), new Score(awayCountry, awayScore),
+                    LocalDateTime.ofEpochSecond(startEpochSecond, startNano, ZoneOffset.UTC), false, matchVersion));
+        }
+        return new ScoreboardSnapshot(version, runningMatches);
+    }
+
+    private static int varintSize(final long value) {
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    private static void putVarint(final ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarint(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,169 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Running matches in buckets indexed by total score. Bucket is a sorted array of matches with the same
+ * total score, so a match is found by binary search and moved by copy of the bucket tail, which is short
+ * as matches are spread over buckets. Matches with total score above {@link #MAX_BUCKET_SCORE} are kept
+ * in overflow tree. Readers should hold read lock and get a copy of the matches.
+ */
+class ScoreBucketSortedMatchIndex implements SortedMatchIndex {
+    static final int MAX_BUCKET_SCORE = 31;
+
+    private final Bucket[] buckets = new Bucket[MAX_BUCKET_SCORE + 1];
+    private final OrderStatisticSortedMatchIndex overflow = new OrderStatisticSortedMatchIndex();
+    private int size;
+
+    ScoreBucketSortedMatchIndex() {
+        for (int score = 0; score <= MAX_BUCKET_SCORE; score++) {
+            buckets[score] = new Bucket();
+        }
+    }
+
+    @Override
+    public void put(final MatchSortKey key, final Match match) {
+        final int score = key.totalScore();
+        if (score > MAX_BUCKET_SCORE) {
+            final int overflowSize = overflow.size();
+            overflow.put(key, match);
+            size += overflow.size() - overflowSize;
+        } else if (buckets[score].put(key, match)) {
+            size++;
+        }
+    }
+
+    @Override
+    public void remove(final MatchSortKey key) {
+        final int score = key.totalScore();
+        if (score > MAX_BUCKET_SCORE) {
+            final int overflowSize = overflow.size();
+            overflow.remove(key);
+            size -= overflowSize - overflow.size();
+        } else if (buckets[score].remove(key)) {
+            size--;
+        }
+    }
+
+    @Override
+    public Collection<Match> runningMatches() {
+        return runningMatches(0, size);
+    }
+
+    /**
+     * Buckets before offset are skipped by their sizes
+     */
+    @Override
+    public List<Match> runningMatches(final int offset, final int limit) {
+        final List<Match> page = new ArrayList<>(Math.min(limit, Math.max(size - offset, 0)));
+        int skip = offset;
+        if (skip < overflow.size()) {
+            page.addAll(overflow.runningMatches(skip, limit));
+            skip = 0;
+        } else {
+            skip -= overflow.size();
+        }
+        for (int score = MAX_BUCKET_SCORE; score >= 0 && page.size() < limit; score--) {
+            final Bucket bucket = buckets[score];
+            if (skip >= bucket.size) {
+                skip -= bucket.size;
+                continue;
+            }
+            final int end = skip + Math.min(bucket.size - skip, limit - page.size());
+            for (int i = skip; i < end; i++) {
+                page.add(bucket.matches[i]);
+            }
+            skip = 0;
+        }
+        return page;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int rankOf(final MatchSortKey key) {
+        final int score = key.totalScore();
+        if (score > MAX_BUCKET_SCORE) {
+            return overflow.rankOf(key);
+        }
+        final int position = buckets[score].indexOf(key);
+        if (position < 0) {
+            return 0;
+        }
+        int rank = overflow.size() + position + 1;
+        for (int higherScore = score + 1; higherScore <= MAX_BUCKET_SCORE; higherScore++) {
+            rank += buckets[higherScore].size;
+        }
+        return rank;
+    }
+
+    @Override
+    public boolean isLockFree() {
+        return false;
+    }
+
+    /**
+     * Matches of one total score in sort key order
+     */
+    private static final class Bucket {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private MatchSortKey[] keys = new MatchSortKey[INITIAL_CAPACITY];
+        private Match[] matches = new Match[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * @return true if the key is added, false if match of the key is replaced
+         */
+        private boolean put(final MatchSortKey key, final Match match) {
+            final int position = indexOf(key);
+            if (position >= 0) {
+                matches[position] = match;
+                return false;
+            }
+            final int insertion = -position - 1;
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                matches = Arrays.copyOf(matches, size * 2);
+            }
+            System.arraycopy(keys, insertion, keys, insertion + 1, size - insertion);
+            System.arraycopy(matches, insertion, matches, insertion + 1, size - insertion);
+            keys[insertion] = key;
+            matches[insertion] = match;
+            size++;
+            return true;
+        }
+
+        /**
+         * @return true if the key is removed
+         */
+        private boolean remove(final MatchSortKey key) {
+            final int position = indexOf(key);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(matches, position + 1, matches, position, size - position - 1);
+            size--;
+            keys[size] = null;
+            matches[size] = null;
+            return true;
+        }
+
+        /**
+         * @return position of the key or (-(insertion point) - 1) as {@link Arrays#binarySearch(Object[], Object)}
+         */
+        private int indexOf(final MatchSortKey key) {
+            return Arrays.binarySearch(keys, 0, size, key);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Batch of score updates. Validation and coalescing are done on creation by the caller thread,
+ * so scoreboard state is locked only for lookups and changes of the last update of every match
+ */
+final class ScoreUpdateBatch {
+    private final ScoreUpdate[] updates;
+    private final ScoreUpdateStatus[] statuses;
+    private final Map<Long, Integer> lastUpdateByMatchId = new HashMap<>();
+
+    ScoreUpdateBatch(final Collection<ScoreUpdate> updates) {
+        this.updates = updates.toArray(new ScoreUpdate[0]);
+        this.statuses = new ScoreUpdateStatus[this.updates.length];
+        for (int i = 0; i < this.updates.length; i++) {
+            Objects.requireNonNull(this.updates[i], "update cannot be null");
+            if (this.updates[i].homeTeamScore() < 0 || this.updates[i].awayTeamScore() < 0) {
+                statuses[i] = ScoreUpdateStatus.SCORE_NOT_POSITIVE;
+                continue;
+            }
+            final Integer previous = lastUpdateByMatchId.put(this.updates[i].matchId(), i);
+            if (previous != null) {
+                statuses[previous] = ScoreUpdateStatus.SUPERSEDED;
+            }
+        }
+    }
+
+    /**
+     * Should be called under write lock or by the writer thread
+     * @param journal journal of applied updates or null
+     * @return journal position of the last applied update, 0 if nothing is journaled
+     */
+    long applyTo(final ScoreboardState state, final ScoreboardJournal journal) {
+        long journalPosition = 0;
+        for (int i = 0; i < updates.length; i++) {
+            if (statuses[i] != null) {
+                continue;
+            }
+            final Match match = state.findRunningMatch(updates[i].matchId());
+            if (match == null) {
+                statuses[i] = ScoreUpdateStatus.MATCH_NOT_FOUND;
+            } else {
+                final Match updated = state.changeScore(match, updates[i].homeTeamScore(), updates[i].awayTeamScore());
+                statuses[i] = ScoreUpdateStatus.APPLIED;
+                if (journal != null && updated != match) {
+                    journalPosition = journal.appendScore(updates[i].matchId(), updates[i].homeTeamScore(),
+                            updates[i].awayTeamScore());
+                }
+            }
+        }
+        return journalPosition;
+    }
+
+    /**
+     * @return result of every update in the order of the batch
+     */
+    List<ScoreUpdateResult> results() {
+        final List<ScoreUpdateResult> results = new ArrayList<>(updates.length);
+        for (int i = 0; i < updates.length; i++) {
+            if (statuses[i] == ScoreUpdateStatus.SUPERSEDED
+                    && statuses[lastUpdateByMatchId.get(updates[i].matchId())] == ScoreUpdateStatus.MATCH_NOT_FOUND) {
+                statuses[i] = ScoreUpdateStatus.MATCH_NOT_FOUND;
+            }
+            results.add(new ScoreUpdateResult(updates[i], statuses[i]));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,135 @@
+package com.sportradar.scoreboard.impl;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Tuning options of {@link ScoreboardImpl}
+ * @param readMode how running matches are read
+ * @param lockMode which lock guards the scoreboard
+ * @param orderingEngine structure which orders running matches, only {@link ReadMode#LOCKED} mode supports buckets
+ * @param retentionPolicy how many finished matches are kept in memory
+ * @param archiveDirectory directory of archive for finished matches evicted from memory,
+ *                         required if retention policy isn't unlimited
+ * @param clock clock used to find age of finished matches and to start scheduled matches
+ * @param changeFeedCapacity amount of the latest changes kept for subscribers, power of two
+ * @param journalDirectory directory of write-ahead log and its snapshots, null if changes aren't durable.
+ *                         Archive is forced before every snapshot, so archived matches are recovered too
+ * @param journalSnapshotInterval amount of journal records between snapshots
+ * @param countries supported countries, encoded running matches should be decoded with the same table
+ */
+public record ScoreboardConfiguration(ReadMode readMode, LockMode lockMode, OrderingEngine orderingEngine,
+                                      FinishedMatchRetentionPolicy retentionPolicy, Path archiveDirectory, Clock clock,
+                                      int changeFeedCapacity, Path journalDirectory, int journalSnapshotInterval,
+                                      CountryTable countries) {
+
+    public ScoreboardConfiguration {
+        Objects.requireNonNull(readMode, "readMode cannot be null");
+        Objects.requireNonNull(lockMode, "lockMode cannot be null");
+        Objects.requireNonNull(orderingEngine, "orderingEngine cannot be null");
+        Objects.requireNonNull(retentionPolicy, "retentionPolicy cannot be null");
+        Objects.requireNonNull(clock, "clock cannot be null");
+        Objects.requireNonNull(countries, "countries cannot be null");
+        if (!retentionPolicy.isUnlimited() && archiveDirectory == null) {
+            throw new IllegalArgumentException("archiveDirectory is required when finished matches are evicted");
+        }
+        if (orderingEngine != OrderingEngine.TREE && readMode != ReadMode.LOCKED) {
+            throw new IllegalArgumentException(orderingEngine + " ordering engine requires " + ReadMode.LOCKED + " read mode");
+        }
+        if (changeFeedCapacity <= 0 || Integer.bitCount(changeFeedCapacity) != 1) {
+            throw new IllegalArgumentException("changeFeedCapacity must be a power of two");
+        }
+        if (journalSnapshotInterval <= 0) {
+            throw new IllegalArgumentException("journalSnapshotInterval must be positive");
+        }
+    }
+
+    /**
+     * @return same options with archive and journal in subdirectories, so scoreboards don't share files
+     */
+    ScoreboardConfiguration withSubdirectory(final String name) {
+        return new ScoreboardConfiguration(readMode, lockMode, orderingEngine, retentionPolicy,
+                archiveDirectory == null ? null : archiveDirectory.resolve(name), clock, changeFeedCapacity,
+                journalDirectory == null ? null : journalDirectory.resolve(name), journalSnapshotInterval, countries);
+    }
+
+    public static ScoreboardConfiguration defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private ReadMode readMode = ReadMode.LOCKED;
+        private LockMode lockMode = LockMode.READ_WRITE;
+        private OrderingEngine orderingEngine = OrderingEngine.TREE;
+        private FinishedMatchRetentionPolicy retentionPolicy = FinishedMatchRetentionPolicy.unlimited();
+        private Path archiveDirectory;
+        private Clock clock = Clock.systemUTC();
+        private int changeFeedCapacity = 1024;
+        private Path journalDirectory;
+        private int journalSnapshotInterval = 100_000;
+        private CountryTable countries = CountryTable.iso();
+
+        private Builder() {
+        }
+
+        public Builder readMode(final ReadMode readMode) {
+            this.readMode = readMode;
+            return this;
+        }
+
+        public Builder lockMode(final LockMode lockMode) {
+            this.lockMode = lockMode;
+            return this;
+        }
+
+        public Builder orderingEngine(final OrderingEngine orderingEngine) {
+            this.orderingEngine = orderingEngine;
+            return this;
+        }
+
+        public Builder retentionPolicy(final FinishedMatchRetentionPolicy retentionPolicy) {
+            this.retentionPolicy = retentionPolicy;
+            return this;
+        }
+
+        public Builder archiveDirectory(final Path archiveDirectory) {
+            this.archiveDirectory = archiveDirectory;
+            return this;
+        }
+
+        public Builder clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder changeFeedCapacity(final int changeFeedCapacity) {
+            this.changeFeedCapacity = changeFeedCapacity;
+            return this;
+        }
+
+        public Builder journalDirectory(final Path journalDirectory) {
+            this.journalDirectory = journalDirectory;
+            return this;
+        }
+
+        public Builder journalSnapshotInterval(final int journalSnapshotInterval) {
+            this.journalSnapshotInterval = journalSnapshotInterval;
+            return this;
+        }
+
+        public Builder countries(final CountryTable countries) {
+            this.countries = countries;
+            return this;
+        }
+
+        public ScoreboardConfiguration build() {
+            return new ScoreboardConfiguration(readMode, lockMode, orderingEngine, retentionPolicy, archiveDirectory,
+                    clock, changeFeedCapacity, journalDirectory, journalSnapshotInterval, countries);
+        }
+    }
+}
@@ -1,146 +1,621 @@
 package com.sportradar.scoreboard.impl;
 
-import com.sportradar.scoreboard.model.Match;
-import com.sportradar.scoreboard.model.MatchSortKey;
-import com.sportradar.scoreboard.model.Score;
-import com.sportradar.scoreboard.Scoreboard;
-import com.sportradar.scoreboard.exception.CountryNotSupportedException;
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
 import com.sportradar.scoreboard.exception.MatchNotFoundException;
 import com.sportradar.scoreboard.exception.ScoreNotPositiveException;
-import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.metrics.ScoreboardGauges;
+import com.sportradar.scoreboard.metrics.ScoreboardMetrics;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
-public class ScoreboardImpl implements Scoreboard {
+public class ScoreboardImpl implements Scoreboard, AutoCloseable {
+    final ScoreboardState state;
     /**
-     * Initial idea that write pattern is extremely less frequent, that's why it will be better
-     * to sort matches on insert
+     * Null in {@link LockMode#OPTIMISTIC} mode
      */
-    public Map<Long, Match> matchesById = new HashMap<>();
-    public Map<MatchSortKey, Match> sortedMatches = new TreeMap<>();
-    public AtomicInteger matchIdCounter = new AtomicInteger();
-    private static final Map<String, String> countriesByIsoCode = initCountriesByCode();
-    private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock reentrantReadWriteLock;
+    /**
+     * Null in {@link LockMode#READ_WRITE} mode
+     */
+    private final StampedLock stampedLock;
+    private final Lock readLock;
+    private final Lock writeLock;
+    /**
+     * Null if changes aren't durable. Records are appended under write lock and committed after it's released,
+     * so concurrent writers share one fsync
+     */
+    private final ScoreboardJournal journal;
+    /**
+     * Goals added without lock, they are applied by writers and added by readers of matches to what they read.
+     * Null if changes are durable, goals are journaled under write lock then
+     */
+    private final PendingGoals pendingGoals;
+    private final KickoffScheduler kickoffs;
+    private final RenderCache renderCache = new RenderCache();
+    /**
+     * Null if metrics are disabled, lock times aren't measured then
+     */
+    private final ScoreboardMetrics metrics;
+
+    public ScoreboardImpl() {
+        this(ScoreboardConfiguration.defaults());
+    }
 
-    private static Map<String, String> initCountriesByCode() {
-        Map<String, String> countriesByIsoCode = new HashMap<>();
-        final String[] isoCountries = Locale.getISOCountries();
+    public ScoreboardImpl(final ScoreboardConfiguration configuration) {
+        this(configuration, null);
+    }
 
-        for (final String country : isoCountries) {
-            Locale locale = new Locale("", country);
-            countriesByIsoCode.put(locale.getISO3Country(),
-                    locale.getDisplayCountry(Locale.ENGLISH));
+    /**
+     * @param configuration options of the scoreboard
+     * @param metrics collector of lock times and gauges or null if metrics are disabled
+     */
+    public ScoreboardImpl(final ScoreboardConfiguration configuration, final ScoreboardMetrics metrics) {
+        this.metrics = metrics;
+        if (configuration.lockMode() == LockMode.OPTIMISTIC) {
+            this.reentrantReadWriteLock = null;
+            this.stampedLock = new StampedLock();
+            this.readLock = stampedLock.asReadLock();
+            this.writeLock = stampedLock.asWriteLock();
+        } else {
+            this.reentrantReadWriteLock = new ReentrantReadWriteLock();
+            this.stampedLock = null;
+            this.readLock = reentrantReadWriteLock.readLock();
+            this.writeLock = reentrantReadWriteLock.writeLock();
+        }
+        this.state = new ScoreboardState(configuration, SortedMatchIndex.create(configuration.readMode(), configuration.orderingEngine()),
+                this::getSnapshot, matchId -> {
+                });
+        this.journal = ScoreboardJournal.open(configuration, state);
+        state.restoreArchivedMatchIds();
+        if (journal == null) {
+            this.pendingGoals = new PendingGoals();
+            state.runningMatches().forEach(match -> pendingGoals.register(match.id()));
+        } else {
+            this.pendingGoals = null;
+        }
+        this.kickoffs = new KickoffScheduler(configuration, this::startScheduledMatches);
+        if (metrics != null) {
+            metrics.bindGauges(new LockedGauges());
         }
-        return countriesByIsoCode;
     }
 
     @Override
-    public Long startMatch(String homeTeamIsoCode,
-                           String awayTeamIsoCode, LocalDateTime startDate) {
+    public long startMatchAsLong(String homeTeamIsoCode,
+                                 String awayTeamIsoCode, LocalDateTime startDate) {
+        final Match match;
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
         try {
-            this.reentrantReadWriteLock.writeLock().lock();
-            String homeTeamCountryName = getCountryName(homeTeamIsoCode);
-            String awayTeamCountryName = getCountryName(awayTeamIsoCode);
-            checkIsCountryPlaying(homeTeamCountryName);
-            checkIsCountryPlaying(awayTeamCountryName);
+            match = state.startMatch(homeTeamIsoCode, awayTeamIsoCode, startDate);
+            journalPosition = started(match);
+        } finally {
+            unlockForWrite(lockedNanos);
+        }
+        commit(journalPosition);
+        return match.id();
+    }
 
-            final var match = new Match(matchIdCounter.incrementAndGet(),
-                    new Score(homeTeamCountryName, 0),
-                    new Score(awayTeamCountryName, 0), startDate, false);
-            updateMatch(match, match);
-            return match.id();
+    @Override
+    public MatchStartResult tryStartMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        final Match match;
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
+        try {
+            match = state.tryStartMatch(homeTeamIsoCode, awayTeamIsoCode, startDate);
+            if (match == null) {
+                return MatchStartResult.failed(state.startStatus(homeTeamIsoCode, awayTeamIsoCode));
+            }
+            journalPosition = started(match);
         } finally {
-            this.reentrantReadWriteLock.writeLock().unlock();
+            unlockForWrite(lockedNanos);
         }
+        commit(journalPosition);
+        return MatchStartResult.started(match.id());
     }
 
-    private void checkIsCountryPlaying(String homeTeamCountryName) {
-        matchesById.values().stream().filter(match ->
-                        match.awayTeamScore().country().equals(homeTeamCountryName)
-                                || match.homeTeamScore().country().equals(homeTeamCountryName))
-                .findAny().ifPresent(match -> {
-                    throw new TeamAlreadyPlayingException(homeTeamCountryName);
-                });
+    @Override
+    public long scheduleMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate,
+                              Consumer<MatchStartResult> kickoffListener) {
+        readLock.lock();
+        try {
+            state.checkCanStart(homeTeamIsoCode, awayTeamIsoCode);
+        } finally {
+            readLock.unlock();
+        }
+        return kickoffs.schedule(homeTeamIsoCode, awayTeamIsoCode, startDate, kickoffListener);
     }
 
     @Override
-    public Match getMatch(final Long matchId) {
+    public boolean cancelScheduledMatch(long scheduledMatchId) {
+        return kickoffs.cancel(scheduledMatchId);
+    }
+
+    /**
+     * Called by the ticker of the scheduler, all matches of the tick are started under one write lock
+     * and share one journal commit
+     */
+    private List<MatchStartResult> startScheduledMatches(final List<KickoffScheduler.Kickoff> scheduledMatches) {
+        final List<MatchStartResult> results = new ArrayList<>(scheduledMatches.size());
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
         try {
-            reentrantReadWriteLock.readLock().lock();
-            Match match = this.matchesById.get(matchId);
-            if (match == null) {
-                throw new MatchNotFoundException(matchId);
+            for (KickoffScheduler.Kickoff scheduled : scheduledMatches) {
+                final Match match = state.tryStartMatch(scheduled.homeTeamIsoCode(), scheduled.awayTeamIsoCode(),
+                        scheduled.startDate());
+                if (match == null) {
+                    results.add(MatchStartResult.failed(
+                            state.startStatus(scheduled.homeTeamIsoCode(), scheduled.awayTeamIsoCode())));
+                    continue;
+                }
+                journalPosition = Math.max(journalPosition, started(match));
+                results.add(MatchStartResult.started(match.id()));
             }
-            return match;
         } finally {
-            reentrantReadWriteLock.readLock().unlock();
+            unlockForWrite(lockedNanos);
         }
+        commit(journalPosition);
+        return results;
     }
 
-    private static String getCountryName(String iso3Code) {
-        String countryName = countriesByIsoCode.get(iso3Code);
-        if (countryName == null) {
-            throw new CountryNotSupportedException(iso3Code);
+    /**
+     * Called under write lock
+     * @return journal position of the start, 0 if nothing is journaled
+     */
+    private long started(final Match match) {
+        if (journal != null) {
+            return journal.appendStart(match);
         }
-        return countryName;
+        pendingGoals.register(match.id());
+        return 0;
     }
 
     @Override
-    public void updateScore(Long matchId, int homeTeamScore, int awayTeamScore) {
+    public Match getMatch(final long matchId) {
+        if (stampedLock != null) {
+            final long stamp = stampedLock.tryOptimisticRead();
+            if (stamp != 0) {
+                final Match match = state.matchesById.getOptimistic(matchId);
+                if (match != null) {
+                    final Match withGoals = withPendingGoals(match);
+                    if (stampedLock.validate(stamp)) {
+                        return withGoals;
+                    }
+                }
+            }
+        }
         try {
-            this.reentrantReadWriteLock.writeLock().lock();
-            if (homeTeamScore < 0 || awayTeamScore < 0) {
-                throw new ScoreNotPositiveException();
+            readLock.lock();
+            return withPendingGoals(state.getMatch(matchId));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        switch (tryUpdateScore(matchId, homeTeamScore, awayTeamScore)) {
+            case MATCH_NOT_FOUND -> throw new MatchNotFoundException(matchId);
+            case SCORE_NOT_POSITIVE -> throw new ScoreNotPositiveException();
+            default -> {
             }
-            final Match match = matchesById.get(matchId);
-            if (match == null) {
-                throw new MatchNotFoundException(matchId);
+        }
+    }
+
+    @Override
+    public ScoreUpdateStatus tryUpdateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            return ScoreUpdateStatus.SCORE_NOT_POSITIVE;
+        }
+        final Match updated;
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
+        try {
+            final Match current = state.findRunningMatch(matchId);
+            updated = state.tryUpdateScore(matchId, homeTeamScore, awayTeamScore);
+            if (updated != current && journal != null) {
+                journalPosition = journal.appendScore(matchId, homeTeamScore, awayTeamScore);
+            }
+        } finally {
+            unlockForWrite(lockedNanos);
+        }
+        commit(journalPosition);
+        return updated == null ? ScoreUpdateStatus.MATCH_NOT_FOUND : ScoreUpdateStatus.APPLIED;
+    }
+
+    /**
+     * Version is checked first by {@link #getMatch(long)}, so stale and duplicate updates don't take write lock.
+     * Versions only grow, so the update rejected by this check would be rejected under lock as well.
+     * Match read with pending goals has the version it gets when they are applied, so the check holds for it too
+     */
+    @Override
+    public boolean compareAndUpdateScore(long matchId, long expectedVersion, int homeTeamScore, int awayTeamScore) {
+        final Match current = getMatch(matchId);
+        if (current.finished()) {
+            throw new MatchNotFoundException(matchId);
+        }
+        if (current.version() != expectedVersion) {
+            return false;
+        }
+        if (current.homeTeamScore().score() == homeTeamScore && current.awayTeamScore().score() == awayTeamScore) {
+            return true;
+        }
+        final Match updated;
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
+        try {
+            updated = state.compareAndUpdateScore(matchId, expectedVersion, homeTeamScore, awayTeamScore);
+            if (updated != null && updated.version() != expectedVersion && journal != null) {
+                journalPosition = journal.appendScore(matchId, homeTeamScore, awayTeamScore);
             }
-            Match newMatch = match.createMatchCopy(homeTeamScore, awayTeamScore);
-            updateMatch(match, newMatch);
         } finally {
-            this.reentrantReadWriteLock.writeLock().unlock();
+            unlockForWrite(lockedNanos);
         }
+        commit(journalPosition);
+        return updated != null;
     }
 
-    private void updateMatch(Match match, Match newMatch) {
-        matchesById.put(match.id(), newMatch);
-        sortedMatches.remove(match.compoundSortKey());
-        sortedMatches.put(newMatch.compoundSortKey(), newMatch);
+    @Override
+    public void incrementHomeScore(final long matchId) {
+        incrementScore(matchId, PendingGoals.HOME_GOAL, 1, 0);
     }
 
     @Override
-    public void finishMatch(Long matchId) {
+    public void incrementAwayScore(final long matchId) {
+        incrementScore(matchId, PendingGoals.AWAY_GOAL, 0, 1);
+    }
+
+    /**
+     * Without journal the goal is added to the pending goals of the match without lock, then it's applied
+     * right away if write lock is free, otherwise by the writer which holds it. With journal the goal is
+     * applied under write lock, so it's durable when the method returns
+     */
+    private void incrementScore(final long matchId, final long goal, final int homeTeamGoals, final int awayTeamGoals) {
+        if (pendingGoals != null) {
+            switch (pendingGoals.add(matchId, goal)) {
+                case ADDED -> {
+                    applyAddedGoal();
+                    return;
+                }
+                case MATCH_NOT_RUNNING -> throw new MatchNotFoundException(matchId);
+                case FULL -> {
+                }
+            }
+        }
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
         try {
-            this.reentrantReadWriteLock.writeLock().lock();
-            Match matchToRemove = matchesById.get(matchId);
-            if (matchToRemove == null) {
-                throw new MatchNotFoundException(matchId);
+            final Match match = state.incrementScore(matchId, homeTeamGoals, awayTeamGoals);
+            if (journal != null) {
+                journalPosition = journal.appendScore(matchId, match.homeTeamScore().score(),
+                        match.awayTeamScore().score());
             }
-            sortedMatches.remove(matchToRemove.compoundSortKey());
-            Match newMatch = matchToRemove.createFinishedMatchCopy();
-            matchesById.put(newMatch.id(), newMatch);
         } finally {
-            this.reentrantReadWriteLock.writeLock().unlock();
+            unlockForWrite(lockedNanos);
+        }
+        commit(journalPosition);
+    }
+
+    /**
+     * Goal adder doesn't wait for other writers: if one of them holds write lock, it applies the goal after
+     * unlock. The adder takes the lock itself only if it's free or held by readers
+     */
+    private void applyAddedGoal() {
+        if (!writeLock.tryLock()) {
+            if (isWriteLocked()) {
+                return;
+            }
+            writeLock.lock();
+        }
+        try {
+            pendingGoals.apply(state);
+        } finally {
+            writeLock.unlock();
+        }
+        applyGoalsAddedWhileLocked();
+    }
+
+    @Override
+    public List<ScoreUpdateResult> applyUpdates(Collection<ScoreUpdate> updates) {
+        final ScoreUpdateBatch batch = new ScoreUpdateBatch(updates);
+        final long journalPosition;
+        final long lockedNanos = lockForWrite();
+        try {
+            journalPosition = batch.applyTo(state, journal);
+        } finally {
+            unlockForWrite(lockedNanos);
+        }
+        commit(journalPosition);
+        return batch.results();
+    }
+
+    @Override
+    public void finishMatch(long matchId) {
+        if (!tryFinishMatch(matchId)) {
+            throw new MatchNotFoundException(matchId);
         }
     }
 
+    @Override
+    public boolean tryFinishMatch(long matchId) {
+        final Match finished;
+        long journalPosition = 0;
+        final long lockedNanos = lockForWrite();
+        try {
+            if (pendingGoals != null) {
+                pendingGoals.close(matchId, state);
+            }
+            final Match running = state.matchesById.get(matchId);
+            finished = state.tryFinishMatch(matchId);
+            if (journal != null && running != null && !running.finished()) {
+                journalPosition = journal.appendFinish(matchId);
+            }
+        } finally {
+            unlockForWrite(lockedNanos);
+        }
+        commit(journalPosition);
+        return finished != null;
+    }
+
     @Override
     public Collection<Match> getRunningMatchesSortedByTotalScoreAndMostRecentStarted() {
+        if (pendingGoals != null && pendingGoals.hasPending()) {
+            return runningMatchesWithPendingGoals();
+        }
+        if (state.isLockFree()) {
+            return state.runningMatches();
+        }
+        try {
+            readLock.lock();
+            return state.runningMatches();
+        } finally {
+            readLock.unlock();
+        }
+
+    }
+
+    @Override
+    public List<Match> getRunningMatchesPage(int offset, int limit) {
+        if (pendingGoals != null && pendingGoals.hasPending()) {
+            if (offset < 0 || limit < 0) {
+                throw new IllegalArgumentException("Offset and limit must not be negative");
+            }
+            final List<Match> matches = runningMatchesWithPendingGoals();
+            final int from = Math.min(offset, matches.size());
+            return matches.subList(from, from + Math.min(limit, matches.size() - from));
+        }
+        if (state.isLockFree()) {
+            return state.runningMatches(offset, limit);
+        }
+        try {
+            readLock.lock();
+            return state.runningMatches(offset, limit);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(final String isoCode) {
+        try {
+            readLock.lock();
+            return state.finishedMatches(isoCode);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        try {
+            readLock.lock();
+            return state.finishedMatchesStartedBetween(from, to);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int getRank(final long matchId) {
         try {
-            reentrantReadWriteLock.readLock().lock();
-            return new ArrayList<>(sortedMatches.values());
+            readLock.lock();
+            if (pendingGoals == null || !pendingGoals.hasPending()) {
+                return state.getRank(matchId);
+            }
+            if (state.getMatch(matchId).finished()) {
+                return 0;
+            }
+            final List<Match> matches = pendingGoals.withPendingGoals(state.runningMatches());
+            for (int i = 0; i < matches.size(); i++) {
+                if (matches.get(i).id() == matchId) {
+                    return i + 1;
+                }
+            }
+            return 0;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public ScoreboardSubscription subscribe(ScoreboardSubscriber subscriber) {
+        try {
+            readLock.lock();
+            return state.subscribe(subscriber);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public ByteBuffer getRunningMatchesEncoded() {
+        try {
+            readLock.lock();
+            return state.encodedRunningMatches();
         } finally {
-            reentrantReadWriteLock.readLock().unlock();
+            readLock.unlock();
         }
+    }
 
+    /**
+     * Cached view is checked by version without lock, only the first reader after change takes read lock
+     */
+    @Override
+    public <T> T getRunningMatchesRendered(ScoreboardFormatter<T> formatter) {
+        Objects.requireNonNull(formatter, "formatter cannot be null");
+        return renderCache.render(formatter, state.version(), this::getSnapshot);
+    }
+
+    /**
+     * Stop starting scheduled matches, force journal records of the scoreboard and close it
+     */
+    @Override
+    public void close() {
+        kickoffs.close();
+        if (journal == null) {
+            return;
+        }
+        final long lockedNanos = lockForWrite();
+        try {
+            journal.close();
+        } finally {
+            unlockForWrite(lockedNanos);
+        }
+    }
+
+    /**
+     * Pending goals are applied right after the lock is taken, so writes are ordered after goals added before them
+     */
+    private long lockForWrite() {
+        long lockedNanos = 0;
+        if (metrics == null) {
+            writeLock.lock();
+        } else {
+            final long requestedNanos = System.nanoTime();
+            writeLock.lock();
+            lockedNanos = System.nanoTime();
+            metrics.recordWriteLockWait(lockedNanos - requestedNanos);
+        }
+        if (pendingGoals != null) {
+            pendingGoals.apply(state);
+        }
+        return lockedNanos;
+    }
+
+    private void unlockForWrite(final long lockedNanos) {
+        if (metrics != null) {
+            metrics.recordWriteLockHold(System.nanoTime() - lockedNanos);
+        }
+        writeLock.unlock();
+        applyGoalsAddedWhileLocked();
+    }
+
+    /**
+     * Called by writer after write lock is released. Adders of goals which found the lock held by a writer
+     * returned without waiting, so the writer applies their goals. Adder counts its goal before it checks the lock
+     * and writer checks pending goals after unlock, so one of them sees the other
+     */
+    private void applyGoalsAddedWhileLocked() {
+        while (pendingGoals != null && pendingGoals.hasPending()) {
+            writeLock.lock();
+            try {
+                pendingGoals.apply(state);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private boolean isWriteLocked() {
+        return stampedLock != null ? stampedLock.isWriteLocked() : reentrantReadWriteLock.isWriteLocked();
+    }
+
+    /**
+     * Lock free index is read without lock, the read is repeated under read lock if goals were applied meanwhile
+     * @return running matches as they will be when pending goals are applied
+     */
+    private List<Match> runningMatchesWithPendingGoals() {
+        if (state.isLockFree()) {
+            final long stamp = pendingGoals.stamp();
+            final List<Match> matches = pendingGoals.withPendingGoals(state.runningMatches());
+            if (pendingGoals.validate(stamp)) {
+                return matches;
+            }
+        }
+        try {
+            readLock.lock();
+            return pendingGoals.withPendingGoals(state.runningMatches());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Should be called under read lock or validated by the stamp of {@link #stampedLock}
+     */
+    private Match withPendingGoals(final Match match) {
+        return pendingGoals == null || !pendingGoals.hasPending() ? match : pendingGoals.withPendingGoals(match);
+    }
+
+    /**
+     * Wait until journal records up to position are durable, called without lock
+     */
+    private void commit(final long journalPosition) {
+        if (journalPosition != 0) {
+            journal.commit(journalPosition);
+        }
+    }
+
+    private ScoreboardSnapshot getSnapshot() {
+        try {
+            readLock.lock();
+            return state.createSnapshot();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private final class LockedGauges implements ScoreboardGauges {
+        @Override
+        public int liveMatches() {
+            try {
+                readLock.lock();
+                return state.runningMatchCount();
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        @Override
+        public long finishedMatches() {
+            try {
+                readLock.lock();
+                return state.finishedMatchCount();
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        @Override
+        public int lockQueueLength() {
+            return reentrantReadWriteLock == null ? 0 : reentrantReadWriteLock.getQueueLength();
+        }
     }
 }
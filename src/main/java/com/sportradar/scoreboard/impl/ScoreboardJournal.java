@@ -0,0 +1,539 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.exception.ScoreboardException;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log of scoreboard changes. Records are appended to memory buffer under scoreboard
+ * write lock, callers wait for durability after the lock is released. The first waiter writes and
+ * forces all buffered records while the others keep appending, so concurrent writers share one fsync.
+ * Every {@code snapshotInterval} records matches kept in memory are written to a compacted snapshot
+ * and log continues in a new segment, recovery maps the latest snapshot and replays only later segments.
+ * Matches moved to the archive aren't in the snapshot: the archive is forced before the snapshot is taken
+ * and the snapshot records its size, so recovery checks that the reopened archive has all of them.
+ */
+final class ScoreboardJournal implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ScoreboardJournal.class);
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int SNAPSHOT_MAGIC = 0x53425333;
+    /**
+     * Snapshot written before archive size was recorded, archive isn't checked on its recovery
+     */
+    private static final int UNARCHIVED_SNAPSHOT_MAGIC = 0x53425332;
+    /**
+     * Snapshot written before matches had versions, its matches are restored with the first version
+     */
+    private static final int UNVERSIONED_SNAPSHOT_MAGIC = 0x53425331;
+    private static final byte START_RECORD = 1;
+    private static final byte SCORE_RECORD = 2;
+    private static final byte FINISH_RECORD = 3;
+    /**
+     * Length and checksum of record payload
+     */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final int snapshotInterval;
+    private final ScoreboardState state;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private final AtomicReference<PendingSnapshot> pendingSnapshot = new AtomicReference<>();
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private FileChannel segment;
+    /**
+     * Sequence of the next record
+     */
+    private long sequence;
+    private long recordsSinceSnapshot;
+    /**
+     * Bytes appended and bytes forced to disk since journal is opened
+     */
+    private long appendedPosition;
+    private long durablePosition;
+    private boolean flushInProgress;
+    private IOException failure;
+
+    private ScoreboardJournal(final Path directory, final int snapshotInterval, final ScoreboardState state) {
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+        this.state = state;
+    }
+
+    /**
+     * Recover state from the latest snapshot and log tail, then start a new log segment
+     * @return journal or null if journal directory isn't configured
+     */
+    static ScoreboardJournal open(final ScoreboardConfiguration configuration, final ScoreboardState state) {
+        if (configuration.journalDirectory() == null) {
+            return null;
+        }
+        final ScoreboardJournal journal = new ScoreboardJournal(configuration.journalDirectory(),
+                configuration.journalSnapshotInterval(), state);
+        try {
+            Files.createDirectories(journal.directory);
+            journal.recover();
+            journal.segment = journal.openSegment(journal.sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal " + journal.directory + " cannot be opened", e);
+        }
+        return journal;
+    }
+
+    /**
+     * Methods which append records are called under scoreboard write lock in order of changes
+     * @return position which should be passed to {@link #commit(long)}
+     */
+    long appendStart(final Match match) {
+        final byte[] homeCountry = isoCode(match.homeTeamScore().country());
+        final byte[] awayCountry = isoCode(match.awayTeamScore().country());
+        final ByteBuffer payload = ByteBuffer.allocate(Byte.BYTES + Long.BYTES + Byte.BYTES + homeCountry.length
+                + Byte.BYTES + awayCountry.length + Long.BYTES + Integer.BYTES);
+        payload.put(START_RECORD)
+                .putLong(match.id())
+                .put((byte) homeCountry.length)
+                .put(homeCountry)
+                .put((byte) awayCountry.length)
+                .put(awayCountry)
+                .putLong(match.startDate().toEpochSecond(ZoneOffset.UTC))
+                .putInt(match.startDate().getNano());
+        return append(payload);
+    }
+
+    long appendScore(final long matchId, final int homeTeamScore, final int awayTeamScore) {
+        return append(ByteBuffer.allocate(Byte.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES)
+                .put(SCORE_RECORD)
+                .putLong(matchId)
+                .putInt(homeTeamScore)
+                .putInt(awayTeamScore));
+    }
+
+    long appendFinish(final long matchId) {
+        return append(ByteBuffer.allocate(Byte.BYTES + Long.BYTES)
+                .put(FINISH_RECORD)
+                .putLong(matchId));
+    }
+
+    private long append(final ByteBuffer payload) {
+        payload.flip();
+        lock.lock();
+        try {
+            checkFailure();
+            if (pending.remaining() < RECORD_HEADER_SIZE + payload.remaining()) {
+                pending = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position()
+                        + RECORD_HEADER_SIZE + payload.remaining())).put(pending.flip());
+            }
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            pending.putInt(payload.remaining()).putInt((int) checksum.getValue()).put(payload);
+            appendedPosition += RECORD_HEADER_SIZE + payload.limit();
+            sequence++;
+            if (++recordsSinceSnapshot >= snapshotInterval && pendingSnapshot.get() == null) {
+                rotate();
+            }
+            return appendedPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until records up to position are forced to disk, called without scoreboard lock.
+     * Thread which finds no flush in progress writes records of all waiting threads.
+     */
+    void commit(final long position) {
+        lock.lock();
+        try {
+            while (durablePosition < position) {
+                checkFailure();
+                if (flushInProgress) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+                flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+        final PendingSnapshot snapshot = pendingSnapshot.get();
+        if (snapshot != null && snapshot.claimed.compareAndSet(false, true)) {
+            writeSnapshot(snapshot);
+        }
+    }
+
+    /**
+     * Called under scoreboard write lock, so nothing is appended meanwhile
+     */
+    @Override
+    public void close() {
+        final long position;
+        lock.lock();
+        try {
+            position = appendedPosition;
+        } finally {
+            lock.unlock();
+        }
+        commit(position);
+        try {
+            segment.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal " + directory + " cannot be closed", e);
+        }
+    }
+
+    /**
+     * Called with lock held, lock is released while buffered records are written
+     */
+    private void flush() {
+        flushInProgress = true;
+        final ByteBuffer records = pending.flip();
+        pending = spare.clear();
+        final long position = appendedPosition;
+        final FileChannel channel = segment;
+        lock.unlock();
+        IOException writeFailure = null;
+        try {
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            writeFailure = e;
+        } finally {
+            lock.lock();
+        }
+        spare = records;
+        flushInProgress = false;
+        if (writeFailure == null) {
+            durablePosition = position;
+        } else {
+            failure = writeFailure;
+        }
+        flushed.signalAll();
+    }
+
+    /**
+     * Called with lock held under scoreboard write lock, so matches are captured at the segment boundary
+     */
+    private void rotate() {
+        while (flushInProgress) {
+            flushed.awaitUninterruptibly();
+        }
+        checkFailure();
+        final List<Match> matches = state.matches();
+        final long matchIdCounter = state.matchIdCounter();
+        final int archivedMatches = state.archivedMatchCount();
+        state.forceArchive();
+        final ByteBuffer records = pending.flip();
+        try {
+            while (records.hasRemaining()) {
+                segment.write(records);
+            }
+            segment.force(false);
+            segment.close();
+            segment = openSegment(sequence);
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException("Journal segment cannot be rotated", e);
+        } finally {
+            pending = records.clear();
+        }
+        durablePosition = appendedPosition;
+        recordsSinceSnapshot = 0;
+        pendingSnapshot.set(new PendingSnapshot(sequence, matchIdCounter, archivedMatches, matches));
+        flushed.signalAll();
+    }
+
+    /**
+     * Write snapshot into temporary file and rename it, then remove log segments and snapshots it replaces
+     */
+    private void writeSnapshot(final PendingSnapshot snapshot) {
+        final List<byte[]> homeCountries = new ArrayList<>(snapshot.matches.size());
+        final List<byte[]> awayCountries = new ArrayList<>(snapshot.matches.size());
+        int size = Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+        for (Match match : snapshot.matches) {
+            homeCountries.add(isoCode(match.homeTeamScore().country()));
+            awayCountries.add(isoCode(match.awayTeamScore().country()));
+            size += Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES + Byte.BYTES
+                    + Byte.BYTES + homeCountries.get(homeCountries.size() - 1).length
+                    + Byte.BYTES + awayCountries.get(awayCountries.size() - 1).length;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(SNAPSHOT_MAGIC)
+                .putLong(snapshot.sequence)
+                .putLong(snapshot.matchIdCounter)
+                .putInt(snapshot.archivedMatches)
+                .putInt(snapshot.matches.size());
+        for (int i = 0; i < snapshot.matches.size(); i++) {
+            final Match match = snapshot.matches.get(i);
+            buffer.putLong(match.id())
+                    .putLong(match.startDate().toEpochSecond(ZoneOffset.UTC))
+                    .putInt(match.startDate().getNano())
+                    .putInt(match.homeTeamScore().score())
+                    .putInt(match.awayTeamScore().score())
+                    .putLong(match.version())
+                    .put((byte) (match.finished() ? 1 : 0))
+                    .put((byte) homeCountries.get(i).length)
+                    .put(homeCountries.get(i))
+                    .put((byte) awayCountries.get(i).length)
+                    .put(awayCountries.get(i));
+        }
+        final CRC32 snapshotChecksum = new CRC32();
+        snapshotChecksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) snapshotChecksum.getValue()).flip();
+
+        final Path path = directory.resolve(fileName(SNAPSHOT_PREFIX, snapshot.sequence, SNAPSHOT_SUFFIX));
+        final Path temporaryPath = directory.resolve(path.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (Path file : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+                if (sequenceOf(file, SEGMENT_PREFIX, SEGMENT_SUFFIX) < snapshot.sequence) {
+                    Files.delete(file);
+                }
+            }
+            for (Path file : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+                if (sequenceOf(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < snapshot.sequence) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Journal snapshot {} cannot be written, log segments are kept", path, e);
+        } finally {
+            pendingSnapshot.compareAndSet(snapshot, null);
+        }
+    }
+
+    private void recover() throws IOException {
+        for (Path file : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX + TEMPORARY_SUFFIX)) {
+            Files.delete(file);
+        }
+        final List<Path> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            if (readSnapshot(snapshots.get(i))) {
+                break;
+            }
+        }
+        final long snapshotSequence = sequence;
+        for (Path file : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            final long firstSequence = sequenceOf(file, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+            if (firstSequence > sequence) {
+                throw new IllegalStateException("Journal records from " + sequence + " to " + firstSequence
+                        + " are missing in " + directory);
+            }
+            replaySegment(file, firstSequence, snapshotSequence);
+        }
+        logger.info("Journal {} recovered {} matches up to record {}", directory, state.matches().size(), sequence);
+    }
+
+    /**
+     * @return false if snapshot is damaged
+     */
+    private boolean readSnapshot(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final int contentSize = buffer.limit() - Integer.BYTES;
+            final int magic = contentSize < Integer.BYTES ? 0 : buffer.getInt(0);
+            if (magic != SNAPSHOT_MAGIC && magic != UNARCHIVED_SNAPSHOT_MAGIC && magic != UNVERSIONED_SNAPSHOT_MAGIC) {
+                logger.warn("Journal snapshot {} is damaged", path);
+                return false;
+            }
+            final CRC32 snapshotChecksum = new CRC32();
+            snapshotChecksum.update(buffer.slice(0, contentSize));
+            if ((int) snapshotChecksum.getValue() != buffer.getInt(contentSize)) {
+                logger.warn("Journal snapshot {} is damaged", path);
+                return false;
+            }
+            buffer.position(Integer.BYTES);
+            sequence = buffer.getLong();
+            state.restoreMatchIdCounter(buffer.getLong());
+            final int archivedMatches = magic == SNAPSHOT_MAGIC ? buffer.getInt() : 0;
+            if (state.archivedMatchCount() < archivedMatches) {
+                throw new IllegalStateException("Journal snapshot " + path + " expects " + archivedMatches
+                        + " archived matches, but archive has " + state.archivedMatchCount());
+            }
+            final int matchCount = buffer.getInt();
+            for (int i = 0; i < matchCount; i++) {
+                final long id = buffer.getLong();
+                final LocalDateTime startDate = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(),
+                        ZoneOffset.UTC);
+                final int homeTeamScore = buffer.getInt();
+                final int awayTeamScore = buffer.getInt();
+                final long version = magic == UNVERSIONED_SNAPSHOT_MAGIC ? 0 : buffer.getLong();
+                final boolean finished = buffer.get() == 1;
+                final String homeCountry = countryName(readIsoCode(buffer));
+                final String awayCountry = countryName(readIsoCode(buffer));
+                state.restore(new Match(id, new Score(homeCountry, homeTeamScore),
+                        new Score(awayCountry, awayTeamScore), startDate, finished, version));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Apply records from snapshot sequence, damaged tail left by crash is cut off
+     */
+    private void replaySegment(final Path path, final long firstSequence, final long snapshotSequence)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long recordSequence = firstSequence;
+            final CRC32 recordChecksum = new CRC32();
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                final int start = buffer.position();
+                final int length = buffer.getInt();
+                final int expectedChecksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    buffer.position(start);
+                    break;
+                }
+                final ByteBuffer payload = buffer.slice(buffer.position(), length);
+                recordChecksum.reset();
+                recordChecksum.update(payload.duplicate());
+                if ((int) recordChecksum.getValue() != expectedChecksum) {
+                    buffer.position(start);
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                if (recordSequence >= snapshotSequence) {
+                    replay(payload, recordSequence);
+                }
+                recordSequence++;
+            }
+            if (buffer.hasRemaining()) {
+                logger.warn("Journal segment {} has damaged tail after record {}, it's truncated", path, recordSequence);
+                channel.truncate(buffer.position());
+            }
+            sequence = Math.max(sequence, recordSequence);
+        }
+    }
+
+    private void replay(final ByteBuffer payload, final long recordSequence) {
+        final byte type = payload.get();
+        final long matchId = payload.getLong();
+        try {
+            switch (type) {
+                case START_RECORD -> {
+                    final String homeCountry = readIsoCode(payload);
+                    final String awayCountry = readIsoCode(payload);
+                    final LocalDateTime startDate = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(),
+                            ZoneOffset.UTC);
+                    if (state.startMatch(homeCountry, awayCountry, startDate).id() != matchId) {
+                        throw new IllegalStateException("Journal record " + recordSequence
+                                + " started match with another id than " + matchId);
+                    }
+                }
+                case SCORE_RECORD -> state.updateScore(matchId, payload.getInt(), payload.getInt());
+                case FINISH_RECORD -> state.finishMatch(matchId);
+                default -> throw new IllegalStateException("Journal record " + recordSequence
+                        + " has unknown type " + type);
+            }
+        } catch (ScoreboardException e) {
+            throw new IllegalStateException("Journal record " + recordSequence + " cannot be replayed", e);
+        }
+    }
+
+    private FileChannel openSegment(final long firstSequence) throws IOException {
+        return FileChannel.open(directory.resolve(fileName(SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * @return files sorted by sequence because names have fixed width
+     */
+    private List<Path> list(final String prefix, final String suffix) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Journal " + directory + " failed, changes aren't durable", failure);
+        }
+    }
+
+    private static String fileName(final String prefix, final long sequence, final String suffix) {
+        return String.format("%s%020d%s", prefix, sequence, suffix);
+    }
+
+    private static long sequenceOf(final Path path, final String prefix, final String suffix) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(prefix.length(), fileName.length() - suffix.length()));
+    }
+
+    private byte[] isoCode(final String countryName) {
+        final CountryTable countries = state.countries;
+        return countries.isoCode(countries.ordinalOfName(countryName)).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String readIsoCode(final ByteBuffer buffer) {
+        final byte[] isoCode = new byte[buffer.get()];
+        buffer.get(isoCode);
+        return new String(isoCode, StandardCharsets.US_ASCII);
+    }
+
+    private String countryName(final String isoCode) {
+        final CountryTable countries = state.countries;
+        final int ordinal = countries.ordinalOfIsoCode(isoCode);
+        if (ordinal == CountryTable.UNKNOWN) {
+            throw new IllegalStateException("Journal snapshot has unsupported country " + isoCode);
+        }
+        return countries.name(ordinal);
+    }
+
+    private static final class PendingSnapshot {
+        private final long sequence;
+        private final long matchIdCounter;
+        private final int archivedMatches;
+        private final List<Match> matches;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingSnapshot(final long sequence, final long matchIdCounter, final int archivedMatches,
+                                final List<Match> matches) {
+            this.sequence = sequence;
+            this.matchIdCounter = matchIdCounter;
+            this.archivedMatches = archivedMatches;
+            this.matches = matches;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.model.CompetitionMatch;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Independent scoreboards of competitions played at the same time. Every partition has its own lock
+ * and indexes, so writes to different competitions don't contend. Cross-partition queries read
+ * partitions one by one, every partition is consistent but they aren't read at the same moment.
+ */
+public class ScoreboardRegistry implements AutoCloseable {
+    private static final Pattern COMPETITION_ID = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final ScoreboardConfiguration configuration;
+    private final Map<String, ScoreboardImpl> partitions = new ConcurrentHashMap<>();
+
+    public ScoreboardRegistry() {
+        this(ScoreboardConfiguration.defaults());
+    }
+
+    /**
+     * @param configuration options of every partition, archive and journal of a partition are kept
+     *                      in subdirectory named by competition id
+     */
+    public ScoreboardRegistry(final ScoreboardConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @param competitionId id of the competition, letters, digits, '_' and '-' are allowed
+     * @return scoreboard of the competition, it's created on first call
+     */
+    public Scoreboard partition(final String competitionId) {
+        Objects.requireNonNull(competitionId, "competitionId cannot be null");
+        final ScoreboardImpl partition = partitions.get(competitionId);
+        if (partition != null) {
+            return partition;
+        }
+        if (!COMPETITION_ID.matcher(competitionId).matches()) {
+            throw new IllegalArgumentException("Competition id " + competitionId + " is not supported");
+        }
+        return partitions.computeIfAbsent(competitionId,
+                id -> new ScoreboardImpl(configuration.withSubdirectory(id)));
+    }
+
+    public Set<String> competitionIds() {
+        return Set.copyOf(partitions.keySet());
+    }
+
+    /**
+     * Merge top matches of every partition, so only limit matches per partition are copied
+     * @param limit max amount of returned matches
+     * @return at most limit running matches of all competitions in scoreboard order
+     */
+    public List<CompetitionMatch> getTopRunningMatches(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        final PriorityQueue<PartitionCursor> cursors = new PriorityQueue<>(Math.max(1, partitions.size()));
+        long size = 0;
+        for (Map.Entry<String, ScoreboardImpl> partition : partitions.entrySet()) {
+            final List<Match> matches = partition.getValue().getTopRunningMatches(limit);
+            if (!matches.isEmpty()) {
+                size += matches.size();
+                cursors.add(new PartitionCursor(partition.getKey(), matches.iterator()));
+            }
+        }
+        final List<CompetitionMatch> topMatches = new ArrayList<>((int) Math.min(limit, size));
+        while (topMatches.size() < limit && !cursors.isEmpty()) {
+            final PartitionCursor cursor = cursors.poll();
+            topMatches.add(new CompetitionMatch(cursor.competitionId, cursor.current));
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return topMatches;
+    }
+
+    @Override
+    public void close() {
+        partitions.values().forEach(ScoreboardImpl::close);
+    }
+
+    private static final class PartitionCursor implements Comparable<PartitionCursor> {
+        private static final Comparator<PartitionCursor> ORDER = Comparator
+                .<PartitionCursor, MatchSortKey>comparing(cursor -> cursor.currentKey)
+                .thenComparing(cursor -> cursor.competitionId);
+
+        private final String competitionId;
+        private final Iterator<Match> matches;
+        private Match current;
+        private MatchSortKey currentKey;
+
+        private PartitionCursor(final String competitionId, final Iterator<Match> matches) {
+            this.competitionId = competitionId;
+            this.matches = matches;
+            advance();
+        }
+
+        private boolean advance() {
+            if (!matches.hasNext()) {
+                return false;
+            }
+            current = matches.next();
+            currentKey = current.compoundSortKey();
+            return true;
+        }
+
+        @Override
+        public int compareTo(final PartitionCursor other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
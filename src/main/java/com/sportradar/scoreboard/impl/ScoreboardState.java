@@ -0,0 +1,508 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.MatchFinishedEvent;
+import com.sportradar.scoreboard.event.MatchStartedEvent;
+import com.sportradar.scoreboard.event.ScoreChangedEvent;
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
+import com.sportradar.scoreboard.exception.CountryNotSupportedException;
+import com.sportradar.scoreboard.exception.MatchNotFoundException;
+import com.sportradar.scoreboard.exception.ScoreNotPositiveException;
+import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+import com.sportradar.scoreboard.model.MatchStartStatus;
+import com.sportradar.scoreboard.model.Score;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Matches and indexes of the scoreboard. It isn't thread safe: {@link ScoreboardImpl} calls it
+ * under lock and {@link EventLoopScoreboard} only from its writer thread. Reads of running matches
+ * could be done without lock if {@link #isLockFree()}.
+ */
+final class ScoreboardState {
+    final CountryTable countries;
+    /**
+     * Initial idea that write pattern is extremely less frequent, that's why it will be better
+     * to sort matches on insert
+     */
+    final LongMatchMap matchesById = new LongMatchMap();
+    private final SortedMatchIndex sortedMatches;
+    private long matchIdCounter;
+    /**
+     * Id of running match by country ordinal, 0 means that country isn't playing.
+     * It doesn't depend on amount of finished matches unlike scan of {@link #matchesById}
+     */
+    private final long[] runningMatchIdByCountry;
+    /**
+     * Null if all finished matches are kept in memory
+     */
+    private final FinishedMatchRetention finishedMatchRetention;
+    /**
+     * Finished matches kept in memory, archived matches are queried from the archive
+     */
+    private final MatchHistory history;
+    private final LongConsumer evictedMatchListener;
+    private final ChangeFeed changeFeed;
+    /**
+     * Incremented by every change of the matches, it's sequence of the latest change feed event.
+     * Volatile, so cached views could be checked without lock
+     */
+    private volatile long version;
+    /**
+     * Encoded running matches shared by all readers until the version is changed
+     */
+    private volatile EncodedRunningMatches encodedRunningMatches;
+
+    /**
+     * @param configuration options of the scoreboard
+     * @param sortedMatches index of running matches
+     * @param snapshotSupplier snapshot taken with the same guarantees as the owner gives to its callers
+     * @param evictedMatchListener notified with id of the match moved from memory to archive
+     */
+    ScoreboardState(final ScoreboardConfiguration configuration, final SortedMatchIndex sortedMatches,
+                    final Supplier<ScoreboardSnapshot> snapshotSupplier, final LongConsumer evictedMatchListener) {
+        this.countries = configuration.countries();
+        this.runningMatchIdByCountry = new long[countries.size()];
+        this.history = new MatchHistory(countries);
+        this.sortedMatches = sortedMatches;
+        this.finishedMatchRetention = FinishedMatchRetention.create(configuration);
+        this.evictedMatchListener = evictedMatchListener;
+        this.changeFeed = new ChangeFeed(configuration.changeFeedCapacity(), snapshotSupplier);
+    }
+
+    Match startMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        int homeTeamCountry = getCountryOrdinal(homeTeamIsoCode);
+        int awayTeamCountry = getCountryOrdinal(awayTeamIsoCode);
+        checkIsCountryPlaying(homeTeamCountry);
+        checkIsCountryPlaying(awayTeamCountry);
+        return startMatch(homeTeamCountry, awayTeamCountry, startDate);
+    }
+
+    /**
+     * Same as {@link #startMatch(String, String, LocalDateTime)} without exceptions
+     * @return started match or null if a team isn't supported or is already playing
+     */
+    Match tryStartMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        final int homeTeamCountry = countries.ordinalOfIsoCode(homeTeamIsoCode);
+        final int awayTeamCountry = countries.ordinalOfIsoCode(awayTeamIsoCode);
+        if (homeTeamCountry == CountryTable.UNKNOWN || awayTeamCountry == CountryTable.UNKNOWN
+                || runningMatchIdByCountry[homeTeamCountry] != 0 || runningMatchIdByCountry[awayTeamCountry] != 0) {
+            return null;
+        }
+        return startMatch(homeTeamCountry, awayTeamCountry, startDate);
+    }
+
+    /**
+     * Check that the match could be started now, it throws the same exceptions as
+     * {@link #startMatch(String, String, LocalDateTime)}
+     */
+    void checkCanStart(String homeTeamIsoCode, String awayTeamIsoCode) {
+        checkIsCountryPlaying(getCountryOrdinal(homeTeamIsoCode));
+        checkIsCountryPlaying(getCountryOrdinal(awayTeamIsoCode));
+    }
+
+    /**
+     * Reason of failed {@link #tryStartMatch(String, String, LocalDateTime)}, it's asked only on failure,
+     * so the start itself doesn't pay for it
+     * @return {@link MatchStartStatus#STARTED} if the teams could be started now
+     */
+    MatchStartStatus startStatus(String homeTeamIsoCode, String awayTeamIsoCode) {
+        final int homeTeamCountry = countries.ordinalOfIsoCode(homeTeamIsoCode);
+        final int awayTeamCountry = countries.ordinalOfIsoCode(awayTeamIsoCode);
+        if (homeTeamCountry == CountryTable.UNKNOWN || awayTeamCountry == CountryTable.UNKNOWN) {
+            return MatchStartStatus.COUNTRY_NOT_SUPPORTED;
+        }
+        if (runningMatchIdByCountry[homeTeamCountry] != 0 || runningMatchIdByCountry[awayTeamCountry] != 0) {
+            return MatchStartStatus.TEAM_ALREADY_PLAYING;
+        }
+        return MatchStartStatus.STARTED;
+    }
+
+    private Match startMatch(int homeTeamCountry, int awayTeamCountry, LocalDateTime startDate) {
+        final var match = new Match(++matchIdCounter,
+                new Score(countries.name(homeTeamCountry), 0),
+                new Score(countries.name(awayTeamCountry), 0), startDate, false);
+        final MatchSortKey key = match.compoundSortKey();
+        matchesById.put(match.id(), match);
+        sortedMatches.put(key, match);
+        runningMatchIdByCountry[homeTeamCountry] = match.id();
+        runningMatchIdByCountry[awayTeamCountry] = match.id();
+        version++;
+        if (changeFeed.hasSubscribers()) {
+            changeFeed.publish(new MatchStartedEvent(version, match, sortedMatches.rankOf(key)));
+        }
+        evictFinishedMatches();
+        return match;
+    }
+
+    private void checkIsCountryPlaying(int country) {
+        if (runningMatchIdByCountry[country] != 0) {
+            throw new TeamAlreadyPlayingException(countries.name(country));
+        }
+    }
+
+    private void releaseCountry(String countryName, long matchId) {
+        final int country = countries.ordinalOfName(countryName);
+        if (runningMatchIdByCountry[country] == matchId) {
+            runningMatchIdByCountry[country] = 0;
+        }
+    }
+
+    private int getCountryOrdinal(String iso3Code) {
+        int country = countries.ordinalOfIsoCode(iso3Code);
+        if (country == CountryTable.UNKNOWN) {
+            throw new CountryNotSupportedException(iso3Code);
+        }
+        return country;
+    }
+
+    /**
+     * @return match kept in memory or archived match, null if there is no such match
+     */
+    Match findMatch(final long matchId) {
+        Match match = matchesById.get(matchId);
+        if (match == null) {
+            match = findArchivedMatch(matchId);
+        }
+        return match;
+    }
+
+    Match getMatch(final long matchId) {
+        final Match match = findMatch(matchId);
+        if (match == null) {
+            throw new MatchNotFoundException(matchId);
+        }
+        return match;
+    }
+
+    /**
+     * @return 1 based position of the running match, 0 if the match is finished
+     */
+    int getRank(final long matchId) {
+        final Match match = getMatch(matchId);
+        return match.finished() ? 0 : rankOf(match);
+    }
+
+    /**
+     * Could be called without lock if the index is lock free
+     * @return 1 based position of the match with its current score or 0 if there is no such running match
+     */
+    int rankOf(final Match match) {
+        return sortedMatches.rankOf(match.compoundSortKey());
+    }
+
+    /**
+     * @return finished matches of the country in the order they were finished
+     */
+    List<Match> finishedMatches(final String iso3Code) {
+        final int country = getCountryOrdinal(iso3Code);
+        if (finishedMatchRetention == null) {
+            return history.findByCountry(country);
+        }
+        final List<Match> matches = withoutRetained(finishedMatchRetention.findArchivedByCountry(countries.name(country)));
+        matches.addAll(history.findByCountry(country));
+        return matches;
+    }
+
+    /**
+     * @return finished matches started at from or later and before to, ordered by start time
+     */
+    List<Match> finishedMatchesStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        Objects.requireNonNull(from, "from cannot be null");
+        Objects.requireNonNull(to, "to cannot be null");
+        if (finishedMatchRetention == null) {
+            return history.findStartedBetween(from, to);
+        }
+        final List<Match> matches = withoutRetained(finishedMatchRetention.findArchivedStartedBetween(from, to));
+        matches.addAll(history.findStartedBetween(from, to));
+        matches.sort(Comparator.comparing(Match::startDate));
+        return matches;
+    }
+
+    /**
+     * Archive could still have a match restored into memory by journal recovery, memory has its latest state
+     */
+    private List<Match> withoutRetained(final List<Match> archivedMatches) {
+        archivedMatches.removeIf(match -> matchesById.containsKey(match.id()));
+        return archivedMatches;
+    }
+
+    private Match findArchivedMatch(final long matchId) {
+        if (finishedMatchRetention == null) {
+            return null;
+        }
+        return finishedMatchRetention.findArchived(matchId);
+    }
+
+    private void evictFinishedMatches() {
+        if (finishedMatchRetention != null) {
+            finishedMatchRetention.evict(matchesById, history, evictedMatchListener);
+        }
+    }
+
+    /**
+     * @return match with new score
+     */
+    Match updateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            throw new ScoreNotPositiveException();
+        }
+        final Match match = tryUpdateScore(matchId, homeTeamScore, awayTeamScore);
+        if (match == null) {
+            throw new MatchNotFoundException(matchId);
+        }
+        return match;
+    }
+
+    /**
+     * Same as {@link #updateScore(long, int, int)} without exceptions, scores should be already validated
+     * @return match with new score or null if there is no such running match
+     */
+    Match tryUpdateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        final Match match = findRunningMatch(matchId);
+        return match == null ? null : changeScore(match, homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Finished matches are kept in {@link #matchesById} until they are evicted, but their score can't be changed
+     * @return running match or null if there is no such match or it's finished
+     */
+    Match findRunningMatch(long matchId) {
+        final Match match = matchesById.get(matchId);
+        return match == null || match.finished() ? null : match;
+    }
+
+    /**
+     * @return match with new score or null if version of the match isn't the expected one
+     */
+    Match compareAndUpdateScore(long matchId, long expectedVersion, int homeTeamScore, int awayTeamScore) {
+        if (homeTeamScore < 0 || awayTeamScore < 0) {
+            throw new ScoreNotPositiveException();
+        }
+        final Match match = findRunningMatch(matchId);
+        if (match == null) {
+            throw new MatchNotFoundException(matchId);
+        }
+        if (match.version() != expectedVersion) {
+            return null;
+        }
+        return changeScore(match, homeTeamScore, awayTeamScore);
+    }
+
+    /**
+     * Add goals to score of the running match
+     * @return match with new score
+     */
+    Match incrementScore(long matchId, int homeTeamGoals, int awayTeamGoals) {
+        final Match match = findRunningMatch(matchId);
+        if (match == null) {
+            throw new MatchNotFoundException(matchId);
+        }
+        return changeMatch(match, match.createMatchCopyWithGoals(homeTeamGoals, awayTeamGoals));
+    }
+
+    /**
+     * Replayed or retried update with the same score changes nothing, even version of the match.
+     * The match should be running, see {@link #findRunningMatch(long)}
+     * @return match with new score, the same match if the score isn't changed
+     */
+    Match changeScore(Match match, int homeTeamScore, int awayTeamScore) {
+        if (match.homeTeamScore().score() == homeTeamScore && match.awayTeamScore().score() == awayTeamScore) {
+            return match;
+        }
+        return changeMatch(match, match.createMatchCopy(homeTeamScore, awayTeamScore));
+    }
+
+    private Match changeMatch(Match match, Match newMatch) {
+        final MatchSortKey key = match.compoundSortKey();
+        final MatchSortKey newKey = newMatch.compoundSortKey();
+        final boolean publishEvent = changeFeed.hasSubscribers();
+        final int previousRank = publishEvent ? sortedMatches.rankOf(key) : 0;
+        matchesById.put(match.id(), newMatch);
+        sortedMatches.replace(key, newKey, newMatch);
+        version++;
+        if (publishEvent) {
+            changeFeed.publish(new ScoreChangedEvent(version, match, newMatch, previousRank,
+                    sortedMatches.rankOf(newKey)));
+        }
+        return newMatch;
+    }
+
+    /**
+     * @return finished match
+     */
+    Match finishMatch(long matchId) {
+        final Match match = tryFinishMatch(matchId);
+        if (match == null) {
+            throw new MatchNotFoundException(matchId);
+        }
+        return match;
+    }
+
+    /**
+     * Same as {@link #finishMatch(long)} without exceptions
+     * @return finished match or null if there is no such match
+     */
+    Match tryFinishMatch(long matchId) {
+        Match matchToRemove = matchesById.get(matchId);
+        if (matchToRemove == null) {
+            return findArchivedMatch(matchId);
+        }
+        final boolean publishEvent = !matchToRemove.finished() && changeFeed.hasSubscribers();
+        final MatchSortKey key = matchToRemove.compoundSortKey();
+        final int previousRank = publishEvent ? sortedMatches.rankOf(key) : 0;
+        sortedMatches.remove(key);
+        Match newMatch = matchToRemove.createFinishedMatchCopy();
+        matchesById.put(newMatch.id(), newMatch);
+        releaseCountry(newMatch.homeTeamScore().country(), newMatch.id());
+        releaseCountry(newMatch.awayTeamScore().country(), newMatch.id());
+        if (!matchToRemove.finished()) {
+            version++;
+            history.add(newMatch);
+            if (publishEvent) {
+                changeFeed.publish(new MatchFinishedEvent(version, newMatch, previousRank));
+            }
+            if (finishedMatchRetention != null) {
+                finishedMatchRetention.finished(newMatch.id());
+            }
+        }
+        evictFinishedMatches();
+        return newMatch;
+    }
+
+    /**
+     * Put match recovered from journal snapshot, it's called before any other change
+     */
+    void restore(final Match match) {
+        matchesById.put(match.id(), match);
+        matchIdCounter = Math.max(matchIdCounter, match.id());
+        if (match.finished()) {
+            history.add(match);
+            if (finishedMatchRetention != null) {
+                finishedMatchRetention.finished(match.id());
+            }
+            return;
+        }
+        sortedMatches.put(match.compoundSortKey(), match);
+        runningMatchIdByCountry[countries.ordinalOfName(match.homeTeamScore().country())] = match.id();
+        runningMatchIdByCountry[countries.ordinalOfName(match.awayTeamScore().country())] = match.id();
+    }
+
+    void restoreMatchIdCounter(final long matchIdCounter) {
+        this.matchIdCounter = Math.max(this.matchIdCounter, matchIdCounter);
+    }
+
+    /**
+     * @return amount of archived matches, 0 if all finished matches are kept in memory
+     */
+    int archivedMatchCount() {
+        return finishedMatchRetention == null ? 0 : finishedMatchRetention.archivedCount();
+    }
+
+    /**
+     * Force archived matches to disk, so journal records of their finish could be dropped
+     */
+    void forceArchive() {
+        if (finishedMatchRetention != null) {
+            finishedMatchRetention.forceArchive();
+        }
+    }
+
+    /**
+     * Continue ids after matches archived before restart, called after journal recovery because
+     * replayed matches should get their original ids
+     */
+    void restoreArchivedMatchIds() {
+        if (finishedMatchRetention != null) {
+            restoreMatchIdCounter(finishedMatchRetention.maxArchivedMatchId());
+        }
+    }
+
+    long matchIdCounter() {
+        return matchIdCounter;
+    }
+
+    /**
+     * @return copy of running and finished matches kept in memory
+     */
+    List<Match> matches() {
+        final List<Match> matches = new ArrayList<>(matchesById.size());
+        matchesById.forEach(matches::add);
+        return matches;
+    }
+
+    boolean isLockFree() {
+        return sortedMatches.isLockFree();
+    }
+
+    Collection<Match> runningMatches() {
+        return sortedMatches.runningMatches();
+    }
+
+    List<Match> runningMatches(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative");
+        }
+        return sortedMatches.runningMatches(offset, limit);
+    }
+
+    ScoreboardSubscription subscribe(ScoreboardSubscriber subscriber) {
+        return changeFeed.subscribe(subscriber, createSnapshot());
+    }
+
+    int runningMatchCount() {
+        return sortedMatches.size();
+    }
+
+    /**
+     * @return finished matches kept in memory and archived
+     */
+    long finishedMatchCount() {
+        final long archived = finishedMatchRetention == null ? 0 : finishedMatchRetention.archivedCount();
+        return matchesById.size() - sortedMatches.size() + archived;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Should be called under read lock or by the writer thread, so version and running matches agree
+     * @return read-only view of the bytes encoded once per version
+     */
+    ByteBuffer encodedRunningMatches() {
+        EncodedRunningMatches encoded = encodedRunningMatches;
+        if (encoded == null || encoded.version() != version) {
+            encoded = new EncodedRunningMatches(version, RunningMatchesCodec.encode(version, sortedMatches.runningMatches(), countries));
+            encodedRunningMatches = encoded;
+        }
+        return encoded.bytes().duplicate();
+    }
+
+    /**
+     * Could be called without lock
+     * @return read-only view of the bytes if they are encoded for the version, null otherwise
+     */
+    ByteBuffer encodedRunningMatches(final long version) {
+        final EncodedRunningMatches encoded = encodedRunningMatches;
+        return encoded != null && encoded.version() == version ? encoded.bytes().duplicate() : null;
+    }
+
+    ScoreboardSnapshot createSnapshot() {
+        return new ScoreboardSnapshot(version, List.copyOf(sortedMatches.runningMatches()));
+    }
+
+    private record EncodedRunningMatches(long version, ByteBuffer bytes) {
+    }
+}
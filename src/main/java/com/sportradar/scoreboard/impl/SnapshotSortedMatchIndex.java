@@ -0,0 +1,58 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writers replace immutable tree and publish it through volatile reference, so readers
+ * get consistent sorted matches without lock and copy
+ */
+class SnapshotSortedMatchIndex implements SortedMatchIndex {
+    private volatile PersistentSortedMatches snapshot = PersistentSortedMatches.EMPTY;
+
+    @Override
+    public void put(final MatchSortKey key, final Match match) {
+        snapshot = snapshot.with(key, match);
+    }
+
+    @Override
+    public void remove(final MatchSortKey key) {
+        snapshot = snapshot.without(key);
+    }
+
+    /**
+     * Both changes are made on local tree and published once, so readers never miss the moved match
+     */
+    @Override
+    public void replace(final MatchSortKey oldKey, final MatchSortKey newKey, final Match match) {
+        snapshot = snapshot.without(oldKey).with(newKey, match);
+    }
+
+    @Override
+    public Collection<Match> runningMatches() {
+        return snapshot;
+    }
+
+    @Override
+    public List<Match> runningMatches(final int offset, final int limit) {
+        return snapshot.slice(offset, limit);
+    }
+
+    @Override
+    public int rankOf(final MatchSortKey key) {
+        return snapshot.rankOf(key);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isLockFree() {
+        return true;
+    }
+}
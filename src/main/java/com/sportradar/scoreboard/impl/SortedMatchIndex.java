@@ -0,0 +1,60 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Running matches ordered by {@link MatchSortKey}. Mutations are called under write lock.
+ */
+interface SortedMatchIndex {
+
+    void put(MatchSortKey key, Match match);
+
+    void remove(MatchSortKey key);
+
+    /**
+     * Move the match from the old key to the new one, readers without lock see either old or new position
+     */
+    default void replace(final MatchSortKey oldKey, final MatchSortKey newKey, final Match match) {
+        remove(oldKey);
+        put(newKey, match);
+    }
+
+    /**
+     * @return running matches in sort key order, it's never modified by later writes
+     */
+    Collection<Match> runningMatches();
+
+    /**
+     * @return copy of at most limit running matches starting from offset position in sort key order
+     */
+    List<Match> runningMatches(int offset, int limit);
+
+    /**
+     * @return amount of running matches
+     */
+    int size();
+
+    /**
+     * @return 1 based position of the match with the key or 0 if it isn't running
+     */
+    int rankOf(MatchSortKey key);
+
+    /**
+     * @return true if {@link #runningMatches()} could be called without read lock
+     */
+    boolean isLockFree();
+
+    static SortedMatchIndex create(final ReadMode readMode, final OrderingEngine orderingEngine) {
+        return switch (readMode) {
+            case LOCKED -> switch (orderingEngine) {
+                case TREE -> new OrderStatisticSortedMatchIndex();
+                case SCORE_BUCKETS -> new ScoreBucketSortedMatchIndex();
+            };
+            case SNAPSHOT -> new SnapshotSortedMatchIndex();
+        };
+    }
+}
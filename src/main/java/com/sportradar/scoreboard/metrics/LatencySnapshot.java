@@ -0,0 +1,15 @@
+package com.sportradar.scoreboard.metrics;
+
+/**
+ * Distribution of recorded durations, percentiles are upper bounds of histogram buckets
+ * @param count amount of recorded durations
+ * @param totalNanos sum of recorded durations
+ * @param maxNanos the longest recorded duration
+ */
+public record LatencySnapshot(long count, long totalNanos, long maxNanos, long p50Nanos, long p90Nanos,
+                              long p99Nanos, long p999Nanos) {
+
+    public double meanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+}
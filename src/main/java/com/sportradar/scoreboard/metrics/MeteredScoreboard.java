@@ -0,0 +1,305 @@
+package com.sportradar.scoreboard.metrics;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Decorator which records latency and thrown exceptions of every operation. Calls are written out
+ * without lambdas, so recording doesn't allocate. Scoreboard without metrics isn't decorated at all.
+ */
+public class MeteredScoreboard implements Scoreboard {
+    private final Scoreboard delegate;
+    private final ScoreboardMetrics metrics;
+
+    public MeteredScoreboard(final Scoreboard delegate, final ScoreboardMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public long startMatchAsLong(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.startMatchAsLong(homeTeamIsoCode, awayTeamIsoCode, startDate);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.START_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public MatchStartResult tryStartMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.tryStartMatch(homeTeamIsoCode, awayTeamIsoCode, startDate);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.TRY_START_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public long scheduleMatch(String homeTeamIsoCode, String awayTeamIsoCode, LocalDateTime startDate,
+                              Consumer<MatchStartResult> kickoffListener) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.scheduleMatch(homeTeamIsoCode, awayTeamIsoCode, startDate, kickoffListener);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.SCHEDULE_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public boolean cancelScheduledMatch(long scheduledMatchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.cancelScheduledMatch(scheduledMatchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.CANCEL_SCHEDULED_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public Match getMatch(long matchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getMatch(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public List<Match> getFinishedMatches(String isoCode) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getFinishedMatches(isoCode);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_FINISHED_MATCHES, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public List<Match> getFinishedMatchesStartedBetween(LocalDateTime from, LocalDateTime to) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getFinishedMatchesStartedBetween(from, to);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_FINISHED_MATCHES_STARTED_BETWEEN, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public int getRank(long matchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getRank(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_RANK, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public void updateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        final long startNanos = System.nanoTime();
+        try {
+            delegate.updateScore(matchId, homeTeamScore, awayTeamScore);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.UPDATE_SCORE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public ScoreUpdateStatus tryUpdateScore(long matchId, int homeTeamScore, int awayTeamScore) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.tryUpdateScore(matchId, homeTeamScore, awayTeamScore);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.TRY_UPDATE_SCORE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public boolean compareAndUpdateScore(long matchId, long expectedVersion, int homeTeamScore, int awayTeamScore) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.compareAndUpdateScore(matchId, expectedVersion, homeTeamScore, awayTeamScore);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.COMPARE_AND_UPDATE_SCORE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public void incrementHomeScore(long matchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            delegate.incrementHomeScore(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.INCREMENT_SCORE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public void incrementAwayScore(long matchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            delegate.incrementAwayScore(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.INCREMENT_SCORE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public List<ScoreUpdateResult> applyUpdates(Collection<ScoreUpdate> updates) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.applyUpdates(updates);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.APPLY_UPDATES, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public void finishMatch(long matchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            delegate.finishMatch(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.FINISH_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public boolean tryFinishMatch(long matchId) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.tryFinishMatch(matchId);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.TRY_FINISH_MATCH, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public Collection<Match> getRunningMatchesSortedByTotalScoreAndMostRecentStarted() {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getRunningMatchesSortedByTotalScoreAndMostRecentStarted();
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_RUNNING_MATCHES, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public List<Match> getRunningMatchesPage(int offset, int limit) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getRunningMatchesPage(offset, limit);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_RUNNING_MATCHES_PAGE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public ScoreboardSubscription subscribe(ScoreboardSubscriber subscriber) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.subscribe(subscriber);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.SUBSCRIBE, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public ByteBuffer getRunningMatchesEncoded() {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getRunningMatchesEncoded();
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_RUNNING_MATCHES_ENCODED, System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public <T> T getRunningMatchesRendered(ScoreboardFormatter<T> formatter) {
+        final long startNanos = System.nanoTime();
+        try {
+            return delegate.getRunningMatchesRendered(formatter);
+        } catch (RuntimeException e) {
+            metrics.recordException(e);
+            throw e;
+        } finally {
+            metrics.recordLatency(ScoreboardOperation.GET_RUNNING_MATCHES_RENDERED, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.sportradar.scoreboard.metrics;
+
+/**
+ * Current values of the scoreboard, they are read only when metrics snapshot is taken
+ */
+public interface ScoreboardGauges {
+
+    int liveMatches();
+
+    /**
+     * @return finished matches kept in memory and archived
+     */
+    long finishedMatches();
+
+    /**
+     * @return estimated amount of threads waiting for the scoreboard lock
+     */
+    int lockQueueLength();
+}
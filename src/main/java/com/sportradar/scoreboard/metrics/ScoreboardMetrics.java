@@ -0,0 +1,170 @@
+package com.sportradar.scoreboard.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collector of scoreboard metrics. Recording only increments preallocated counters, so it doesn't
+ * allocate on hot path, the only allocation is a counter of exception type thrown for the first time.
+ * Latencies and exceptions are recorded by {@link MeteredScoreboard}, lock times and gauges by
+ * {@link com.sportradar.scoreboard.impl.ScoreboardImpl} created with the metrics.
+ */
+public class ScoreboardMetrics implements ScoreboardMetricsMXBean {
+    private static final ScoreboardGauges NO_GAUGES = new ScoreboardGauges() {
+        @Override
+        public int liveMatches() {
+            return 0;
+        }
+
+        @Override
+        public long finishedMatches() {
+            return 0;
+        }
+
+        @Override
+        public int lockQueueLength() {
+            return 0;
+        }
+    };
+
+    private final LatencyHistogram[] operationLatencies = new LatencyHistogram[ScoreboardOperation.values().length];
+    private final LatencyHistogram writeLockWait = new LatencyHistogram();
+    private final LatencyHistogram writeLockHold = new LatencyHistogram();
+    private final Map<Class<?>, LongAdder> exceptionCounts = new ConcurrentHashMap<>();
+    private volatile ScoreboardGauges gauges = NO_GAUGES;
+
+    public ScoreboardMetrics() {
+        for (int operation = 0; operation < operationLatencies.length; operation++) {
+            operationLatencies[operation] = new LatencyHistogram();
+        }
+    }
+
+    public void recordLatency(final ScoreboardOperation operation, final long nanos) {
+        operationLatencies[operation.ordinal()].record(nanos);
+    }
+
+    public void recordWriteLockWait(final long nanos) {
+        writeLockWait.record(nanos);
+    }
+
+    public void recordWriteLockHold(final long nanos) {
+        writeLockHold.record(nanos);
+    }
+
+    public void recordException(final RuntimeException exception) {
+        LongAdder counter = exceptionCounts.get(exception.getClass());
+        if (counter == null) {
+            counter = exceptionCounts.computeIfAbsent(exception.getClass(), type -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * @param gauges source of current values of the scoreboard, the last bound one is used
+     */
+    public void bindGauges(final ScoreboardGauges gauges) {
+        this.gauges = gauges;
+    }
+
+    public ScoreboardMetricsSnapshot snapshot() {
+        final Map<ScoreboardOperation, LatencySnapshot> latencies = new EnumMap<>(ScoreboardOperation.class);
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            latencies.put(operation, operationLatencies[operation.ordinal()].snapshot());
+        }
+        final ScoreboardGauges currentGauges = gauges;
+        return new ScoreboardMetricsSnapshot(System.nanoTime(), Collections.unmodifiableMap(latencies),
+                writeLockWait.snapshot(), writeLockHold.snapshot(), currentGauges.lockQueueLength(),
+                currentGauges.liveMatches(), currentGauges.finishedMatches(), Collections.unmodifiableMap(getExceptionCounts()));
+    }
+
+    /**
+     * Register the metrics in platform MBean server
+     * @param name value of name key of the object name, it distinguishes scoreboards of one JVM
+     * @return name of registered MBean
+     */
+    public ObjectName registerMBean(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName("com.sportradar.scoreboard", "name", name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (MalformedObjectNameException | InstanceAlreadyExistsException | MBeanRegistrationException
+                 | NotCompliantMBeanException e) {
+            throw new IllegalArgumentException("Scoreboard metrics " + name + " cannot be registered", e);
+        }
+    }
+
+    public void unregisterMBean(final ObjectName objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+            throw new IllegalArgumentException("Scoreboard metrics " + objectName + " cannot be unregistered", e);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return operationValues(LatencySnapshot::count);
+    }
+
+    @Override
+    public Map<String, Long> getOperationP99Nanos() {
+        return operationValues(LatencySnapshot::p99Nanos);
+    }
+
+    @Override
+    public Map<String, Long> getOperationMaxNanos() {
+        return operationValues(LatencySnapshot::maxNanos);
+    }
+
+    @Override
+    public long getWriteLockWaitP99Nanos() {
+        return writeLockWait.snapshot().p99Nanos();
+    }
+
+    @Override
+    public long getWriteLockHoldP99Nanos() {
+        return writeLockHold.snapshot().p99Nanos();
+    }
+
+    @Override
+    public int getLockQueueLength() {
+        return gauges.lockQueueLength();
+    }
+
+    @Override
+    public int getLiveMatches() {
+        return gauges.liveMatches();
+    }
+
+    @Override
+    public long getFinishedMatches() {
+        return gauges.finishedMatches();
+    }
+
+    @Override
+    public Map<String, Long> getExceptionCounts() {
+        final Map<String, Long> exceptions = new TreeMap<>();
+        exceptionCounts.forEach((type, counter) -> exceptions.merge(type.getSimpleName(), counter.sum(), Long::sum));
+        return exceptions;
+    }
+
+    private Map<String, Long> operationValues(final ToLongFunction<LatencySnapshot> value) {
+        final Map<String, Long> values = new TreeMap<>();
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            values.put(operation.name(), value.applyAsLong(operationLatencies[operation.ordinal()].snapshot()));
+        }
+        return values;
+    }
+}
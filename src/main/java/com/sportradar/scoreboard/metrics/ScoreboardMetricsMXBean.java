@@ -0,0 +1,27 @@
+package com.sportradar.scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ScoreboardMetrics}, every attribute is read from a new snapshot
+ */
+public interface ScoreboardMetricsMXBean {
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getOperationP99Nanos();
+
+    Map<String, Long> getOperationMaxNanos();
+
+    long getWriteLockWaitP99Nanos();
+
+    long getWriteLockHoldP99Nanos();
+
+    int getLockQueueLength();
+
+    int getLiveMatches();
+
+    long getFinishedMatches();
+
+    Map<String, Long> getExceptionCounts();
+}
@@ -0,0 +1,28 @@
+package com.sportradar.scoreboard.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Metrics of the scoreboard at the moment of the snapshot. Counters grow since metrics are created,
+ * so rates are differences of two snapshots divided by difference of their timestamps.
+ * @param timestampNanos {@link System#nanoTime()} when snapshot was taken
+ * @param operationLatencies latency of every called operation
+ * @param writeLockWait time between request and acquisition of write lock
+ * @param writeLockHold time between acquisition and release of write lock
+ * @param lockQueueLength estimated amount of threads waiting for the lock
+ * @param liveMatches amount of running matches
+ * @param finishedMatches amount of finished matches kept in memory and archived
+ * @param exceptionCounts amount of thrown exceptions by simple name of exception type
+ */
+public record ScoreboardMetricsSnapshot(long timestampNanos, Map<ScoreboardOperation, LatencySnapshot> operationLatencies,
+                                        LatencySnapshot writeLockWait, LatencySnapshot writeLockHold,
+                                        int lockQueueLength, int liveMatches, long finishedMatches,
+                                        Map<String, Long> exceptionCounts) {
+    public ScoreboardMetricsSnapshot {
+        Objects.requireNonNull(operationLatencies, "operationLatencies cannot be null");
+        Objects.requireNonNull(writeLockWait, "writeLockWait cannot be null");
+        Objects.requireNonNull(writeLockHold, "writeLockHold cannot be null");
+        Objects.requireNonNull(exceptionCounts, "exceptionCounts cannot be null");
+    }
+}
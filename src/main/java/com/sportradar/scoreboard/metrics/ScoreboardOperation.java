@@ -0,0 +1,27 @@
+package com.sportradar.scoreboard.metrics;
+
+/**
+ * Operations of {@link com.sportradar.scoreboard.Scoreboard} with own latency histogram
+ */
+public enum ScoreboardOperation {
+    START_MATCH,
+    TRY_START_MATCH,
+    SCHEDULE_MATCH,
+    CANCEL_SCHEDULED_MATCH,
+    GET_MATCH,
+    GET_RANK,
+    GET_FINISHED_MATCHES,
+    GET_FINISHED_MATCHES_STARTED_BETWEEN,
+    UPDATE_SCORE,
+    TRY_UPDATE_SCORE,
+    COMPARE_AND_UPDATE_SCORE,
+    INCREMENT_SCORE,
+    APPLY_UPDATES,
+    FINISH_MATCH,
+    TRY_FINISH_MATCH,
+    GET_RUNNING_MATCHES,
+    GET_RUNNING_MATCHES_PAGE,
+    GET_RUNNING_MATCHES_ENCODED,
+    GET_RUNNING_MATCHES_RENDERED,
+    SUBSCRIBE
+}
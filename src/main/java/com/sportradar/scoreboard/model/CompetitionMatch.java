@@ -0,0 +1,15 @@
+package com.sportradar.scoreboard.model;
+
+import java.util.Objects;
+
+/**
+ * Match of one of the competitions, match ids are unique only inside a competition
+ * @param competitionId id of the competition
+ * @param match match of the competition
+ */
+public record CompetitionMatch(String competitionId, Match match) {
+    public CompetitionMatch {
+        Objects.requireNonNull(competitionId, "competitionId cannot be null");
+        Objects.requireNonNull(match, "match cannot be null");
+    }
+}
@@ -3,7 +3,12 @@ package com.sportradar.scoreboard.model;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
-public record Match(long id, Score homeTeamScore, Score awayTeamScore, LocalDateTime startDate, boolean finished) {
+/**
+ * Match of the scoreboard
+ * @param version number of score changes since the start, it only grows, so stale updates could be detected
+ */
+public record Match(long id, Score homeTeamScore, Score awayTeamScore, LocalDateTime startDate, boolean finished,
+                    long version) {
 
     public Match {
         Objects.requireNonNull(homeTeamScore, "homeTeamScore cannot be null");
@@ -11,17 +16,37 @@ public record Match(long id, Score homeTeamScore, Score awayTeamScore, LocalDate
         Objects.requireNonNull(startDate, "startDate cannot be null");
     }
 
+    /**
+     * Match which score wasn't changed since the start
+     */
+    public Match(long id, Score homeTeamScore, Score awayTeamScore, LocalDateTime startDate, boolean finished) {
+        this(id, homeTeamScore, awayTeamScore, startDate, finished, 0);
+    }
+
     public Match createMatchCopy(int homeTeamScore, int awayTeamScore) {
         return new Match(id, new Score(homeTeamScore().country(), homeTeamScore),
-                new Score(awayTeamScore().country(), awayTeamScore), startDate, finished);
+                new Score(awayTeamScore().country(), awayTeamScore), startDate, finished, version + 1);
+    }
+
+    /**
+     * Every goal is a score change, so the copy is the same however goals are grouped
+     */
+    public Match createMatchCopyWithGoals(int homeTeamGoals, int awayTeamGoals) {
+        return new Match(id, new Score(homeTeamScore().country(), homeTeamScore().score() + homeTeamGoals),
+                new Score(awayTeamScore().country(), awayTeamScore().score() + awayTeamGoals), startDate, finished,
+                version + homeTeamGoals + awayTeamGoals);
     }
 
     public Match createFinishedMatchCopy() {
-        return new Match(id, homeTeamScore, awayTeamScore, startDate, true);
+        return new Match(id, homeTeamScore, awayTeamScore, startDate, true, version);
     }
 
+    /**
+     * Key is built on every call, so it's kept by callers which need it more than once.
+     * Matches are compared without keys by {@link MatchSortKey#MATCH_ORDER}
+     */
     public MatchSortKey compoundSortKey() {
-        return new MatchSortKey(homeTeamScore().score() + awayTeamScore().score(), this);
+        return MatchSortKey.of(this);
     }
 
 }
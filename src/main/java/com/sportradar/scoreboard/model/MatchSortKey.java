@@ -1,18 +1,60 @@
 package com.sportradar.scoreboard.model;
 
+import java.time.ZoneOffset;
 import java.util.Comparator;
-import java.util.Objects;
 
-public record MatchSortKey(int totalScore, Match match) implements Comparable<MatchSortKey> {
-    public MatchSortKey {
-        Objects.requireNonNull(match, "match cannot be null");
+/**
+ * Position of the running match on the scoreboard packed into primitive fields, so comparison
+ * neither allocates nor follows references. Matches are ordered by total score, then by
+ * start time (most recent first), then by id (most recently created first), so the order
+ * is the same in every run.
+ * @param scoreAndStart total score in 24 high bits and start epoch second in 39 low bits
+ * @param startNano nano of start second
+ * @param id match id, it's kept whole, so keys of different matches are never equal
+ */
+public record MatchSortKey(long scoreAndStart, int startNano, long id) implements Comparable<MatchSortKey> {
+    /**
+     * Total scores above this value are ordered as equal, then by start time and id
+     */
+    public static final long MAX_ORDERED_TOTAL_SCORE = (1L << 24) - 1;
+    private static final int START_SECOND_BITS = 39;
+    private static final long START_SECOND_BIAS = 1L << (START_SECOND_BITS - 1);
+    private static final long MAX_START_SECOND = (1L << START_SECOND_BITS) - 1;
+    /**
+     * Same order as the keys of the matches, but compared without building them
+     */
+    public static final Comparator<Match> MATCH_ORDER = MatchSortKey::compare;
+
+    public static MatchSortKey of(final Match match) {
+        return new MatchSortKey(scoreAndStart(match), match.startDate().getNano(), match.id());
+    }
+
+    private static int compare(final Match first, final Match second) {
+        int comparison = Long.compare(scoreAndStart(second), scoreAndStart(first));
+        if (comparison == 0) {
+            comparison = Integer.compare(second.startDate().getNano(), first.startDate().getNano());
+        }
+        return comparison != 0 ? comparison : Long.compare(second.id(), first.id());
+    }
+
+    private static long scoreAndStart(final Match match) {
+        final long totalScore = Math.min((long) match.homeTeamScore().score() + match.awayTeamScore().score(),
+                MAX_ORDERED_TOTAL_SCORE);
+        final long startSecond = Math.max(0, Math.min(
+                match.startDate().toEpochSecond(ZoneOffset.UTC) + START_SECOND_BIAS, MAX_START_SECOND));
+        return totalScore << START_SECOND_BITS | startSecond;
+    }
+
+    public int totalScore() {
+        return (int) (scoreAndStart >>> START_SECOND_BITS);
     }
 
     @Override
     public int compareTo(MatchSortKey o) {
-        return Comparator.comparing(MatchSortKey::totalScore)
-                .thenComparing((o1, o2) -> o1.match().startDate().compareTo(o2.match.startDate()))
-                .thenComparing((o1, o2) -> o2.match().hashCode() - o1.match().hashCode())
-                .reversed().compare(this, o);
+        int comparison = Long.compare(o.scoreAndStart, scoreAndStart);
+        if (comparison == 0) {
+            comparison = Integer.compare(o.startNano, startNano);
+        }
+        return comparison != 0 ? comparison : Long.compare(o.id, id);
     }
 }
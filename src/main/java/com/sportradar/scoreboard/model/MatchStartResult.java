@@ -0,0 +1,44 @@
+package com.sportradar.scoreboard.model;
+
+import java.util.Objects;
+
+/**
+ * Outcome of the match start which doesn't throw
+ * @param matchId id of started match, 0 if it isn't started
+ * @param status what happened with the start
+ */
+public record MatchStartResult(long matchId, MatchStartStatus status) {
+    private static final MatchStartResult COUNTRY_NOT_SUPPORTED =
+            new MatchStartResult(0, MatchStartStatus.COUNTRY_NOT_SUPPORTED);
+    private static final MatchStartResult TEAM_ALREADY_PLAYING =
+            new MatchStartResult(0, MatchStartStatus.TEAM_ALREADY_PLAYING);
+    private static final MatchStartResult KICKOFF_FAILED =
+            new MatchStartResult(0, MatchStartStatus.KICKOFF_FAILED);
+
+    public MatchStartResult {
+        Objects.requireNonNull(status, "status cannot be null");
+        if ((status == MatchStartStatus.STARTED) != (matchId != 0)) {
+            throw new IllegalArgumentException("only started match has id");
+        }
+    }
+
+    public static MatchStartResult started(long matchId) {
+        return new MatchStartResult(matchId, MatchStartStatus.STARTED);
+    }
+
+    /**
+     * Failures share instances, so failed start doesn't allocate
+     */
+    public static MatchStartResult failed(MatchStartStatus status) {
+        return switch (status) {
+            case COUNTRY_NOT_SUPPORTED -> COUNTRY_NOT_SUPPORTED;
+            case TEAM_ALREADY_PLAYING -> TEAM_ALREADY_PLAYING;
+            case KICKOFF_FAILED -> KICKOFF_FAILED;
+            case STARTED -> throw new IllegalArgumentException("started match has id");
+        };
+    }
+
+    public boolean isStarted() {
+        return status == MatchStartStatus.STARTED;
+    }
+}
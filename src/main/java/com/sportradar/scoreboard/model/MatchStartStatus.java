@@ -0,0 +1,11 @@
+package com.sportradar.scoreboard.model;
+
+public enum MatchStartStatus {
+    STARTED,
+    COUNTRY_NOT_SUPPORTED,
+    TEAM_ALREADY_PLAYING,
+    /**
+     * Scheduled match isn't started because its kickoff batch failed unexpectedly
+     */
+    KICKOFF_FAILED
+}
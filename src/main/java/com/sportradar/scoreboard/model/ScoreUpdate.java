@@ -0,0 +1,10 @@
+package com.sportradar.scoreboard.model;
+
+/**
+ * New score of the match, an item of the batch update
+ * @param matchId identifier of the match
+ * @param homeTeamScore home team score
+ * @param awayTeamScore away team score
+ */
+public record ScoreUpdate(long matchId, int homeTeamScore, int awayTeamScore) {
+}
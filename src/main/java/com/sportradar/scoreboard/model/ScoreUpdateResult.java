@@ -0,0 +1,15 @@
+package com.sportradar.scoreboard.model;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one item of the batch update
+ * @param update requested update
+ * @param status what happened with the update
+ */
+public record ScoreUpdateResult(ScoreUpdate update, ScoreUpdateStatus status) {
+    public ScoreUpdateResult {
+        Objects.requireNonNull(update, "update cannot be null");
+        Objects.requireNonNull(status, "status cannot be null");
+    }
+}
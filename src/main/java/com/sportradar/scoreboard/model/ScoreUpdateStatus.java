@@ -0,0 +1,17 @@
+package com.sportradar.scoreboard.model;
+
+public enum ScoreUpdateStatus {
+    /**
+     * Match has score of the update, it isn't changed again if the score is the same
+     */
+    APPLIED,
+    /**
+     * Later update of the same match in the batch was applied instead
+     */
+    SUPERSEDED,
+    /**
+     * There is no such running match, finished matches can't be updated
+     */
+    MATCH_NOT_FOUND,
+    SCORE_NOT_POSITIVE
+}
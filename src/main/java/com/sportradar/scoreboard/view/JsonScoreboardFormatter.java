@@ -0,0 +1,43 @@
+package com.sportradar.scoreboard.view;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.model.Match;
+
+final class JsonScoreboardFormatter implements ScoreboardFormatter<String> {
+    @Override
+    public String format(final ScoreboardSnapshot snapshot) {
+        final StringBuilder json = new StringBuilder(32 + snapshot.runningMatches().size() * 128);
+        json.append("{\"version\":").append(snapshot.sequence()).append(",\"matches\":[");
+        for (int i = 0; i < snapshot.runningMatches().size(); i++) {
+            final Match match = snapshot.runningMatches().get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(match.id()).append(",\"homeTeam\":");
+            appendString(json, match.homeTeamScore().country());
+            json.append(",\"homeScore\":").append(match.homeTeamScore().score()).append(",\"awayTeam\":");
+            appendString(json, match.awayTeamScore().country());
+            json.append(",\"awayScore\":").append(match.awayTeamScore().score())
+                    .append(",\"startDate\":\"").append(match.startDate()).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Country names come from the configured country table, so quotes and control characters are escaped
+     */
+    private static void appendString(final StringBuilder json, final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,26 @@
+package com.sportradar.scoreboard.view;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+
+/**
+ * Renders running matches for clients, e.g. into text or JSON. Scoreboard caches the result per formatter
+ * until the next change, so formatter should be a shared instance and its result shouldn't be mutable.
+ * @param <T> type of the rendered view
+ */
+@FunctionalInterface
+public interface ScoreboardFormatter<T> {
+    /**
+     * One line per running match, e.g. {@code Uruguay 6 - Italy 6}
+     */
+    ScoreboardFormatter<String> TEXT = new TextScoreboardFormatter();
+    /**
+     * Object with version of the scoreboard and array of running matches
+     */
+    ScoreboardFormatter<String> JSON = new JsonScoreboardFormatter();
+
+    /**
+     * @param snapshot running matches in scoreboard order
+     * @return rendered view of the running matches
+     */
+    T format(ScoreboardSnapshot snapshot);
+}
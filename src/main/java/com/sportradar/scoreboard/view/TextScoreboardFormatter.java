@@ -0,0 +1,18 @@
+package com.sportradar.scoreboard.view;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.model.Match;
+
+final class TextScoreboardFormatter implements ScoreboardFormatter<String> {
+    @Override
+    public String format(final ScoreboardSnapshot snapshot) {
+        final StringBuilder text = new StringBuilder(snapshot.runningMatches().size() * 32);
+        for (Match match : snapshot.runningMatches()) {
+            text.append(match.homeTeamScore().country()).append(' ').append(match.homeTeamScore().score())
+                    .append(" - ")
+                    .append(match.awayTeamScore().country()).append(' ').append(match.awayTeamScore().score())
+                    .append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sportradar.scoreboard.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Generates {@link IsoCountries} from {@link Locale#getISOCountries()} of the running JDK.
+ * Ordinals are kept in the order of the JDK, new countries should be appended to keep encoded ordinals valid.
+ * Usage: java CountryTableGenerator src/main/java/com/sportradar/scoreboard/impl/IsoCountries.java
+ */
+public class CountryTableGenerator {
+
+    public static void main(String[] args) throws IOException {
+        final StringBuilder isoCodes = new StringBuilder();
+        final StringBuilder names = new StringBuilder();
+        for (String isoCountry : Locale.getISOCountries()) {
+            final Locale locale = new Locale("", isoCountry);
+            isoCodes.append("            \"").append(locale.getISO3Country()).append("\",\n");
+            names.append("            \"").append(escape(locale.getDisplayCountry(Locale.ENGLISH))).append("\",\n");
+        }
+        final String source = "package com.sportradar.scoreboard.impl;\n"
+                + "\n"
+                + "/**\n"
+                + " * Generated by CountryTableGenerator from ISO countries of JDK " + Runtime.version().feature()
+                + ", don't edit.\n"
+                + " * Ordinal of the country is its index in both arrays.\n"
+                + " */\n"
+                + "final class IsoCountries {\n"
+                + "    static final String[] ISO_CODES = {\n"
+                + isoCodes
+                + "    };\n"
+                + "    static final String[] NAMES = {\n"
+                + names
+                + "    };\n"
+                + "\n"
+                + "    private IsoCountries() {\n"
+                + "    }\n"
+                + "}\n";
+        Files.writeString(Path.of(args[0]), source, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Sources are ASCII, so other characters of the names are written as unicode escapes
+     */
+    private static String escape(final String name) {
+        final StringBuilder escaped = new StringBuilder();
+        for (char character : name.toCharArray()) {
+            if (character < 0x80) {
+                escaped.append(character);
+            } else {
+                escaped.append(String.format("\\u%04x", (int) character));
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.exception.CountryNotSupportedException;
+import com.sportradar.scoreboard.model.Match;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CountryTableUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @Test
+    public void shouldFindSameCountryAsLocaleWhenIsoCodeIsLookedUp() {
+        final CountryTable countries = CountryTable.iso();
+        for (String isoCountry : Locale.getISOCountries()) {
+            final Locale locale = new Locale("", isoCountry);
+            final int ordinal = countries.ordinalOfIsoCode(locale.getISO3Country());
+            assertEquals(locale.getDisplayCountry(Locale.ENGLISH), countries.name(ordinal));
+            assertEquals(ordinal, countries.ordinalOfName(countries.name(ordinal)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"esp", "ES", "ESPA", "E1P", "ENG", ""})
+    public void shouldReturnUnknownWhenCodeIsNotSupported(final String code) {
+        assertEquals(CountryTable.UNKNOWN, CountryTable.iso().ordinalOfIsoCode(code));
+    }
+
+    @Test
+    public void shouldKeepIsoOrdinalsWhenTeamIsAdded() {
+        final CountryTable countries = CountryTable.iso().with("ENG", "England").with("SCO", "Scotland");
+
+        assertEquals(CountryTable.iso().size() + 2, countries.size());
+        assertEquals(CountryTable.iso().ordinalOfIsoCode("ESP"), countries.ordinalOfIsoCode("ESP"));
+        assertEquals("Scotland", countries.name(countries.ordinalOfIsoCode("SCO")));
+        assertEquals(CountryTable.UNKNOWN, CountryTable.iso().ordinalOfIsoCode("ENG"));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenAddedTeamIsAlreadySupported() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CountryTable.iso().with("ESP", "Spain 2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CountryTable.iso().with("ENG", "Spain"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CountryTable.iso().with("eng", "England"));
+    }
+
+    @Test
+    public void shouldStartAndDecodeMatchOfAddedTeamsWhenScoreboardIsConfiguredWithThem() {
+        final CountryTable countries = CountryTable.iso().with("ENG", "England").with("SCO", "Scotland");
+        final ScoreboardImpl scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .countries(countries)
+                .build());
+
+        final long matchId = scoreboard.startMatchAsLong("ENG", "SCO", MATCH_DATE);
+
+        final Match match = scoreboard.getMatch(matchId);
+        assertEquals("England", match.homeTeamScore().country());
+        assertEquals(List.of(match), RunningMatchesCodec.decode(scoreboard.getRunningMatchesEncoded(), countries)
+                .runningMatches());
+        Assertions.assertThrows(CountryNotSupportedException.class,
+                () -> new ScoreboardImpl().startMatchAsLong("ENG", "SCO", MATCH_DATE));
+    }
+}
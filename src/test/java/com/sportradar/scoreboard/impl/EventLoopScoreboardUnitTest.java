@@ -0,0 +1,279 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.exception.MatchNotFoundException;
+import com.sportradar.scoreboard.exception.ScoreNotPositiveException;
+import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.MatchStartStatus;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventLoopScoreboardUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15,
+            19, 30, 40);
+
+    @Test
+    public void shouldReturnPublishedMatchWhenScoreIsUpdated() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            final long otherMatchId = scoreboard.startMatchAsLong("ESP", "BRA", MATCH_DATE.plusMinutes(5));
+
+            scoreboard.updateScore(matchId, 3, 2);
+
+            assertEquals(5, scoreboard.getMatch(matchId).compoundSortKey().totalScore());
+            final List<Match> runningMatches = List.copyOf(
+                    scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted());
+            assertEquals(List.of(matchId, otherMatchId), runningMatches.stream().map(Match::id).toList());
+        }
+    }
+
+    @Test
+    public void shouldThrowScoreboardExceptionWhenWriterRejectsCommand() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+
+            assertThrows(TeamAlreadyPlayingException.class,
+                    () -> scoreboard.startMatchAsLong("MEX", "ESP", MATCH_DATE));
+            assertThrows(ScoreNotPositiveException.class, () -> scoreboard.updateScore(matchId, -1, 0));
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.finishMatch(matchId + 1));
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.getMatch(matchId + 1));
+        }
+    }
+
+    @Test
+    public void shouldApplyQueuedUpdatesInSubmissionOrderWhenFuturesAreCompleted() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsync("MEX", "CAN", MATCH_DATE).join();
+
+            final CompletableFuture<?>[] futures = IntStream.rangeClosed(1, 100)
+                    .mapToObj(score -> scoreboard.updateScoreAsync(matchId, score, 0))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            assertEquals(100, scoreboard.getMatch(matchId).homeTeamScore().score());
+            assertEquals(ScoreUpdateStatus.APPLIED,
+                    scoreboard.applyUpdates(List.of(new ScoreUpdate(matchId, 1, 1))).get(0).status());
+            assertEquals(2, scoreboard.getMatch(matchId).compoundSortKey().totalScore());
+        }
+    }
+
+    @Test
+    public void shouldReadArchivedMatchThroughWriterWhenFinishedMatchIsEvicted(@TempDir Path archiveDirectory) {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard(ScoreboardConfiguration.builder()
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(0))
+                .archiveDirectory(archiveDirectory)
+                .build())) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            scoreboard.updateScore(matchId, 2, 1);
+            scoreboard.finishMatch(matchId);
+
+            final Match archivedMatch = scoreboard.getMatch(matchId);
+            assertTrue(archivedMatch.finished());
+            assertEquals(3, archivedMatch.compoundSortKey().totalScore());
+            assertTrue(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldFailCommandWhenScoreboardIsClosed() {
+        final EventLoopScoreboard scoreboard = new EventLoopScoreboard();
+        scoreboard.close();
+
+        final ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> scoreboard.startMatchAsync("MEX", "CAN", MATCH_DATE).get());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    public void shouldFailWaitingAndLaterCommandsWhenWriterThrowsError() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final AssertionError error = new AssertionError("writer failure is passed to callers");
+
+            final ExecutionException failed = assertThrows(ExecutionException.class, () -> scoreboard.submit(state -> {
+                throw error;
+            }).get(5, TimeUnit.SECONDS));
+            final ExecutionException rejected = assertThrows(ExecutionException.class,
+                    () -> scoreboard.startMatchAsync("MEX", "CAN", MATCH_DATE).get(5, TimeUnit.SECONDS));
+
+            assertSame(error, failed.getCause());
+            assertInstanceOf(IllegalStateException.class, rejected.getCause());
+            assertSame(error, rejected.getCause().getCause());
+        }
+    }
+
+    @Test
+    public void shouldReturnEncodedLatestVersionWhenScoreIsUpdated() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            assertEquals(List.of(scoreboard.getMatch(matchId)),
+                    RunningMatchesCodec.decode(scoreboard.getRunningMatchesEncoded()).runningMatches());
+
+            scoreboard.updateScore(matchId, 2, 0);
+
+            final ScoreboardSnapshot decoded = RunningMatchesCodec.decode(scoreboard.getRunningMatchesEncoded());
+            assertEquals(2, decoded.sequence());
+            assertEquals(List.of(scoreboard.getMatch(matchId)), decoded.runningMatches());
+        }
+    }
+
+    @Test
+    public void shouldReturnEncodedOwnChangeWhenReadIsCalledAfterWrite() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            for (int score = 1; score <= 2_000; score++) {
+                scoreboard.updateScore(matchId, score, 0);
+
+                final ScoreboardSnapshot decoded = RunningMatchesCodec.decode(scoreboard.getRunningMatchesEncoded());
+                assertEquals(score, decoded.runningMatches().get(0).homeTeamScore().score());
+            }
+        }
+    }
+
+    @Test
+    public void shouldRenderPublishedVersionWhenScoreIsUpdated() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            final String text = scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT);
+
+            assertSame(text, scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT));
+            scoreboard.updateScore(matchId, 2, 0);
+
+            assertEquals("Mexico 2 - Canada 0\n", scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT));
+        }
+    }
+
+    @Test
+    public void shouldRenderOwnChangeWhenReadIsCalledAfterWrite() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            for (int score = 1; score <= 2_000; score++) {
+                scoreboard.updateScore(matchId, score, 0);
+
+                assertEquals("Mexico " + score + " - Canada 0\n",
+                        scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnRankOfPublishedMatchWhenScoreIsUpdated() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long firstMatchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            final long secondMatchId = scoreboard.startMatchAsLong("ESP", "BRA", MATCH_DATE);
+
+            assertEquals(1, scoreboard.getRank(secondMatchId));
+
+            scoreboard.updateScore(firstMatchId, 1, 0);
+            scoreboard.finishMatch(secondMatchId);
+
+            assertEquals(1, scoreboard.getRank(firstMatchId));
+            assertEquals(0, scoreboard.getRank(secondMatchId));
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.getRank(secondMatchId + 1));
+        }
+    }
+
+    @Test
+    public void shouldPublishIncrementedScoreWhenGoalIsScored() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long firstMatchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            final long secondMatchId = scoreboard.startMatchAsLong("ESP", "BRA", MATCH_DATE);
+
+            scoreboard.incrementAwayScore(firstMatchId);
+            scoreboard.finishMatch(secondMatchId);
+
+            assertEquals(1, scoreboard.getMatch(firstMatchId).awayTeamScore().score());
+            assertEquals(1, scoreboard.getRank(firstMatchId));
+            assertThrows(MatchNotFoundException.class, () -> scoreboard.incrementHomeScore(secondMatchId));
+        }
+    }
+
+    @Test
+    public void shouldRejectStaleUpdateWhenPublishedVersionIsNotExpected() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+
+            assertTrue(scoreboard.compareAndUpdateScore(matchId, 0, 1, 0));
+            assertFalse(scoreboard.compareAndUpdateScore(matchId, 0, 2, 0));
+
+            assertEquals(1, scoreboard.getMatch(matchId).homeTeamScore().score());
+            assertEquals(1, scoreboard.getMatch(matchId).version());
+        }
+    }
+
+    @Test
+    public void shouldRejectScoreUpdatesWhenMatchIsFinished() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            scoreboard.finishMatch(matchId);
+            final Match finished = scoreboard.getMatch(matchId);
+
+            assertThrows(MatchNotFoundException.class,
+                    () -> scoreboard.compareAndUpdateScore(matchId, finished.version(), 1, 0));
+            assertEquals(ScoreUpdateStatus.MATCH_NOT_FOUND, scoreboard.tryUpdateScore(matchId, 2, 0));
+            assertEquals(ScoreUpdateStatus.MATCH_NOT_FOUND,
+                    scoreboard.applyUpdates(List.of(new ScoreUpdate(matchId, 3, 0))).get(0).status());
+
+            assertSame(finished, scoreboard.getMatch(matchId));
+            assertTrue(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldReturnFailureStatusWhenWriterCannotApplyTryCommand() {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final long matchId = scoreboard.tryStartMatch("MEX", "CAN", MATCH_DATE).matchId();
+
+            assertEquals(MatchStartResult.failed(MatchStartStatus.TEAM_ALREADY_PLAYING),
+                    scoreboard.tryStartMatch("CAN", "ESP", MATCH_DATE));
+            assertEquals(MatchStartResult.failed(MatchStartStatus.COUNTRY_NOT_SUPPORTED),
+                    scoreboard.tryStartMatch("XXX", "ESP", MATCH_DATE));
+            assertEquals(ScoreUpdateStatus.APPLIED, scoreboard.tryUpdateScore(matchId, 2, 0));
+            assertEquals(ScoreUpdateStatus.MATCH_NOT_FOUND, scoreboard.tryUpdateScore(matchId + 1, 2, 0));
+            assertTrue(scoreboard.tryFinishMatch(matchId));
+            assertFalse(scoreboard.tryFinishMatch(matchId + 1));
+
+            assertTrue(scoreboard.getMatch(matchId).finished());
+            assertEquals(2, scoreboard.getMatch(matchId).homeTeamScore().score());
+        }
+    }
+
+    @Test
+    public void shouldReportKickoffOutcomeWhenScheduledMatchesAreStartedByWriter() throws Exception {
+        try (EventLoopScoreboard scoreboard = new EventLoopScoreboard()) {
+            final LocalDateTime kickoff = LocalDateTime.now(ZoneOffset.UTC).plusNanos(200_000_000);
+            scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.scheduleMatch("MEX", "ESP", kickoff));
+            final CompletableFuture<MatchStartResult> dropped = new CompletableFuture<>();
+            final CompletableFuture<MatchStartResult> started = new CompletableFuture<>();
+            scoreboard.scheduleMatch("URY", "ITA", kickoff, dropped::complete);
+            scoreboard.scheduleMatch("ESP", "BRA", kickoff, started::complete);
+            scoreboard.startMatchAsLong("ITA", "DEU", MATCH_DATE);
+
+            assertEquals(MatchStartResult.failed(MatchStartStatus.TEAM_ALREADY_PLAYING),
+                    dropped.get(10, TimeUnit.SECONDS));
+            assertEquals(kickoff, scoreboard.getMatch(started.get(10, TimeUnit.SECONDS).matchId()).startDate());
+        }
+    }
+}
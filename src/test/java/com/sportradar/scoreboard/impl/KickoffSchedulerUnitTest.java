@@ -0,0 +1,112 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.exception.CountryNotSupportedException;
+import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.MatchStartStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KickoffSchedulerUnitTest {
+    private static final Instant NOW = Instant.parse("2022-07-15T19:30:00Z");
+    private static final LocalDateTime NOW_DATE = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 8;
+
+    private static final Consumer<MatchStartResult> IGNORED = result -> {
+    };
+
+    private final List<MatchStartResult> startResults = new ArrayList<>();
+    private final KickoffScheduler scheduler = new KickoffScheduler(Clock.fixed(NOW, ZoneOffset.UTC),
+            Duration.ofMillis(TICK_MILLIS), WHEEL_SIZE, CountryTable.iso(), kickoffs -> startResults);
+
+    @Test
+    public void shouldExpireMatchesInStartOrderWhenTheirTickPassed() {
+        final long laterId = scheduler.register("MEX", "CAN", NOW_DATE.plusNanos(250_000_000), IGNORED);
+        final long earlierId = scheduler.register("ESP", "BRA", NOW_DATE.plusNanos(220_000_000), IGNORED);
+        final long nextRoundId = scheduler.register("URY", "ITA", NOW_DATE.plusSeconds(2), IGNORED);
+
+        assertEquals(List.of(), scheduler.expire(NOW.toEpochMilli() + 200));
+        assertEquals(List.of(earlierId, laterId), ids(scheduler.expire(NOW.toEpochMilli() + 300)));
+        assertEquals(List.of(), scheduler.expire(NOW.toEpochMilli() + 1_900));
+        assertEquals(List.of(nextRoundId), ids(scheduler.expire(NOW.toEpochMilli() + 2_000)));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void shouldExpireEveryDueMatchWhenClockJumpsOverWholeWheel() {
+        final long firstId = scheduler.register("MEX", "CAN", NOW_DATE.plusSeconds(1), IGNORED);
+        final long secondId = scheduler.register("ESP", "BRA", NOW_DATE.plusSeconds(5), IGNORED);
+        final long pastId = scheduler.register("URY", "ITA", NOW_DATE.minusHours(1), IGNORED);
+
+        assertEquals(List.of(pastId, firstId, secondId), ids(scheduler.expire(NOW.toEpochMilli() + 60_000)));
+    }
+
+    @Test
+    public void shouldAllowTeamToBeScheduledAgainWhenItsMatchIsCancelledOrExpired() {
+        final long cancelledId = scheduler.register("MEX", "CAN", NOW_DATE.plusSeconds(1), IGNORED);
+        scheduler.register("ESP", "BRA", NOW_DATE.plusNanos(100_000_000), IGNORED);
+
+        assertThrows(TeamAlreadyPlayingException.class, () -> scheduler.register("MEX", "ITA", NOW_DATE, IGNORED));
+        assertThrows(TeamAlreadyPlayingException.class, () -> scheduler.register("URY", "BRA", NOW_DATE, IGNORED));
+        assertThrows(CountryNotSupportedException.class, () -> scheduler.register("XXX", "ITA", NOW_DATE, IGNORED));
+        assertTrue(scheduler.cancel(cancelledId));
+        assertFalse(scheduler.cancel(cancelledId));
+        scheduler.register("MEX", "ITA", NOW_DATE.plusSeconds(3), IGNORED);
+        assertEquals(1, scheduler.expire(NOW.toEpochMilli() + 1_000).size());
+        scheduler.register("URY", "BRA", NOW_DATE.plusSeconds(3), IGNORED);
+
+        assertEquals(2, scheduler.expire(NOW.toEpochMilli() + 3_000).size());
+    }
+
+    @Test
+    public void shouldPassOutcomeToListenerWhenKickoffIsStartedOrDropped() {
+        final List<MatchStartResult> outcomes = new ArrayList<>();
+        scheduler.register("MEX", "CAN", NOW_DATE, outcome -> {
+            throw new IllegalStateException("listener failure doesn't stop other listeners");
+        });
+        scheduler.register("ESP", "BRA", NOW_DATE.plusNanos(1), outcomes::add);
+        scheduler.register("URY", "ITA", NOW_DATE.plusNanos(2), outcomes::add);
+        startResults.addAll(List.of(MatchStartResult.started(1), MatchStartResult.started(2),
+                MatchStartResult.failed(MatchStartStatus.TEAM_ALREADY_PLAYING)));
+
+        scheduler.kickoff(scheduler.expire(NOW.toEpochMilli() + 100));
+
+        assertEquals(List.of(MatchStartResult.started(2),
+                MatchStartResult.failed(MatchStartStatus.TEAM_ALREADY_PLAYING)), outcomes);
+    }
+
+    @Test
+    public void shouldReportKickoffFailureToEveryListenerWhenStarterThrows() {
+        final KickoffScheduler failingScheduler = new KickoffScheduler(Clock.fixed(NOW, ZoneOffset.UTC),
+                Duration.ofMillis(TICK_MILLIS), WHEEL_SIZE, CountryTable.iso(), kickoffs -> {
+            throw new IllegalStateException("start failure is reported to listeners");
+        });
+        final List<MatchStartResult> outcomes = new ArrayList<>();
+        failingScheduler.register("MEX", "CAN", NOW_DATE, outcomes::add);
+        failingScheduler.register("ESP", "BRA", NOW_DATE.plusNanos(1), outcomes::add);
+
+        failingScheduler.kickoff(failingScheduler.expire(NOW.toEpochMilli() + 100));
+
+        assertEquals(List.of(MatchStartResult.failed(MatchStartStatus.KICKOFF_FAILED),
+                MatchStartResult.failed(MatchStartStatus.KICKOFF_FAILED)), outcomes);
+        assertEquals(0, failingScheduler.size());
+    }
+
+    private static List<Long> ids(final List<KickoffScheduler.Kickoff> kickoffs) {
+        return kickoffs.stream().map(KickoffScheduler.Kickoff::scheduledMatchId).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportradar.scoreboard.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LongLongMapUnitTest {
+
+    @Test
+    public void shouldBehaveAsHashMapWhenValuesAreRandomlyPutAndReplaced() {
+        final Random random = new Random(42);
+        final Map<Long, Long> expected = new HashMap<>();
+        final LongLongMap actual = new LongLongMap();
+
+        for (int i = 0; i < 20000; i++) {
+            final long id = 1 + random.nextInt(5000);
+            final long value = random.nextLong() & Long.MAX_VALUE;
+            expected.put(id, value);
+            actual.put(id, value);
+            assertEquals(expected.size(), actual.size());
+        }
+
+        for (long id = 0; id <= 5001; id++) {
+            assertEquals(expected.getOrDefault(id, LongLongMap.NO_VALUE), actual.get(id));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LongMatchMapUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @Test
+    public void shouldBehaveAsHashMapWhenMatchesAreRandomlyPutAndRemoved() {
+        final Random random = new Random(42);
+        final Map<Long, Match> expected = new HashMap<>();
+        final LongMatchMap actual = new LongMatchMap();
+
+        for (int i = 0; i < 20000; i++) {
+            final long id = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id), actual.remove(id));
+            } else {
+                final Match match = new Match(id, new Score("Spain", i), new Score("Mexico", 0), MATCH_DATE, false);
+                assertEquals(expected.put(id, match), actual.put(id, match));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        for (long id = 0; id <= 501; id++) {
+            assertEquals(expected.get(id), actual.get(id));
+            assertEquals(expected.get(id), actual.getOptimistic(id));
+        }
+    }
+
+    @Test
+    public void shouldReturnNullWhenReservedIdIsRequested() {
+        final LongMatchMap map = new LongMatchMap();
+
+        assertNull(map.get(0));
+        assertNull(map.remove(0));
+    }
+
+    @Test
+    public void shouldNeitherThrowNorHangWhenOptimisticReadRacesWithResizeAndRemove() throws InterruptedException {
+        final LongMatchMap map = new LongMatchMap();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            final Random random = new Random(7);
+            try {
+                while (running.get()) {
+                    final Match match = map.getOptimistic(1 + random.nextInt(5000));
+                    if (match != null && match.id() <= 0) {
+                        throw new AssertionError("Unexpected match " + match);
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+
+        final Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            for (long id = 1; id <= 5000; id++) {
+                map.put(id, new Match(id, new Score("Spain", round), new Score("Mexico", 0), MATCH_DATE, false));
+            }
+            for (int i = 0; i < 5000; i++) {
+                map.remove(1 + random.nextInt(5000));
+            }
+        }
+        running.set(false);
+        reader.join(10_000);
+
+        assertFalse(reader.isAlive());
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MatchArchiveUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40, 123);
+    private static final int SMALL_SEGMENT_SIZE = 128;
+
+    @TempDir
+    Path archiveDirectory;
+
+    @Test
+    public void shouldFindArchivedMatchesWhenTheyAreSpreadOverSegments() {
+        final MatchArchive archive = new MatchArchive(archiveDirectory, SMALL_SEGMENT_SIZE);
+        final Match first = new Match(1, new Score("Spain", 3), new Score("C\u00f4te d\u2019Ivoire", 2), MATCH_DATE, true, 5);
+        final Match second = new Match(2, new Score("Mexico", 0), new Score("Canada", 5), MATCH_DATE.plusDays(1), true, 5);
+        final Match third = new Match(3, new Score("Uruguay", 6), new Score("Italy", 6), MATCH_DATE.plusDays(2), true, 12);
+
+        archive.append(first);
+        archive.append(second);
+        archive.append(third);
+
+        assertEquals(3, archive.size());
+        assertEquals(first, archive.find(1));
+        assertEquals(second, archive.find(2));
+        assertEquals(third, archive.find(3));
+        assertNull(archive.find(4));
+    }
+
+    @Test
+    public void shouldFindPreviousMatchesWhenArchiveIsReopened() {
+        final Match first = new Match(1, new Score("Spain", 3), new Score("Brazil", 2), MATCH_DATE, true, 4);
+        final Match second = new Match(7, new Score("Mexico", 0), new Score("Canada", 5), MATCH_DATE, true, 5);
+        final Match third = new Match(4, new Score("Uruguay", 6), new Score("Italy", 6), MATCH_DATE, true, 12);
+        final MatchArchive previous = new MatchArchive(archiveDirectory, SMALL_SEGMENT_SIZE);
+        previous.append(first);
+        previous.append(second);
+
+        final MatchArchive archive = new MatchArchive(archiveDirectory, SMALL_SEGMENT_SIZE);
+        archive.append(third);
+
+        assertEquals(3, archive.size());
+        assertEquals(7, archive.maxMatchId());
+        assertEquals(first, archive.find(1));
+        assertEquals(second, archive.find(7));
+        assertEquals(third, new MatchArchive(archiveDirectory, SMALL_SEGMENT_SIZE).find(4));
+    }
+
+    @Test
+    public void shouldScanOnlyLatestRecordsWhenHistoryIsQueried() {
+        final MatchArchive archive = new MatchArchive(archiveDirectory, SMALL_SEGMENT_SIZE);
+        final Match late = new Match(1, new Score("Spain", 3), new Score("Brazil", 2), MATCH_DATE.plusDays(2), true);
+        final Match early = new Match(2, new Score("Mexico", 0), new Score("Spain", 5), MATCH_DATE, true);
+        final Match other = new Match(3, new Score("Uruguay", 6), new Score("Italy", 6), MATCH_DATE.plusDays(1), true);
+        final Match replaced = new Match(4, new Score("Canada", 1), new Score("Spain", 0), MATCH_DATE.plusDays(1), true);
+        archive.append(late);
+        archive.append(early);
+        archive.append(other);
+        archive.append(replaced);
+        archive.append(replaced.createMatchCopy(2, 0));
+
+        assertEquals(List.of(late, early, replaced.createMatchCopy(2, 0)), archive.findByCountry("Spain"));
+        assertEquals(List.of(early, other, replaced.createMatchCopy(2, 0)),
+                archive.findStartedBetween(MATCH_DATE, MATCH_DATE.plusDays(2)));
+        assertEquals(List.of(), archive.findStartedBetween(MATCH_DATE.minusDays(2), MATCH_DATE));
+    }
+}
@@ -0,0 +1,87 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MatchHistoryUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+    private static final String[] COUNTRIES = {"Spain", "Mexico", "Brazil", "Canada", "Italy"};
+
+    @Test
+    public void shouldReturnSameMatchesAsScanWhenHistoryIsQueried() {
+        final Random random = new Random(42);
+        final CountryTable countries = CountryTable.iso();
+        final MatchHistory history = new MatchHistory(countries);
+        final List<Match> finishedMatches = new ArrayList<>();
+        for (int id = 1; id <= 1000; id++) {
+            final int home = random.nextInt(COUNTRIES.length);
+            final int away = (home + 1 + random.nextInt(COUNTRIES.length - 1)) % COUNTRIES.length;
+            final Match match = new Match(id, new Score(COUNTRIES[home], random.nextInt(5)),
+                    new Score(COUNTRIES[away], random.nextInt(5)),
+                    MATCH_DATE.plusMinutes(random.nextInt(500)).withNano(random.nextInt(3)), true);
+            finishedMatches.add(match);
+            history.add(match);
+        }
+
+        for (String country : COUNTRIES) {
+            final List<Match> expected = finishedMatches.stream()
+                    .filter(match -> match.homeTeamScore().country().equals(country)
+                            || match.awayTeamScore().country().equals(country))
+                    .toList();
+            assertEquals(expected, history.findByCountry(countries.ordinalOfName(country)));
+        }
+        for (int i = 0; i < 100; i++) {
+            final LocalDateTime from = MATCH_DATE.plusMinutes(random.nextInt(500)).withNano(random.nextInt(3));
+            final LocalDateTime to = from.plusMinutes(random.nextInt(100));
+            final List<Match> expected = finishedMatches.stream()
+                    .filter(match -> !match.startDate().isBefore(from) && match.startDate().isBefore(to))
+                    .sorted(Comparator.comparing(Match::startDate))
+                    .toList();
+            assertEquals(expected, history.findStartedBetween(from, to));
+        }
+        assertEquals(1000, history.size());
+    }
+
+    @Test
+    public void shouldReturnOnlyRetainedMatchesWhenOldestMatchesAreEvicted() {
+        final Random random = new Random(7);
+        final CountryTable countries = CountryTable.iso();
+        final MatchHistory history = new MatchHistory(countries);
+        final ArrayDeque<Match> retainedMatches = new ArrayDeque<>();
+        for (int id = 1; id <= 5000; id++) {
+            final int home = random.nextInt(COUNTRIES.length);
+            final int away = (home + 1 + random.nextInt(COUNTRIES.length - 1)) % COUNTRIES.length;
+            final Match match = new Match(id, new Score(COUNTRIES[home], random.nextInt(5)),
+                    new Score(COUNTRIES[away], random.nextInt(5)), MATCH_DATE.plusMinutes(random.nextInt(500)), true);
+            retainedMatches.addLast(match);
+            history.add(match);
+            while (retainedMatches.size() > 1 + random.nextInt(300)) {
+                history.evictOldest(retainedMatches.removeFirst().id());
+            }
+        }
+
+        for (String country : COUNTRIES) {
+            final List<Match> expected = retainedMatches.stream()
+                    .filter(match -> match.homeTeamScore().country().equals(country)
+                            || match.awayTeamScore().country().equals(country))
+                    .toList();
+            assertEquals(expected, history.findByCountry(countries.ordinalOfName(country)));
+        }
+        assertEquals(retainedMatches.stream().sorted(Comparator.comparing(Match::startDate)).toList(),
+                history.findStartedBetween(MATCH_DATE, MATCH_DATE.plusDays(1)));
+        assertEquals(retainedMatches.size(), history.size());
+        assertThrows(IllegalStateException.class, () -> history.evictOldest(retainedMatches.getLast().id()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PendingGoalsUnitTest {
+    private static final LocalDateTime START = LocalDateTime.of(2022, 7, 15, 19, 30);
+
+    @Test
+    public void shouldCombinePendingGoalsAndReorderMatchesWhenGoalsAreNotApplied() {
+        final PendingGoals pendingGoals = new PendingGoals();
+        final Match earlier = match(1, 1, 0, START);
+        final Match later = match(2, 0, 0, START.plusMinutes(5));
+        pendingGoals.register(earlier.id());
+        pendingGoals.register(later.id());
+
+        assertEquals(PendingGoals.AddResult.ADDED, pendingGoals.add(later.id(), PendingGoals.HOME_GOAL));
+        assertEquals(PendingGoals.AddResult.ADDED, pendingGoals.add(later.id(), PendingGoals.AWAY_GOAL));
+
+        assertTrue(pendingGoals.hasPending());
+        final Match laterWithGoals = pendingGoals.withPendingGoals(later);
+        assertEquals(1, laterWithGoals.homeTeamScore().score());
+        assertEquals(1, laterWithGoals.awayTeamScore().score());
+        assertEquals(later.version() + 2, laterWithGoals.version());
+        assertSame(earlier, pendingGoals.withPendingGoals(earlier));
+        assertEquals(List.of(laterWithGoals, earlier), pendingGoals.withPendingGoals(List.of(earlier, later)));
+    }
+
+    @Test
+    public void shouldRejectGoalWithoutCarryIntoHomeGoalsWhenAwayGoalsAreAtMaximum() {
+        final PendingGoals pendingGoals = new PendingGoals(2);
+        final Match match = match(1, 0, 0, START);
+        pendingGoals.register(match.id());
+
+        assertEquals(PendingGoals.AddResult.ADDED, pendingGoals.add(match.id(), PendingGoals.AWAY_GOAL));
+        assertEquals(PendingGoals.AddResult.ADDED, pendingGoals.add(match.id(), PendingGoals.AWAY_GOAL));
+        assertEquals(PendingGoals.AddResult.FULL, pendingGoals.add(match.id(), PendingGoals.AWAY_GOAL));
+        assertEquals(PendingGoals.AddResult.ADDED, pendingGoals.add(match.id(), PendingGoals.HOME_GOAL));
+
+        final Match withGoals = pendingGoals.withPendingGoals(match);
+        assertEquals(1, withGoals.homeTeamScore().score());
+        assertEquals(2, withGoals.awayTeamScore().score());
+    }
+
+    @Test
+    public void shouldRejectGoalWhenMatchIsNotRegistered() {
+        final PendingGoals pendingGoals = new PendingGoals();
+
+        assertEquals(PendingGoals.AddResult.MATCH_NOT_RUNNING, pendingGoals.add(1, PendingGoals.HOME_GOAL));
+        assertFalse(pendingGoals.hasPending());
+    }
+
+    @Test
+    public void shouldKeepGoalsOfRunningMatchesWhenTableGrowsAndClosedMatchesAreDropped() {
+        final PendingGoals pendingGoals = new PendingGoals();
+        for (long id = 1; id <= 1_000; id++) {
+            pendingGoals.register(id);
+            if (id % 2 == 0) {
+                pendingGoals.close(id - 1, null);
+                assertEquals(PendingGoals.AddResult.ADDED, pendingGoals.add(id, PendingGoals.HOME_GOAL));
+            }
+        }
+
+        for (long id = 1; id <= 1_000; id++) {
+            final PendingGoals.AddResult expected = id % 2 == 0
+                    ? PendingGoals.AddResult.ADDED : PendingGoals.AddResult.MATCH_NOT_RUNNING;
+            assertEquals(expected, pendingGoals.add(id, PendingGoals.AWAY_GOAL), "match " + id);
+        }
+        final Match withGoals = pendingGoals.withPendingGoals(match(1_000, 0, 0, START));
+        assertEquals(1, withGoals.homeTeamScore().score());
+        assertEquals(1, withGoals.awayTeamScore().score());
+    }
+
+    @Test
+    public void shouldKeepStampValidWhenNoGoalsAreApplied() {
+        final PendingGoals pendingGoals = new PendingGoals();
+        pendingGoals.register(1);
+        final long stamp = pendingGoals.stamp();
+
+        pendingGoals.add(1, PendingGoals.HOME_GOAL);
+
+        assertTrue(pendingGoals.validate(stamp));
+    }
+
+    private static Match match(long id, int homeScore, int awayScore, LocalDateTime startDate) {
+        return new Match(id, new Score("Spain", homeScore), new Score("Mexico", awayScore), startDate, false);
+    }
+}
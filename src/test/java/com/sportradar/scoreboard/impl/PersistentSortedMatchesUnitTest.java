@@ -0,0 +1,72 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PersistentSortedMatchesUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @Test
+    public void shouldKeepSameOrderAsTreeMapWhenMatchesAreRandomlyUpdated() {
+        final Random random = new Random(42);
+        final TreeMap<MatchSortKey, Match> expected = new TreeMap<>();
+        final List<Match> matches = new ArrayList<>();
+        PersistentSortedMatches actual = PersistentSortedMatches.EMPTY;
+
+        for (int i = 0; i < 2000; i++) {
+            if (matches.isEmpty() || random.nextInt(3) == 0) {
+                final Match match = new Match(i, new Score("Spain", 0), new Score("Mexico", 0),
+                        MATCH_DATE.plusMinutes(random.nextInt(50)), false);
+                matches.add(match);
+                expected.put(match.compoundSortKey(), match);
+                actual = actual.with(match.compoundSortKey(), match);
+            } else {
+                final int index = random.nextInt(matches.size());
+                final Match match = matches.get(index);
+                expected.remove(match.compoundSortKey());
+                actual = actual.without(match.compoundSortKey());
+                if (random.nextBoolean()) {
+                    matches.remove(index);
+                } else {
+                    final Match updatedMatch = match.createMatchCopy(random.nextInt(5), random.nextInt(5));
+                    matches.set(index, updatedMatch);
+                    expected.put(updatedMatch.compoundSortKey(), updatedMatch);
+                    actual = actual.with(updatedMatch.compoundSortKey(), updatedMatch);
+                }
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual));
+    }
+
+    @Test
+    public void shouldReturnSameMatchesAsSubListWhenSliceIsRequested() {
+        final List<Match> expected = new ArrayList<>();
+        PersistentSortedMatches actual = PersistentSortedMatches.EMPTY;
+        for (int i = 1; i <= 100; i++) {
+            final Match match = new Match(i, new Score("Spain", 0), new Score("Mexico", 0), MATCH_DATE, false);
+            expected.add(0, match);
+            actual = actual.with(match.compoundSortKey(), match);
+        }
+
+        for (int offset = 0; offset <= 101; offset++) {
+            for (int limit = 0; limit <= 11; limit++) {
+                final List<Match> expectedSlice = expected.subList(Math.min(offset, expected.size()),
+                        Math.min(offset + limit, expected.size()));
+                assertEquals(expectedSlice, actual.slice(offset, limit));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RenderCacheUnitTest {
+    private final RenderCache cache = new RenderCache();
+    private final AtomicInteger renderings = new AtomicInteger();
+    private final ScoreboardFormatter<String> formatter = snapshot -> {
+        renderings.incrementAndGet();
+        return "v" + snapshot.sequence();
+    };
+
+    @Test
+    public void shouldRenderOnceWhenVersionIsNotChanged() {
+        final String first = cache.render(formatter, 3, () -> new ScoreboardSnapshot(3, List.of()));
+        final String second = cache.render(formatter, 2, () -> new ScoreboardSnapshot(3, List.of()));
+
+        assertSame(first, second);
+        assertEquals("v5", cache.render(formatter, 4, () -> new ScoreboardSnapshot(5, List.of())));
+        assertEquals("v5", cache.render(formatter, 5, () -> new ScoreboardSnapshot(6, List.of())));
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    public void shouldShareOneRenderingWhenConcurrentReadersMissTheCache() throws Exception {
+        final int readers = 8;
+        final CountDownLatch snapshotTaken = new CountDownLatch(1);
+        final CountDownLatch readersWaiting = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            final List<Future<String>> views = new ArrayList<>();
+            views.add(executor.submit(() -> cache.render(formatter, 1, () -> {
+                snapshotTaken.countDown();
+                await(readersWaiting);
+                return new ScoreboardSnapshot(1, List.of());
+            })));
+            assertTrue(snapshotTaken.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < readers; i++) {
+                views.add(executor.submit(() -> cache.render(formatter, 1, () -> new ScoreboardSnapshot(1, List.of()))));
+            }
+            readersWaiting.countDown();
+
+            for (Future<String> view : views) {
+                assertSame(views.get(0).get(5, TimeUnit.SECONDS), view.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, renderings.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRenderAgainWhenPreviousRenderingFailed() {
+        final ScoreboardFormatter<String> failing = snapshot -> {
+            if (renderings.incrementAndGet() == 1) {
+                throw new IllegalStateException("Formatter failed");
+            }
+            return "v" + snapshot.sequence();
+        };
+
+        assertThrows(IllegalStateException.class, () -> cache.render(failing, 1, () -> new ScoreboardSnapshot(1, List.of())));
+        assertEquals("v1", cache.render(failing, 1, () -> new ScoreboardSnapshot(1, List.of())));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RunningMatchesCodecUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @Test
+    public void shouldDecodeSameMatchesWhenTheyAreEncoded() {
+        final List<Match> runningMatches = List.of(
+                new Match(Integer.MAX_VALUE + 10L, new Score("Uruguay", 300), new Score("Italy", 6),
+                        MATCH_DATE, false, 306),
+                new Match(1, new Score("Mexico", 0), new Score("Canada", 0),
+                        LocalDateTime.of(1930, Month.JULY, 13, 15, 0, 0, 999_999_999), false));
+
+        final ByteBuffer encoded = RunningMatchesCodec.encode(42, runningMatches, CountryTable.iso());
+
+        assertTrue(encoded.isReadOnly());
+        assertTrue(encoded.isDirect());
+        assertEquals(new ScoreboardSnapshot(42, runningMatches), RunningMatchesCodec.decode(encoded));
+        assertFalse(encoded.hasRemaining());
+    }
+
+    @Test
+    public void shouldUseOneByteForSmallNumbersWhenMatchIsEncoded() {
+        final Match match = new Match(1, new Score("Andorra", 1), new Score("Canada", 2),
+                LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), false);
+
+        assertEquals(10, RunningMatchesCodec.encode(1, List.of(match), CountryTable.iso()).remaining());
+    }
+}
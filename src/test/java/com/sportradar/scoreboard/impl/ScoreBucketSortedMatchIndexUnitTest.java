@@ -0,0 +1,93 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchSortKey;
+import com.sportradar.scoreboard.model.Score;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScoreBucketSortedMatchIndexUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @Test
+    public void shouldKeepSameOrderAndRanksAsTreeMapWhenScoresCrossBucketsAndOverflow() {
+        final Random random = new Random(42);
+        final TreeMap<MatchSortKey, Match> expected = new TreeMap<>();
+        final List<Match> matches = new ArrayList<>();
+        final ScoreBucketSortedMatchIndex actual = new ScoreBucketSortedMatchIndex();
+
+        for (int i = 0; i < 5000; i++) {
+            if (matches.isEmpty() || random.nextInt(4) == 0) {
+                final Match match = new Match(i, new Score("Spain", 0), new Score("Mexico", 0),
+                        MATCH_DATE.plusMinutes(random.nextInt(50)), false);
+                matches.add(match);
+                expected.put(match.compoundSortKey(), match);
+                actual.put(match.compoundSortKey(), match);
+            } else {
+                final int index = random.nextInt(matches.size());
+                final Match match = matches.get(index);
+                expected.remove(match.compoundSortKey());
+                actual.remove(match.compoundSortKey());
+                if (random.nextInt(5) == 0) {
+                    matches.remove(index);
+                } else {
+                    final int homeScore = random.nextInt(10) == 0 ? random.nextInt(40) : match.homeTeamScore().score() + 1;
+                    final Match updatedMatch = match.createMatchCopy(homeScore, random.nextInt(3));
+                    matches.set(index, updatedMatch);
+                    expected.put(updatedMatch.compoundSortKey(), updatedMatch);
+                    actual.put(updatedMatch.compoundSortKey(), updatedMatch);
+                }
+            }
+            assertEquals(expected.size(), actual.size());
+            if (!matches.isEmpty()) {
+                final MatchSortKey checkedKey = matches.get(random.nextInt(matches.size())).compoundSortKey();
+                assertEquals(expected.headMap(checkedKey).size() + 1, actual.rankOf(checkedKey));
+            }
+        }
+
+        final List<Match> expectedMatches = new ArrayList<>(expected.values());
+        assertEquals(expectedMatches, actual.runningMatches());
+        for (int offset = 0; offset <= expectedMatches.size() + 1; offset += 7) {
+            assertEquals(expectedMatches.subList(Math.min(offset, expectedMatches.size()),
+                    Math.min(offset + 10, expectedMatches.size())), actual.runningMatches(offset, 10));
+        }
+    }
+
+    @Test
+    public void shouldReturnRestOfMatchesWhenPageLimitIsMaxInteger() {
+        final ScoreBucketSortedMatchIndex index = new ScoreBucketSortedMatchIndex();
+        final List<Match> expected = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final Match match = new Match(i, new Score("Spain", i * 100), new Score("Mexico", 0), MATCH_DATE, false);
+            expected.add(0, match);
+            index.put(match.compoundSortKey(), match);
+        }
+        for (int i = 3; i <= 6; i++) {
+            final Match match = new Match(i, new Score("Spain", 1), new Score("Mexico", 0),
+                    MATCH_DATE.minusMinutes(i), false);
+            expected.add(match);
+            index.put(match.compoundSortKey(), match);
+        }
+
+        assertEquals(expected.subList(1, 6), index.runningMatches(1, Integer.MAX_VALUE));
+        assertEquals(expected.subList(3, 6), index.runningMatches(3, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenBucketsAreConfiguredWithSnapshotReadMode() {
+        final ScoreboardConfiguration.Builder builder = ScoreboardConfiguration.builder()
+                .readMode(ReadMode.SNAPSHOT)
+                .orderingEngine(OrderingEngine.SCORE_BUCKETS);
+
+        Assertions.assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
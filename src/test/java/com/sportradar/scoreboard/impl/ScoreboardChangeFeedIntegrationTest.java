@@ -0,0 +1,167 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.event.MatchFinishedEvent;
+import com.sportradar.scoreboard.event.MatchStartedEvent;
+import com.sportradar.scoreboard.event.ScoreChangedEvent;
+import com.sportradar.scoreboard.event.ScoreboardEvent;
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
+import com.sportradar.scoreboard.event.ScoreboardSubscriber;
+import com.sportradar.scoreboard.event.ScoreboardSubscription;
+import com.sportradar.scoreboard.model.Match;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardChangeFeedIntegrationTest {
+    private static final LocalDateTime FIRST_MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @EnumSource(ReadMode.class)
+    @ParameterizedTest
+    public void shouldDeliverChangesWithRanksWhenMatchesAreUpdated(final ReadMode readMode) throws InterruptedException {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(readMode)
+                .build());
+        final Long mexicoCanadaMatchId = scoreboard.startMatch("MEX", "CAN", FIRST_MATCH_DATE);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        final ScoreboardSubscription subscription = scoreboard.subscribe(subscriber);
+        try {
+            final ScoreboardSnapshot snapshot = (ScoreboardSnapshot) subscriber.next();
+            assertEquals(1, snapshot.sequence());
+            assertEquals(List.of(mexicoCanadaMatchId), snapshot.runningMatches().stream().map(Match::id).toList());
+
+            final Long spainBrazilMatchId = scoreboard.startMatch("ESP", "BRA", FIRST_MATCH_DATE.plusMinutes(5));
+            scoreboard.updateScore(mexicoCanadaMatchId, 0, 1);
+            scoreboard.finishMatch(spainBrazilMatchId);
+
+            final MatchStartedEvent started = assertInstanceOf(MatchStartedEvent.class, subscriber.next());
+            assertEquals(2, started.sequence());
+            assertEquals(spainBrazilMatchId, started.match().id());
+            assertEquals(1, started.rank());
+
+            final ScoreChangedEvent scoreChanged = assertInstanceOf(ScoreChangedEvent.class, subscriber.next());
+            assertEquals(3, scoreChanged.sequence());
+            assertEquals(0, scoreChanged.previousMatch().awayTeamScore().score());
+            assertEquals(1, scoreChanged.match().awayTeamScore().score());
+            assertEquals(2, scoreChanged.previousRank());
+            assertEquals(1, scoreChanged.rank());
+
+            final MatchFinishedEvent finished = assertInstanceOf(MatchFinishedEvent.class, subscriber.next());
+            assertEquals(4, finished.sequence());
+            assertTrue(finished.match().finished());
+            assertEquals(2, finished.previousRank());
+        } finally {
+            subscription.close();
+        }
+    }
+
+    @EnumSource(ReadMode.class)
+    @ParameterizedTest
+    public void shouldResynchronizeSubscriberWhenItMissedEvents(final ReadMode readMode) throws InterruptedException {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(readMode)
+                .changeFeedCapacity(2)
+                .build());
+        final Long matchId = scoreboard.startMatch("MEX", "CAN", FIRST_MATCH_DATE);
+        final CountDownLatch writesDone = new CountDownLatch(1);
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onSnapshot(ScoreboardSnapshot snapshot) {
+                super.onSnapshot(snapshot);
+                await(writesDone);
+            }
+        };
+
+        final ScoreboardSubscription subscription = scoreboard.subscribe(subscriber);
+        try {
+            assertEquals(1, assertInstanceOf(ScoreboardSnapshot.class, subscriber.next()).sequence());
+            for (int score = 1; score <= 5; score++) {
+                scoreboard.updateScore(matchId, score, 0);
+            }
+            writesDone.countDown();
+
+            final ScoreboardSnapshot resync = assertInstanceOf(ScoreboardSnapshot.class, subscriber.next());
+            assertEquals(6, resync.sequence());
+            assertEquals(5, resync.runningMatches().get(0).homeTeamScore().score());
+        } finally {
+            subscription.close();
+        }
+    }
+
+    @EnumSource(ReadMode.class)
+    @ParameterizedTest
+    public void shouldParkIdleSubscriberUntilNextEventWhenNothingIsPublished(final ReadMode readMode)
+            throws InterruptedException {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(readMode)
+                .build());
+        final Long matchId = scoreboard.startMatch("MEX", "CAN", FIRST_MATCH_DATE);
+        final AtomicReference<Thread> subscriberThread = new AtomicReference<>();
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onSnapshot(ScoreboardSnapshot snapshot) {
+                subscriberThread.set(Thread.currentThread());
+                super.onSnapshot(snapshot);
+            }
+        };
+
+        final ScoreboardSubscription subscription = scoreboard.subscribe(subscriber);
+        try {
+            assertInstanceOf(ScoreboardSnapshot.class, subscriber.next());
+            final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (subscriberThread.get().getState() != Thread.State.WAITING && System.nanoTime() < deadlineNanos) {
+                Thread.sleep(1);
+            }
+            assertEquals(Thread.State.WAITING, subscriberThread.get().getState());
+
+            scoreboard.updateScore(matchId, 1, 0);
+
+            assertEquals(2, assertInstanceOf(ScoreChangedEvent.class, subscriber.next()).sequence());
+        } finally {
+            subscription.close();
+        }
+    }
+
+    private static class RecordingSubscriber implements ScoreboardSubscriber {
+        private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onSnapshot(ScoreboardSnapshot snapshot) {
+            received.add(snapshot);
+        }
+
+        @Override
+        public void onEvent(ScoreboardEvent event) {
+            received.add(event);
+        }
+
+        Object next() throws InterruptedException {
+            final Object next = received.poll(5, TimeUnit.SECONDS);
+            if (next == null) {
+                throw new AssertionError("Nothing was delivered");
+            }
+            return next;
+        }
+
+        static void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,26 +1,52 @@
 package com.sportradar.scoreboard.impl;
 
 import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.event.ScoreboardSnapshot;
 import com.sportradar.scoreboard.exception.CountryNotSupportedException;
 import com.sportradar.scoreboard.exception.MatchNotFoundException;
 import com.sportradar.scoreboard.exception.ScoreNotPositiveException;
 import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
 import com.sportradar.scoreboard.model.Match;
+import com.sportradar.scoreboard.model.MatchStartResult;
+import com.sportradar.scoreboard.model.MatchStartStatus;
+import com.sportradar.scoreboard.model.ScoreUpdate;
+import com.sportradar.scoreboard.model.ScoreUpdateResult;
+import com.sportradar.scoreboard.model.ScoreUpdateStatus;
+import com.sportradar.scoreboard.view.ScoreboardFormatter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ScoreboardImplUnitTest {
@@ -82,6 +108,32 @@ public class ScoreboardImplUnitTest {
     }
 
 
+    @Test
+    public void shouldStartMatchWhenCountryFinishedPreviousMatch() {
+        Scoreboard scoreboard = new ScoreboardImpl();
+        Long finishedMatchId = scoreboard.startMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.finishMatch(finishedMatchId);
+
+        Long matchId = scoreboard.startMatch(ALREADY_PLAYING_COUNTRY_CODE, PLAYING_COUNTRY, MATCH_DATE.plusDays(1));
+
+        assertEquals(ALREADY_PLAYING_COUNTRY_NAME, scoreboard.getMatch(matchId).homeTeamScore().country());
+        assertTrue(scoreboard.getMatch(finishedMatchId).finished());
+    }
+
+    @Test
+    public void shouldKeepCountryPlayingWhenItsPreviousMatchIsFinishedAgain() {
+        Scoreboard scoreboard = new ScoreboardImpl();
+        Long finishedMatchId = scoreboard.startMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.finishMatch(finishedMatchId);
+        scoreboard.startMatch(ALREADY_PLAYING_COUNTRY_CODE, ONE_MORE_AWAY_COUNTRY, MATCH_DATE.plusDays(1));
+
+        scoreboard.finishMatch(finishedMatchId);
+
+        TeamAlreadyPlayingException teamAlreadyPlayingException = Assertions.assertThrows(TeamAlreadyPlayingException.class,
+                () -> scoreboard.startMatch(OTHER_PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE));
+        assertEquals(ALREADY_PLAYING_COUNTRY_NAME, teamAlreadyPlayingException.getAlreadyPlayingCountry());
+    }
+
     @MethodSource("getNegativeScoreParameters")
     @ParameterizedTest
     public void shouldThrowScoreIsNegativeExceptionWhenNegativeScoreIsProvided(int homeScore, int awayScore) {
@@ -134,6 +186,125 @@ public class ScoreboardImplUnitTest {
         assertTrue(matchIds.contains(firstMatchId));
     }
 
+    @Test
+    public void shouldKeepReturnedSnapshotUnchangedWhenScoreboardIsUpdated() {
+        Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(ReadMode.SNAPSHOT)
+                .build());
+        Long firstMatchId = scoreboard.startMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        Long secondMatchId = scoreboard.startMatch(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE.plusMinutes(1));
+        Collection<Match> snapshot = scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted();
+
+        scoreboard.updateScore(firstMatchId, 1, 0);
+        scoreboard.finishMatch(secondMatchId);
+
+        assertEquals(List.of(secondMatchId, firstMatchId), snapshot.stream().map(Match::id).toList());
+        assertEquals(List.of(firstMatchId), scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted()
+                .stream().map(Match::id).toList());
+    }
+
+    @Test
+    public void shouldReturnArchivedMatchWhenFinishedMatchesAreOverCountLimit(@TempDir Path archiveDirectory) {
+        Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(1))
+                .archiveDirectory(archiveDirectory)
+                .build());
+        Long firstMatchId = scoreboard.startMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        Long secondMatchId = scoreboard.startMatch(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+        scoreboard.updateScore(firstMatchId, 2, 1);
+        Match expectedMatch = scoreboard.getMatch(firstMatchId).createFinishedMatchCopy();
+        scoreboard.finishMatch(firstMatchId);
+        scoreboard.finishMatch(secondMatchId);
+
+        scoreboard.finishMatch(firstMatchId);
+
+        assertEquals(expectedMatch, scoreboard.getMatch(firstMatchId));
+        assertTrue(scoreboard.getMatch(secondMatchId).finished());
+        assertEquals(0, scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().size());
+    }
+
+    @Test
+    public void shouldFindArchivedMatchWhenScoreboardIsRestarted(@TempDir Path archiveDirectory) {
+        final ScoreboardConfiguration configuration = ScoreboardConfiguration.builder()
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(0))
+                .archiveDirectory(archiveDirectory)
+                .build();
+        final Scoreboard previous = new ScoreboardImpl(configuration);
+        final long archivedMatchId = previous.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        previous.updateScore(archivedMatchId, 2, 1);
+        previous.finishMatch(archivedMatchId);
+        final Match archivedMatch = previous.getMatch(archivedMatchId);
+
+        final Scoreboard scoreboard = new ScoreboardImpl(configuration);
+
+        assertEquals(archivedMatch, scoreboard.getMatch(archivedMatchId));
+        assertEquals(archivedMatchId + 1, scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE));
+    }
+
+    @Test
+    public void shouldReturnArchivedMatchWhenFinishedMatchIsOverAgeLimit(@TempDir Path archiveDirectory) {
+        MutableClock clock = new MutableClock();
+        ScoreboardImpl scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .retentionPolicy(FinishedMatchRetentionPolicy.byAge(Duration.ofHours(1)))
+                .archiveDirectory(archiveDirectory)
+                .clock(clock)
+                .build());
+        Long finishedMatchId = scoreboard.startMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.finishMatch(finishedMatchId);
+        assertTrue(scoreboard.state.matchesById.containsKey(finishedMatchId));
+
+        clock.instant = clock.instant.plus(Duration.ofHours(2));
+        scoreboard.startMatch(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+
+        assertFalse(scoreboard.state.matchesById.containsKey(finishedMatchId));
+        assertEquals(PLAYING_COUNTRY_NAME, scoreboard.getMatch(finishedMatchId).homeTeamScore().country());
+    }
+
+    @Test
+    public void shouldKeepLastFinishedMatchesInFinishOrderWhenManyMatchesAreOverCountLimit(@TempDir Path archiveDirectory) {
+        ScoreboardImpl scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(20))
+                .archiveDirectory(archiveDirectory)
+                .build());
+        List<Long> finishedMatchIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long matchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+            scoreboard.finishMatch(matchId);
+            finishedMatchIds.add(matchId);
+        }
+
+        for (int i = 0; i < finishedMatchIds.size(); i++) {
+            assertEquals(i >= 30, scoreboard.state.matchesById.containsKey(finishedMatchIds.get(i)), "match " + i);
+            assertTrue(scoreboard.getMatch(finishedMatchIds.get(i)).finished());
+        }
+    }
+
+    @Test
+    public void shouldApplyLastValidUpdateOfEveryMatchWhenBatchIsApplied() {
+        Scoreboard scoreboard = new ScoreboardImpl();
+        long firstMatchId = scoreboard.startMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        long secondMatchId = scoreboard.startMatch(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+        List<ScoreUpdate> updates = List.of(
+                new ScoreUpdate(firstMatchId, 1, 0),
+                new ScoreUpdate(secondMatchId, 0, 1),
+                new ScoreUpdate(firstMatchId, 2, 0),
+                new ScoreUpdate(firstMatchId, -1, 0),
+                new ScoreUpdate(NOT_EXISTING_MATCH + 100, 1, 1),
+                new ScoreUpdate(NOT_EXISTING_MATCH + 100, 2, 2));
+
+        List<ScoreUpdateResult> results = scoreboard.applyUpdates(updates);
+
+        assertEquals(List.of(ScoreUpdateStatus.SUPERSEDED, ScoreUpdateStatus.APPLIED, ScoreUpdateStatus.APPLIED,
+                        ScoreUpdateStatus.SCORE_NOT_POSITIVE, ScoreUpdateStatus.MATCH_NOT_FOUND,
+                        ScoreUpdateStatus.MATCH_NOT_FOUND),
+                results.stream().map(ScoreUpdateResult::status).toList());
+        assertEquals(updates, results.stream().map(ScoreUpdateResult::update).toList());
+        assertEquals(2, scoreboard.getMatch(firstMatchId).homeTeamScore().score());
+        assertEquals(1, scoreboard.getMatch(secondMatchId).awayTeamScore().score());
+        assertEquals(List.of(firstMatchId, secondMatchId), scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted()
+                .stream().map(Match::id).toList());
+    }
+
     @Test
     public void shouldReturnMatchByIdWhenStarted() {
         Scoreboard scoreboard = new ScoreboardImpl();
@@ -148,6 +319,25 @@ public class ScoreboardImplUnitTest {
         assertEquals(match.awayTeamScore().country(), ALREADY_PLAYING_COUNTRY_NAME);
     }
 
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2022-07-15T19:30:40Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
     @Test
     public void shouldThrowMatchNotFoundExceptionWhenGettingNotExistMatch() {
         Scoreboard scoreboard = new ScoreboardImpl();
@@ -159,6 +349,16 @@ public class ScoreboardImplUnitTest {
     }
 
 
+    @Test
+    public void shouldThrowMatchNotFoundExceptionWhenGettingMatchByNullId() {
+        Scoreboard scoreboard = new ScoreboardImpl();
+
+        MatchNotFoundException matchNotFoundException = Assertions.assertThrows(MatchNotFoundException.class,
+                () -> scoreboard.getMatch((Long) null));
+
+        assertNull(matchNotFoundException.getMatchId());
+    }
+
     @Test
     public void shouldThrowMatchNotFoundExceptionWhenUpdatingNotExistMatch() {
         Scoreboard scoreboard = new ScoreboardImpl();
@@ -180,5 +380,340 @@ public class ScoreboardImplUnitTest {
         assertEquals(NOT_EXISTING_MATCH, matchNotFoundException.getMatchId());
     }
 
+    @Test
+    public void shouldEncodeRunningMatchesOnceWhenVersionIsNotChanged() {
+        final ScoreboardImpl scoreboard = new ScoreboardImpl();
+        final long matchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+
+        final ByteBuffer first = scoreboard.getRunningMatchesEncoded();
+        final ByteBuffer second = scoreboard.getRunningMatchesEncoded();
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertNotNull(scoreboard.state.encodedRunningMatches(scoreboard.state.version()));
+        assertEquals(List.of(scoreboard.getMatch(matchId)), RunningMatchesCodec.decode(first).runningMatches());
+
+        scoreboard.updateScore(matchId, 1, 0);
 
+        assertNull(scoreboard.state.encodedRunningMatches(scoreboard.state.version()));
+        final ScoreboardSnapshot decoded = RunningMatchesCodec.decode(scoreboard.getRunningMatchesEncoded());
+        assertEquals(scoreboard.state.version(), decoded.sequence());
+        assertEquals(1, decoded.runningMatches().get(0).homeTeamScore().score());
+    }
+
+    @Test
+    public void shouldRenderRunningMatchesAgainWhenScoreboardIsChanged() {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+        final long matchId = scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+        scoreboard.startMatchAsLong(ALREADY_PLAYING_COUNTRY_CODE, OTHER_PLAYING_COUNTRY, MATCH_DATE);
+
+        final String text = scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT);
+
+        assertSame(text, scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT));
+        scoreboard.incrementHomeScore(matchId);
+        assertEquals("Uruguay 1 - Italy 0\nMexico 0 - Germany 0\n",
+                scoreboard.getRunningMatchesRendered(ScoreboardFormatter.TEXT));
+        scoreboard.finishMatch(matchId);
+        assertEquals("{\"version\":4,\"matches\":[{\"id\":2,\"homeTeam\":\"Mexico\",\"homeScore\":0,"
+                        + "\"awayTeam\":\"Germany\",\"awayScore\":0,\"startDate\":\"" + MATCH_DATE + "\"}]}",
+                scoreboard.getRunningMatchesRendered(ScoreboardFormatter.JSON));
+    }
+
+    @Test
+    public void shouldFallBackToReadLockWhenOptimisticLookupDoesNotFindMatch(@TempDir Path archiveDirectory) {
+        final ScoreboardImpl scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .lockMode(LockMode.OPTIMISTIC)
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(0))
+                .archiveDirectory(archiveDirectory)
+                .build());
+        final long matchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+        final long archivedMatchId = scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, OTHER_PLAYING_COUNTRY, MATCH_DATE);
+        scoreboard.updateScore(matchId, 2, 1);
+        scoreboard.finishMatch(archivedMatchId);
+
+        assertEquals(2, scoreboard.getMatch(matchId).homeTeamScore().score());
+        assertTrue(scoreboard.getMatch(archivedMatchId).finished());
+        Assertions.assertThrows(MatchNotFoundException.class, () -> scoreboard.getMatch(archivedMatchId + 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReadMode.class)
+    public void shouldReturnPositionInRunningMatchesWhenRankIsRequested(final ReadMode readMode) {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder().readMode(readMode).build());
+        final long firstMatchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        final long secondMatchId = scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY,
+                MATCH_DATE.plusMinutes(1));
+        final long finishedMatchId = scoreboard.startMatchAsLong(OTHER_PLAYING_COUNTRY, "CAN", MATCH_DATE.plusMinutes(2));
+        scoreboard.updateScore(firstMatchId, 1, 0);
+        scoreboard.finishMatch(finishedMatchId);
+
+        final List<Match> runningMatches = new ArrayList<>(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted());
+        for (int position = 0; position < runningMatches.size(); position++) {
+            assertEquals(position + 1, scoreboard.getRank(runningMatches.get(position).id()));
+        }
+        assertEquals(1, scoreboard.getRank(firstMatchId));
+        assertEquals(2, scoreboard.getRank(secondMatchId));
+        assertEquals(0, scoreboard.getRank(finishedMatchId));
+        Assertions.assertThrows(MatchNotFoundException.class, () -> scoreboard.getRank(finishedMatchId + 1));
+    }
+
+    @Test
+    public void shouldReturnFinishedAndArchivedMatchesWhenHistoryIsQueried(@TempDir Path archiveDirectory) {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(0))
+                .archiveDirectory(archiveDirectory)
+                .build());
+        final long archivedMatchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.updateScore(archivedMatchId, 2, 1);
+        scoreboard.finishMatch(archivedMatchId);
+        final long finishedMatchId = scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, PLAYING_COUNTRY,
+                MATCH_DATE.plusHours(2));
+        scoreboard.finishMatch(finishedMatchId);
+        scoreboard.startMatchAsLong(PLAYING_COUNTRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE.plusHours(1));
+
+        assertEquals(List.of(scoreboard.getMatch(archivedMatchId), scoreboard.getMatch(finishedMatchId)),
+                scoreboard.getFinishedMatches(PLAYING_COUNTRY));
+        assertEquals(List.of(scoreboard.getMatch(finishedMatchId)), scoreboard.getFinishedMatches(ONE_MORE_HOME_COUNRY));
+        assertEquals(List.of(), scoreboard.getFinishedMatches(ONE_MORE_AWAY_COUNTRY));
+        assertEquals(List.of(scoreboard.getMatch(archivedMatchId)),
+                scoreboard.getFinishedMatchesStartedBetween(MATCH_DATE, MATCH_DATE.plusHours(2)));
+        Assertions.assertThrows(CountryNotSupportedException.class, () -> scoreboard.getFinishedMatches(FAKE_ISO_CODE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockMode.class)
+    public void shouldReorderRunningMatchesWhenGoalIsIncremented(final LockMode lockMode) {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder().lockMode(lockMode).build());
+        final long firstMatchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        final long secondMatchId = scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY,
+                MATCH_DATE.plusMinutes(1));
+
+        scoreboard.incrementHomeScore(firstMatchId);
+        scoreboard.incrementAwayScore(firstMatchId);
+        scoreboard.incrementAwayScore(secondMatchId);
+
+        final Match firstMatch = scoreboard.getMatch(firstMatchId);
+        assertEquals(1, firstMatch.homeTeamScore().score());
+        assertEquals(1, firstMatch.awayTeamScore().score());
+        assertEquals(List.of(firstMatch, scoreboard.getMatch(secondMatchId)),
+                List.copyOf(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted()));
+        assertEquals(2, scoreboard.getRank(secondMatchId));
+    }
+
+    @Test
+    public void shouldThrowMatchNotFoundExceptionWhenIncrementingNotRunningMatch() {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+        final long finishedMatchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.incrementHomeScore(finishedMatchId);
+        scoreboard.finishMatch(finishedMatchId);
+
+        Assertions.assertThrows(MatchNotFoundException.class, () -> scoreboard.incrementHomeScore(finishedMatchId));
+        Assertions.assertThrows(MatchNotFoundException.class, () -> scoreboard.incrementAwayScore(finishedMatchId + 1));
+        assertEquals(1, scoreboard.getMatch(finishedMatchId).homeTeamScore().score());
+    }
+
+    @Test
+    public void shouldSeeEveryRunningMatchInSnapshotWhenScoresAreUpdatedConcurrently() throws Exception {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(ReadMode.SNAPSHOT)
+                .build());
+        final List<Long> matchIds = List.of(
+                scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE),
+                scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE),
+                scoreboard.startMatchAsLong(OTHER_PLAYING_COUNTRY, "BRA", MATCH_DATE));
+        final int updates = 20_000;
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicInteger incompleteSnapshots = new AtomicInteger();
+        final Thread writer = new Thread(() -> {
+            for (int i = 1; i <= updates; i++) {
+                scoreboard.updateScore(matchIds.get(i % matchIds.size()), i % 7, i % 5);
+            }
+            writing.set(false);
+        });
+        final List<Thread> readers = List.of(new Thread(() -> readWhile(writing, scoreboard, incompleteSnapshots)),
+                new Thread(() -> readWhile(writing, scoreboard, incompleteSnapshots)));
+        readers.forEach(Thread::start);
+        writer.start();
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, incompleteSnapshots.get());
+    }
+
+    private static void readWhile(final AtomicBoolean writing, final Scoreboard scoreboard,
+                                  final AtomicInteger incompleteSnapshots) {
+        while (writing.get()) {
+            if (scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().size() != 3) {
+                incompleteSnapshots.incrementAndGet();
+            }
+        }
+    }
+
+    @Test
+    public void shouldCountEveryGoalWhenGoalsAreIncrementedConcurrently() throws Exception {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+        final long firstMatchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        final long secondMatchId = scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, MATCH_DATE);
+        final int goals = 2_000;
+        final List<Thread> threads = List.of(
+                new Thread(() -> incrementTimes(goals, () -> scoreboard.incrementHomeScore(firstMatchId))),
+                new Thread(() -> incrementTimes(goals, () -> scoreboard.incrementAwayScore(firstMatchId))),
+                new Thread(() -> incrementTimes(goals, () -> scoreboard.incrementHomeScore(secondMatchId))),
+                new Thread(() -> incrementTimes(goals, () -> scoreboard.getRunningMatchesPage(0, 2))));
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(goals, scoreboard.getMatch(firstMatchId).homeTeamScore().score());
+        assertEquals(goals, scoreboard.getMatch(firstMatchId).awayTeamScore().score());
+        assertEquals(goals, scoreboard.getMatch(secondMatchId).homeTeamScore().score());
+        assertEquals(1, scoreboard.getRank(firstMatchId));
+    }
+
+    private static void incrementTimes(final int times, final Runnable increment) {
+        for (int i = 0; i < times; i++) {
+            increment.run();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockMode.class)
+    public void shouldRejectStaleUpdateWhenVersionIsNotExpected(final LockMode lockMode) {
+        final Scoreboard scoreboard = new ScoreboardImpl(ScoreboardConfiguration.builder().lockMode(lockMode).build());
+        final long matchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+
+        assertTrue(scoreboard.compareAndUpdateScore(matchId, 0, 1, 0));
+        assertFalse(scoreboard.compareAndUpdateScore(matchId, 0, 2, 0));
+        assertTrue(scoreboard.compareAndUpdateScore(matchId, 1, 1, 1));
+
+        final Match match = scoreboard.getMatch(matchId);
+        assertEquals(1, match.homeTeamScore().score());
+        assertEquals(1, match.awayTeamScore().score());
+        assertEquals(2, match.version());
+        Assertions.assertThrows(MatchNotFoundException.class,
+                () -> scoreboard.compareAndUpdateScore(matchId + 1, 0, 1, 0));
+        Assertions.assertThrows(ScoreNotPositiveException.class,
+                () -> scoreboard.compareAndUpdateScore(matchId, 2, -1, 0));
+    }
+
+    @Test
+    public void shouldKeepMatchUnchangedWhenSameScoreIsUpdatedAgain() {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+        final long matchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.updateScore(matchId, 2, 1);
+        final Match updated = scoreboard.getMatch(matchId);
+        final ByteBuffer encoded = scoreboard.getRunningMatchesEncoded();
+
+        scoreboard.updateScore(matchId, 2, 1);
+        assertTrue(scoreboard.compareAndUpdateScore(matchId, updated.version(), 2, 1));
+
+        assertEquals(1, updated.version());
+        assertSame(updated, scoreboard.getMatch(matchId));
+        assertEquals(encoded, scoreboard.getRunningMatchesEncoded());
+    }
+
+    @Test
+    public void shouldRejectScoreUpdatesWhenMatchIsFinished() {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+        final long matchId = scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+        scoreboard.finishMatch(matchId);
+        final Match finished = scoreboard.getMatch(matchId);
+
+        Assertions.assertThrows(MatchNotFoundException.class,
+                () -> scoreboard.compareAndUpdateScore(matchId, finished.version(), 1, 0));
+        Assertions.assertThrows(MatchNotFoundException.class,
+                () -> scoreboard.compareAndUpdateScore(matchId, finished.version(), 0, 0));
+        assertEquals(ScoreUpdateStatus.MATCH_NOT_FOUND, scoreboard.tryUpdateScore(matchId, 2, 0));
+        assertEquals(List.of(new ScoreUpdateResult(new ScoreUpdate(matchId, 3, 0), ScoreUpdateStatus.MATCH_NOT_FOUND)),
+                scoreboard.applyUpdates(List.of(new ScoreUpdate(matchId, 3, 0))));
+
+        assertSame(finished, scoreboard.getMatch(matchId));
+        assertTrue(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnFailureStatusWhenTryMethodsFail() {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+        final long matchId = scoreboard.tryStartMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE).matchId();
+
+        assertEquals(MatchStartResult.failed(MatchStartStatus.TEAM_ALREADY_PLAYING),
+                scoreboard.tryStartMatch(ALREADY_PLAYING_COUNTRY_CODE, ONE_MORE_AWAY_COUNTRY, MATCH_DATE));
+        assertEquals(MatchStartResult.failed(MatchStartStatus.COUNTRY_NOT_SUPPORTED),
+                scoreboard.tryStartMatch(FAKE_ISO_CODE, ONE_MORE_AWAY_COUNTRY, MATCH_DATE));
+        assertEquals(MatchStartResult.failed(MatchStartStatus.COUNTRY_NOT_SUPPORTED),
+                scoreboard.tryStartMatch(ALREADY_PLAYING_COUNTRY_CODE, FAKE_ISO_CODE, MATCH_DATE));
+        assertEquals(ScoreUpdateStatus.APPLIED, scoreboard.tryUpdateScore(matchId, 1, 0));
+        assertEquals(ScoreUpdateStatus.SCORE_NOT_POSITIVE, scoreboard.tryUpdateScore(matchId, -1, 0));
+        assertEquals(ScoreUpdateStatus.MATCH_NOT_FOUND, scoreboard.tryUpdateScore(matchId + 1, 1, 0));
+        assertFalse(scoreboard.tryFinishMatch(matchId + 1));
+        assertTrue(scoreboard.tryFinishMatch(matchId));
+
+        final Match match = scoreboard.getMatch(matchId);
+        assertTrue(match.finished());
+        assertEquals(1, match.homeTeamScore().score());
+        assertEquals(MatchStartResult.started(matchId + 1),
+                scoreboard.tryStartMatch(ALREADY_PLAYING_COUNTRY_CODE, ONE_MORE_AWAY_COUNTRY, MATCH_DATE));
+    }
+
+    @Test
+    public void shouldThrowExceptionWithoutStackTraceWhenMatchIsNotFound() {
+        final Scoreboard scoreboard = new ScoreboardImpl();
+
+        final MatchNotFoundException exception = Assertions.assertThrows(MatchNotFoundException.class,
+                () -> scoreboard.updateScore(NOT_EXISTING_MATCH, 1, 0));
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(NOT_EXISTING_MATCH, exception.getMatchId());
+    }
+
+    @Test
+    public void shouldStartScheduledMatchesWhenTheirStartDateComes() throws InterruptedException {
+        try (ScoreboardImpl scoreboard = new ScoreboardImpl()) {
+            final LocalDateTime kickoff = LocalDateTime.now(ZoneOffset.UTC).plusNanos(200_000_000);
+            scoreboard.scheduleMatch(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, kickoff);
+            scoreboard.scheduleMatch(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, kickoff);
+            final long cancelledMatchId = scoreboard.scheduleMatch(OTHER_PLAYING_COUNTRY, "CAN", kickoff);
+            Assertions.assertThrows(TeamAlreadyPlayingException.class,
+                    () -> scoreboard.scheduleMatch(PLAYING_COUNTRY, "CAN", kickoff));
+            assertTrue(scoreboard.cancelScheduledMatch(cancelledMatchId));
+            assertTrue(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().isEmpty());
+
+            final long deadlineNanos = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted().size() < 2
+                    && System.nanoTime() < deadlineNanos) {
+                Thread.sleep(10);
+            }
+
+            final List<Match> runningMatches = List.copyOf(scoreboard.getRunningMatchesSortedByTotalScoreAndMostRecentStarted());
+            assertEquals(2, runningMatches.size());
+            assertEquals(kickoff, runningMatches.get(0).startDate());
+            assertFalse(scoreboard.cancelScheduledMatch(cancelledMatchId));
+        }
+    }
+
+    @Test
+    public void shouldRejectScheduleOfPlayingTeamAndReportDroppedKickoffWhenTeamStartedAnotherMatch() throws Exception {
+        try (ScoreboardImpl scoreboard = new ScoreboardImpl()) {
+            final LocalDateTime kickoff = LocalDateTime.now(ZoneOffset.UTC).plusNanos(200_000_000);
+            scoreboard.startMatchAsLong(PLAYING_COUNTRY, ALREADY_PLAYING_COUNTRY_CODE, MATCH_DATE);
+            Assertions.assertThrows(TeamAlreadyPlayingException.class,
+                    () -> scoreboard.scheduleMatch(PLAYING_COUNTRY, ONE_MORE_AWAY_COUNTRY, kickoff));
+            final CompletableFuture<MatchStartResult> dropped = new CompletableFuture<>();
+            final CompletableFuture<MatchStartResult> started = new CompletableFuture<>();
+            scoreboard.scheduleMatch(ONE_MORE_HOME_COUNRY, ONE_MORE_AWAY_COUNTRY, kickoff, dropped::complete);
+            scoreboard.scheduleMatch(OTHER_PLAYING_COUNTRY, "CAN", kickoff, started::complete);
+            scoreboard.startMatchAsLong(ONE_MORE_HOME_COUNRY, "BRA", MATCH_DATE);
+
+            assertEquals(MatchStartResult.failed(MatchStartStatus.TEAM_ALREADY_PLAYING),
+                    dropped.get(10, TimeUnit.SECONDS));
+            final MatchStartResult startResult = started.get(10, TimeUnit.SECONDS);
+            assertTrue(startResult.isStarted());
+            assertEquals(kickoff, scoreboard.getMatch(startResult.matchId()).startDate());
+        }
+    }
 }
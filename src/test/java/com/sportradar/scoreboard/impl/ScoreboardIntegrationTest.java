@@ -2,25 +2,41 @@ package com.sportradar.scoreboard.impl;
 
 import com.sportradar.scoreboard.model.Match;
 import com.sportradar.scoreboard.Scoreboard;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ScoreboardIntegrationTest {
 
     public static final LocalDateTime FIRST_MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15,
             19, 30, 40);
 
-    @Test
-    public void testSuccessCase() {
-        final Scoreboard scoreboard = new ScoreboardImpl();
+    @EnumSource(ReadMode.class)
+    @ParameterizedTest
+    public void testSuccessCase(final ReadMode readMode) {
+        runSuccessCase(new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(readMode)
+                .build()));
+    }
+
+    @EnumSource(OrderingEngine.class)
+    @ParameterizedTest
+    public void testSuccessCaseWithOrderingEngine(final OrderingEngine orderingEngine) {
+        runSuccessCase(new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .orderingEngine(orderingEngine)
+                .build()));
+    }
 
+    private static void runSuccessCase(final Scoreboard scoreboard) {
         final Long mexicoCanadaMatchId = scoreboard.startMatch("MEX",
                 "CAN", FIRST_MATCH_DATE);
         final Long spainBrazilMatchId = scoreboard.startMatch("ESP", "BRA",
@@ -78,4 +94,37 @@ public class ScoreboardIntegrationTest {
         assertEquals(fiveMatch.awayTeamScore().country(), "France");
         assertEquals(fiveMatch.awayTeamScore().score(), 2);
     }
+
+    @EnumSource(ReadMode.class)
+    @ParameterizedTest
+    public void testPagination(final ReadMode readMode) {
+        runPagination(new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .readMode(readMode)
+                .build()));
+    }
+
+    @EnumSource(OrderingEngine.class)
+    @ParameterizedTest
+    public void testPaginationWithOrderingEngine(final OrderingEngine orderingEngine) {
+        runPagination(new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .orderingEngine(orderingEngine)
+                .build()));
+    }
+
+    private static void runPagination(final Scoreboard scoreboard) {
+        final Long mexicoCanadaMatchId = scoreboard.startMatch("MEX", "CAN", FIRST_MATCH_DATE);
+        final Long spainBrazilMatchId = scoreboard.startMatch("ESP", "BRA",
+                FIRST_MATCH_DATE.plus(5, ChronoUnit.MINUTES));
+        final Long germanyFranceMatchId = scoreboard.startMatch("DEU", "FRA",
+                FIRST_MATCH_DATE.plus(10, ChronoUnit.MINUTES));
+        scoreboard.updateScore(mexicoCanadaMatchId, 0, 5);
+        scoreboard.updateScore(spainBrazilMatchId, 10, 2);
+
+        assertEquals(List.of(spainBrazilMatchId, mexicoCanadaMatchId),
+                scoreboard.getTopRunningMatches(2).stream().map(Match::id).toList());
+        assertEquals(List.of(mexicoCanadaMatchId, germanyFranceMatchId),
+                scoreboard.getRunningMatchesPage(1, 5).stream().map(Match::id).toList());
+        assertEquals(List.of(), scoreboard.getRunningMatchesPage(3, 5));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getRunningMatchesPage(-1, 5));
+    }
 }
@@ -0,0 +1,223 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.exception.TeamAlreadyPlayingException;
+import com.sportradar.scoreboard.model.Match;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardJournalUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15,
+            19, 30, 40, 123_000_000);
+    private static final String[] COUNTRIES = {"MEX", "CAN", "ESP", "BRA", "DEU", "FRA", "URY", "ITA", "ARG", "AUS"};
+
+    @TempDir
+    Path journalDirectory;
+    @TempDir
+    Path archiveDirectory;
+
+    @Test
+    public void shouldRecoverMatchesWhenScoreboardIsRestarted() {
+        final long mexicoCanadaMatchId;
+        final long spainBrazilMatchId;
+        try (ScoreboardImpl scoreboard = createScoreboard(1000)) {
+            mexicoCanadaMatchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            spainBrazilMatchId = scoreboard.startMatchAsLong("ESP", "BRA", MATCH_DATE.plusMinutes(5));
+            scoreboard.updateScore(mexicoCanadaMatchId, 2, 1);
+            scoreboard.updateScore(spainBrazilMatchId, 1, 0);
+            scoreboard.finishMatch(spainBrazilMatchId);
+        }
+
+        try (ScoreboardImpl recovered = createScoreboard(1000)) {
+            final Match mexicoCanada = recovered.getMatch(mexicoCanadaMatchId);
+            assertEquals(2, mexicoCanada.homeTeamScore().score());
+            assertEquals(1, mexicoCanada.awayTeamScore().score());
+            assertEquals(MATCH_DATE, mexicoCanada.startDate());
+            assertTrue(recovered.getMatch(spainBrazilMatchId).finished());
+            assertEquals(List.of(mexicoCanada), List.copyOf(
+                    recovered.getRunningMatchesSortedByTotalScoreAndMostRecentStarted()));
+            assertThrows(TeamAlreadyPlayingException.class,
+                    () -> recovered.startMatchAsLong("MEX", "ESP", MATCH_DATE));
+            assertEquals(spainBrazilMatchId + 1, recovered.startMatchAsLong("ESP", "BRA", MATCH_DATE));
+        }
+    }
+
+    @Test
+    public void shouldRecoverIncrementedScoreWhenScoreboardIsRestarted() {
+        final long matchId;
+        try (ScoreboardImpl scoreboard = createScoreboard(1000)) {
+            matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            scoreboard.incrementHomeScore(matchId);
+            scoreboard.incrementAwayScore(matchId);
+            scoreboard.incrementHomeScore(matchId);
+        }
+
+        try (ScoreboardImpl recovered = createScoreboard(1000)) {
+            final Match match = recovered.getMatch(matchId);
+            assertEquals(2, match.homeTeamScore().score());
+            assertEquals(1, match.awayTeamScore().score());
+        }
+    }
+
+    @Test
+    public void shouldRecoverMatchVersionWhenItIsInSnapshotAndLogTail() {
+        final long matchId;
+        try (ScoreboardImpl scoreboard = createScoreboard(3)) {
+            matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            scoreboard.updateScore(matchId, 1, 0);
+            scoreboard.updateScore(matchId, 1, 0);
+            scoreboard.updateScore(matchId, 2, 0);
+            scoreboard.updateScore(matchId, 2, 1);
+        }
+
+        try (ScoreboardImpl recovered = createScoreboard(3)) {
+            assertEquals(3, recovered.getMatch(matchId).version());
+            assertFalse(recovered.compareAndUpdateScore(matchId, 2, 3, 1));
+        }
+    }
+
+    @Test
+    public void shouldReplayOnlyLogTailWhenSnapshotIsWritten() throws IOException {
+        final long matchId;
+        try (ScoreboardImpl scoreboard = createScoreboard(3)) {
+            matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            for (int score = 1; score <= 10; score++) {
+                scoreboard.updateScore(matchId, score, 0);
+            }
+        }
+
+        assertEquals(List.of("journal-00000000000000000009.log", "snapshot-00000000000000000009.snapshot"),
+                fileNames());
+        try (ScoreboardImpl recovered = createScoreboard(3)) {
+            assertEquals(10, recovered.getMatch(matchId).homeTeamScore().score());
+        }
+    }
+
+    @Test
+    public void shouldIgnoreDamagedTailWhenRecordWasNotWrittenCompletely() throws IOException {
+        final long matchId;
+        try (ScoreboardImpl scoreboard = createScoreboard(1000)) {
+            matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            scoreboard.updateScore(matchId, 1, 1);
+        }
+        final Path segment = journalDirectory.resolve(fileNames().get(0));
+        final long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 17, 1, 2}, StandardOpenOption.APPEND);
+
+        try (ScoreboardImpl recovered = createScoreboard(1000)) {
+            assertEquals(1, recovered.getMatch(matchId).homeTeamScore().score());
+            assertEquals(validSize, Files.size(segment));
+            recovered.updateScore(matchId, 2, 1);
+        }
+        try (ScoreboardImpl recovered = createScoreboard(1000)) {
+            assertEquals(2, recovered.getMatch(matchId).homeTeamScore().score());
+        }
+    }
+
+    @Test
+    public void shouldRecoverEveryCommittedChangeWhenWritersShareFsync() throws Exception {
+        final List<Long> matchIds = new ArrayList<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(COUNTRIES.length / 2);
+        try (ScoreboardImpl scoreboard = createScoreboard(50)) {
+            for (int i = 0; i < COUNTRIES.length; i += 2) {
+                matchIds.add(scoreboard.startMatchAsLong(COUNTRIES[i], COUNTRIES[i + 1], MATCH_DATE));
+            }
+            final List<Future<?>> futures = new ArrayList<>();
+            for (long matchId : matchIds) {
+                futures.add(executorService.submit(() -> {
+                    for (int score = 1; score <= 100; score++) {
+                        scoreboard.updateScore(matchId, score, score);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        try (ScoreboardImpl recovered = createScoreboard(50)) {
+            for (long matchId : matchIds) {
+                assertEquals(100, recovered.getMatch(matchId).awayTeamScore().score());
+            }
+            assertFalse(fileNames().contains("journal-00000000000000000000.log"));
+        }
+    }
+
+    @Test
+    public void shouldRecoverArchivedMatchesWhenTheyAreNotInSnapshot() {
+        final List<Match> finishedMatches = new ArrayList<>();
+        try (ScoreboardImpl scoreboard = createArchivingScoreboard()) {
+            for (int i = 0; i < COUNTRIES.length; i += 2) {
+                final long matchId = scoreboard.startMatchAsLong(COUNTRIES[i], COUNTRIES[i + 1], MATCH_DATE.plusMinutes(i));
+                scoreboard.updateScore(matchId, i, 1);
+                scoreboard.finishMatch(matchId);
+                finishedMatches.add(scoreboard.getMatch(matchId));
+            }
+        }
+
+        try (ScoreboardImpl recovered = createArchivingScoreboard()) {
+            for (Match match : finishedMatches) {
+                assertEquals(match, recovered.getMatch(match.id()));
+            }
+            assertEquals(finishedMatches, recovered.getFinishedMatchesStartedBetween(MATCH_DATE, MATCH_DATE.plusDays(1)));
+            assertEquals(List.of(finishedMatches.get(0)), recovered.getFinishedMatches("MEX"));
+        }
+    }
+
+    @Test
+    public void shouldFailRecoveryWhenArchivedMatchesAreMissing() throws IOException {
+        try (ScoreboardImpl scoreboard = createArchivingScoreboard()) {
+            for (int i = 0; i < COUNTRIES.length; i += 2) {
+                scoreboard.finishMatch(scoreboard.startMatchAsLong(COUNTRIES[i], COUNTRIES[i + 1], MATCH_DATE));
+            }
+        }
+        try (Stream<Path> segments = Files.list(archiveDirectory)) {
+            for (Path segment : segments.toList()) {
+                Files.delete(segment);
+            }
+        }
+
+        assertThrows(IllegalStateException.class, this::createArchivingScoreboard);
+    }
+
+    private ScoreboardImpl createArchivingScoreboard() {
+        return new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .journalDirectory(journalDirectory)
+                .journalSnapshotInterval(3)
+                .retentionPolicy(FinishedMatchRetentionPolicy.byCount(1))
+                .archiveDirectory(archiveDirectory)
+                .build());
+    }
+
+    private ScoreboardImpl createScoreboard(final int snapshotInterval) {
+        return new ScoreboardImpl(ScoreboardConfiguration.builder()
+                .journalDirectory(journalDirectory)
+                .journalSnapshotInterval(snapshotInterval)
+                .build());
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sportradar.scoreboard.impl;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.model.CompetitionMatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardRegistryUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15,
+            19, 30, 40);
+
+    @Test
+    public void shouldKeepCompetitionsIndependentWhenSameTeamsArePlaying() {
+        try (ScoreboardRegistry registry = new ScoreboardRegistry()) {
+            final Scoreboard worldCup = registry.partition("world-cup");
+            final Scoreboard friendly = registry.partition("friendly");
+
+            final long worldCupMatchId = worldCup.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            final long friendlyMatchId = friendly.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            worldCup.updateScore(worldCupMatchId, 1, 0);
+
+            assertSame(worldCup, registry.partition("world-cup"));
+            assertNotSame(worldCup, friendly);
+            assertEquals(worldCupMatchId, friendlyMatchId);
+            assertEquals(0, friendly.getMatch(friendlyMatchId).homeTeamScore().score());
+            assertEquals(Set.of("world-cup", "friendly"), registry.competitionIds());
+        }
+    }
+
+    @Test
+    public void shouldMergeTopMatchesOfAllCompetitionsWhenGlobalTopIsRequested() {
+        try (ScoreboardRegistry registry = new ScoreboardRegistry()) {
+            final Scoreboard worldCup = registry.partition("world-cup");
+            final Scoreboard friendly = registry.partition("friendly");
+            registry.partition("empty");
+            final long mexicoCanadaMatchId = worldCup.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+            final long spainBrazilMatchId = worldCup.startMatchAsLong("ESP", "BRA", MATCH_DATE);
+            final long uruguayItalyMatchId = friendly.startMatchAsLong("URY", "ITA", MATCH_DATE);
+            final long germanyFranceMatchId = friendly.startMatchAsLong("DEU", "FRA", MATCH_DATE);
+            worldCup.updateScore(mexicoCanadaMatchId, 0, 5);
+            worldCup.updateScore(spainBrazilMatchId, 10, 2);
+            friendly.updateScore(uruguayItalyMatchId, 6, 6);
+            friendly.updateScore(germanyFranceMatchId, 2, 2);
+
+            final List<CompetitionMatch> topMatches = registry.getTopRunningMatches(3);
+
+            assertEquals(List.of(
+                    new CompetitionMatch("world-cup", worldCup.getMatch(spainBrazilMatchId)),
+                    new CompetitionMatch("friendly", friendly.getMatch(uruguayItalyMatchId)),
+                    new CompetitionMatch("world-cup", worldCup.getMatch(mexicoCanadaMatchId))), topMatches);
+            assertTrue(registry.getTopRunningMatches(0).isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldReturnAllRunningMatchesWhenLimitIsLargerThanScoreboard() {
+        try (ScoreboardRegistry registry = new ScoreboardRegistry()) {
+            final Scoreboard worldCup = registry.partition("world-cup");
+            final long matchId = worldCup.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+
+            assertEquals(List.of(new CompetitionMatch("world-cup", worldCup.getMatch(matchId))),
+                    registry.getTopRunningMatches(Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void shouldKeepJournalOfCompetitionInSubdirectoryWhenJournalIsConfigured(@TempDir Path journalDirectory) {
+        try (ScoreboardRegistry registry = new ScoreboardRegistry(ScoreboardConfiguration.builder()
+                .journalDirectory(journalDirectory)
+                .build())) {
+            registry.partition("world-cup").startMatchAsLong("MEX", "CAN", MATCH_DATE);
+        }
+
+        assertTrue(Files.isDirectory(journalDirectory.resolve("world-cup")));
+        try (ScoreboardRegistry recovered = new ScoreboardRegistry(ScoreboardConfiguration.builder()
+                .journalDirectory(journalDirectory)
+                .build())) {
+            assertEquals(1, recovered.partition("world-cup").getTopRunningMatches(10).size());
+        }
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenCompetitionIdIsNotFileName() {
+        try (ScoreboardRegistry registry = new ScoreboardRegistry()) {
+            assertThrows(IllegalArgumentException.class, () -> registry.partition("../world-cup"));
+            assertThrows(NullPointerException.class, () -> registry.partition(null));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sportradar.scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramUnitTest {
+
+    @Test
+    public void shouldKeepValueInsideBucketBoundsWhenValueIsRecorded() {
+        for (long value : new long[]{0, 7, 8, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            final int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "value " + value);
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1), "value " + value);
+        }
+    }
+
+    @Test
+    public void shouldReturnPercentilesWithBoundedErrorWhenManyValuesAreRecorded() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        final LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.count());
+        assertEquals(10_000, snapshot.maxNanos());
+        assertEquals(5_000.5, snapshot.meanNanos());
+        assertTrue(snapshot.p50Nanos() >= 5_000 && snapshot.p50Nanos() < 5_000 * 1.125);
+        assertTrue(snapshot.p99Nanos() >= 9_900 && snapshot.p99Nanos() < 9_900 * 1.125);
+    }
+
+    @Test
+    public void shouldNotReportPercentileAboveMaxWhenMaxIsInsideBucket() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(1_001);
+
+        final LatencySnapshot snapshot = histogram.snapshot();
+
+        assertTrue(LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(1_001)) > 1_001);
+        assertEquals(1_001, snapshot.p50Nanos());
+        assertEquals(1_001, snapshot.p999Nanos());
+    }
+}
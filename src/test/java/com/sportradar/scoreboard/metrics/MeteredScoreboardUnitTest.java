@@ -0,0 +1,63 @@
+package com.sportradar.scoreboard.metrics;
+
+import com.sportradar.scoreboard.Scoreboard;
+import com.sportradar.scoreboard.exception.MatchNotFoundException;
+import com.sportradar.scoreboard.impl.ScoreboardConfiguration;
+import com.sportradar.scoreboard.impl.ScoreboardImpl;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MeteredScoreboardUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15,
+            19, 30, 40);
+
+    @Test
+    public void shouldRecordOperationsLockTimesAndGaugesWhenMetricsAreEnabled() {
+        final ScoreboardMetrics metrics = new ScoreboardMetrics();
+        final Scoreboard scoreboard = new MeteredScoreboard(
+                new ScoreboardImpl(ScoreboardConfiguration.defaults(), metrics), metrics);
+
+        final long matchId = scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+        final long finishedMatchId = scoreboard.startMatchAsLong("ESP", "BRA", MATCH_DATE);
+        scoreboard.updateScore(matchId, 1, 0);
+        scoreboard.finishMatch(finishedMatchId);
+        assertThrows(MatchNotFoundException.class, () -> scoreboard.updateScore(42L, 1, 0));
+
+        final ScoreboardMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.operationLatencies().get(ScoreboardOperation.START_MATCH).count());
+        assertEquals(2, snapshot.operationLatencies().get(ScoreboardOperation.UPDATE_SCORE).count());
+        assertEquals(0, snapshot.operationLatencies().get(ScoreboardOperation.GET_MATCH).count());
+        assertEquals(5, snapshot.writeLockWait().count());
+        assertEquals(5, snapshot.writeLockHold().count());
+        assertEquals(1, snapshot.liveMatches());
+        assertEquals(1, snapshot.finishedMatches());
+        assertEquals(0, snapshot.lockQueueLength());
+        assertEquals(Map.of("MatchNotFoundException", 1L), snapshot.exceptionCounts());
+    }
+
+    @Test
+    public void shouldExposeMetricsWhenMBeanIsRegistered() throws Exception {
+        final ScoreboardMetrics metrics = new ScoreboardMetrics();
+        final Scoreboard scoreboard = new MeteredScoreboard(
+                new ScoreboardImpl(ScoreboardConfiguration.defaults(), metrics), metrics);
+        scoreboard.startMatchAsLong("MEX", "CAN", MATCH_DATE);
+
+        final ObjectName objectName = metrics.registerMBean("metered-scoreboard-test");
+        try {
+            assertEquals(1, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "LiveMatches"));
+            assertTrue(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "WriteLockHoldP99Nanos")
+                    instanceof Long);
+        } finally {
+            metrics.unregisterMBean(objectName);
+        }
+    }
+}
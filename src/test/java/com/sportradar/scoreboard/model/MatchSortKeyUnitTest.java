@@ -0,0 +1,67 @@
+package com.sportradar.scoreboard.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatchSortKeyUnitTest {
+    private static final LocalDateTime MATCH_DATE = LocalDateTime.of(2022, Month.JULY, 15, 19, 30, 40);
+
+    @Test
+    public void shouldOrderByTotalScoreThenStartDateThenIdWhenKeysAreCompared() {
+        final Match highestScore = match(1, 3, 3, MATCH_DATE);
+        final Match laterStarted = match(2, 4, 0, MATCH_DATE.plusNanos(1));
+        final Match laterCreated = match(4, 2, 2, MATCH_DATE);
+        final Match earlierCreated = match(3, 0, 4, MATCH_DATE);
+        final Match lowestScore = match(5, 0, 0, MATCH_DATE.plusYears(1));
+
+        final List<Long> sortedIds = Stream.of(lowestScore, earlierCreated, highestScore, laterCreated, laterStarted)
+                .sorted((first, second) -> first.compoundSortKey().compareTo(second.compoundSortKey()))
+                .map(Match::id)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(1L, 2L, 4L, 3L, 5L), sortedIds);
+        assertEquals(sortedIds, Stream.of(lowestScore, earlierCreated, highestScore, laterCreated, laterStarted)
+                .sorted(MatchSortKey.MATCH_ORDER)
+                .map(Match::id)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldKeepStartDateOrderWhenDatesAreFarFromEpoch() {
+        final MatchSortKey ancient = match(1, 0, 0, LocalDateTime.of(1500, Month.JANUARY, 1, 0, 0)).compoundSortKey();
+        final MatchSortKey modern = match(2, 0, 0, MATCH_DATE).compoundSortKey();
+        final MatchSortKey future = match(3, 0, 0, LocalDateTime.of(3000, Month.JANUARY, 1, 0, 0)).compoundSortKey();
+
+        assertTrue(future.compareTo(modern) < 0);
+        assertTrue(modern.compareTo(ancient) < 0);
+    }
+
+    @Test
+    public void shouldNotEqualWhenIdsDifferOnlyAboveLow32Bits() {
+        final MatchSortKey first = match(1, 0, 0, MATCH_DATE).compoundSortKey();
+        final MatchSortKey second = match(1 + (1L << 32), 0, 0, MATCH_DATE).compoundSortKey();
+
+        assertNotEquals(first, second);
+        assertTrue(second.compareTo(first) < 0);
+    }
+
+    @Test
+    public void shouldReturnTotalScoreWhenKeyIsPacked() {
+        assertEquals(7, match(1, 5, 2, MATCH_DATE).compoundSortKey().totalScore());
+        assertEquals(MatchSortKey.MAX_ORDERED_TOTAL_SCORE,
+                match(1, Integer.MAX_VALUE, Integer.MAX_VALUE, MATCH_DATE).compoundSortKey().totalScore());
+    }
+
+    private static Match match(long id, int homeScore, int awayScore, LocalDateTime startDate) {
+        return new Match(id, new Score("Spain", homeScore), new Score("Mexico", awayScore), startDate, false);
+    }
+}